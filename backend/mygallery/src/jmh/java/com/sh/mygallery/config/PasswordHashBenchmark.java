@@ -0,0 +1,56 @@
+package com.sh.mygallery.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 한 건의 비밀번호 확인(BCrypt) 비용을 강도별로 측정하는 JMH 벤치마크
+ *
+ * <p>strength의 첫 값은 운영 설정(security.password-hash.bcrypt-strength)의 기본값과 같으며,
+ * 강도를 올리기 전에 비용을 비교할 수 있도록 더 높은 강도도 함께 측정한다.
+ * 측정값 × 동시 로그인 수 / passwordHashExecutor 스레드 수가 로그인 대기 시간의 하한이 된다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class PasswordHashBenchmark {
+    private static final String PASSWORD = "benchmark-password-1234";
+
+    @Param({"10", "11", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+}
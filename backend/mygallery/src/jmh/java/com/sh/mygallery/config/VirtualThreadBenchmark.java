@@ -0,0 +1,135 @@
+package com.sh.mygallery.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 클라이언트 1,000명이 DB 대기가 대부분인 요청을 한 번씩 보낼 때의 처리 시간을 실행 방식별로 비교하는 JMH 벤치마크
+ *
+ * <ul>
+ *   <li>platformPool: Tomcat 기본값과 같은 200개 플랫폼 스레드 풀</li>
+ *   <li>virtual: 요청마다 가상 스레드</li>
+ *   <li>virtualPinned: 가상 스레드 + synchronized 안에서 대기 (MySQL Connector/J 8.x처럼 캐리어 스레드가 고정되는 경우)</li>
+ *   <li>virtualBounded: 가상 스레드 + 커넥션 풀 크기만큼의 세마포어 (ConcurrencyLimitedDataSource와 같은 방식)</li>
+ * </ul>
+ * 요청 한 건은 ioMillis 동안 블로킹 대기(DB/Redis 응답 대기)하는 것으로 모사한다.
+ * 한 번의 측정은 1,000건이 모두 끝날 때까지의 시간이므로 값이 작을수록 처리량이 높다.
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class VirtualThreadBenchmark {
+    // Tomcat 기본 최대 스레드 수
+    private static final int TOMCAT_MAX_THREADS = 200;
+    // HikariCP 기본 최대 커넥션 수
+    private static final int CONNECTION_POOL_SIZE = 10;
+
+    @Param("1000")
+    private int clients;
+
+    // 요청 한 건의 블로킹 대기 시간(ms)
+    @Param({"10", "50"})
+    private int ioMillis;
+
+    private ExecutorService platformPool;
+    private ExecutorService virtualExecutor;
+
+    // 캐리어 스레드 고정을 일으킬 모니터 (요청마다 다른 객체를 사용해 경합이 아닌 고정만 측정)
+    private Object[] monitors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        platformPool = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        monitors = new Object[clients];
+        for (int i = 0; i < clients; i++) {
+            monitors[i] = new Object();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformPool.shutdownNow();
+        virtualExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int platformPool() throws Exception {
+        return runAll(platformPool, index -> blockingIo());
+    }
+
+    @Benchmark
+    public int virtual() throws Exception {
+        return runAll(virtualExecutor, index -> blockingIo());
+    }
+
+    @Benchmark
+    public int virtualPinned() throws Exception {
+        return runAll(virtualExecutor, index -> {
+            synchronized (monitors[index]) {
+                blockingIo();
+            }
+        });
+    }
+
+    @Benchmark
+    public int virtualBounded() throws Exception {
+        Semaphore connections = new Semaphore(CONNECTION_POOL_SIZE, true);
+        return runAll(virtualExecutor, index -> {
+            connections.acquire();
+            try {
+                blockingIo();
+            } finally {
+                connections.release();
+            }
+        });
+    }
+
+    // 클라이언트 수만큼 요청을 동시에 제출하고 모두 끝날 때까지 대기
+    private int runAll(ExecutorService executor, Request request) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                request.handle(index);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    private void blockingIo() throws InterruptedException {
+        Thread.sleep(ioMillis);
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void handle(int index) throws Exception;
+    }
+}
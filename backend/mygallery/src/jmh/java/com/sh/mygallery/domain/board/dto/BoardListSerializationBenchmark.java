@@ -0,0 +1,60 @@
+package com.sh.mygallery.domain.board.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답(CursorPage&lt;BoardSummary&gt;)의 JSON 직렬화 비용을 페이지 크기별로 측정하는 JMH 벤치마크
+ *
+ * <p>ObjectMapper는 Spring Boot가 HTTP 응답에 사용하는 것과 같은 기본 설정(Jackson2ObjectMapperBuilder)으로 만든다.
+ * -prof gc와 함께 실행하면 페이지당 할당량도 비교할 수 있다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardListSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private BoardDTO.CursorPage<BoardDTO.BoardSummary> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.of(2026, 10, 18, 12, 0);
+        List<BoardDTO.BoardSummary> items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            BoardDTO.BoardSummary summary = new BoardDTO.BoardSummary((long) i, "게시글 제목 " + i, "작성자" + (i % 50), i * 7, i % 5, now.minusMinutes(i));
+            // 실제 목록처럼 대부분의 게시글에 대표 이미지가 있도록 구성
+            if (i % 5 != 0) {
+                summary.applyImages("/api/images/" + (i * 3) + "/thumbnail", 3);
+            }
+            items.add(summary);
+        }
+        page = new BoardDTO.CursorPage<>(items, "eyJjcmVhdGVkQXQiOiIyMDI2LTEwLTE4VDEyOjAwIiwiaWQiOjEwMDB9", true);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,93 @@
+package com.sh.mygallery.domain.refreshtoken.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * refreshToken 저장소 작업(발급, 교체, 폐기)의 비용을 측정하는 JMH 벤치마크
+ *
+ * <p>운영과 같은 Lua 스크립트를 실행하기 위해 벤치마크 프로세스가 내장 Redis를 로컬 포트에 띄운다.
+ * 네트워크 왕복이 루프백뿐이므로 측정값은 스크립트 실행과 클라이언트(Lettuce) 비용의 하한으로 본다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class RefreshTokenRepositoryBenchmark {
+    private static final String USER_ID = "user@example.com";
+    // 반복 발급되는 토큰은 측정 중 Redis 메모리가 계속 늘지 않도록 짧게 보관
+    private static final Duration TTL = Duration.ofSeconds(10);
+    // 운영 기본값과 같은 교체 직후 유예 시간 (유예 키 작성 비용 포함)
+    private static final Duration REUSE_GRACE = Duration.ofSeconds(10);
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RefreshTokenRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        repository = new RefreshTokenRepository(new StringRedisTemplate(connectionFactory));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Benchmark
+    public void issue() {
+        repository.issue(UUID.randomUUID().toString(), USER_ID, TTL);
+    }
+
+    // 토큰 재발급 한 번: 새 세션 발급 후 교체
+    @Benchmark
+    public RefreshTokenRepository.Rotation issueAndRotate() {
+        String jti = UUID.randomUUID().toString();
+        repository.issue(jti, USER_ID, TTL);
+        return repository.rotate(jti, UUID.randomUUID().toString(), USER_ID, TTL, REUSE_GRACE);
+    }
+
+    // 로그아웃 한 번: 새 세션 발급 후 폐기
+    @Benchmark
+    public boolean issueAndRevoke() {
+        String jti = UUID.randomUUID().toString();
+        repository.issue(jti, USER_ID, TTL);
+        return repository.revoke(jti);
+    }
+
+    // 사용 중이지 않은 로컬 포트 조회
+    private int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
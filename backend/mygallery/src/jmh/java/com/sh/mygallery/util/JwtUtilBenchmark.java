@@ -0,0 +1,123 @@
+package com.sh.mygallery.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급과 요청 한 건의 인증(토큰 검증 + 사용자 추출) 비용을 측정하는 JMH 벤치마크
+ *
+ * <ul>
+ *   <li>create*: 로그인/토큰 재발급 시의 accessToken, refreshToken 생성</li>
+ *   <li>legacy*: 호출마다 파서를 새로 만들고 검증과 subject 추출에서 서명을 두 번 계산하던 기존 방식</li>
+ *   <li>verify*: 재사용 파서로 한 번에 검증과 claim 추출을 하는 현재 방식</li>
+ * </ul>
+ * gc 프로파일러(-prof gc)와 함께 실행하면 요청당 할당량도 비교할 수 있다.
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class JwtUtilBenchmark {
+    // HS256에 필요한 최소 길이(32byte) 이상의 테스트용 비밀키
+    private static final String SECRET = "benchmark-secret-key-for-jwt-util-0123456789";
+
+    private JwtUtil jwtUtil;
+    private SecretKey secretKey;
+
+    private String validToken;
+    private String forgedToken;
+    private String malformedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        validToken = jwtUtil.createAccessToken("user@example.com");
+        // 서명 부분만 바꾼 위조 토큰
+        forgedToken = validToken.substring(0, validToken.lastIndexOf('.') + 1) + "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
+        // Authorization 헤더에 토큰이 아닌 값이 들어온 경우
+        malformedToken = "not-a-jwt";
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken("user@example.com");
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtUtil.createRefreshToken("user@example.com", UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public void legacyValidToken(Blackhole blackhole) {
+        blackhole.consume(legacyValidate(validToken));
+        blackhole.consume(legacyGetEmail(validToken));
+    }
+
+    @Benchmark
+    public void verifyValidToken(Blackhole blackhole) {
+        JwtUtil.JwtVerification verification = jwtUtil.verify(validToken);
+        blackhole.consume(verification.isValid());
+        blackhole.consume(verification.getSubject());
+    }
+
+    @Benchmark
+    public void legacyForgedToken(Blackhole blackhole) {
+        blackhole.consume(legacyValidate(forgedToken));
+    }
+
+    @Benchmark
+    public void verifyForgedToken(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.verify(forgedToken).isValid());
+    }
+
+    @Benchmark
+    public void legacyMalformedToken(Blackhole blackhole) {
+        blackhole.consume(legacyValidate(malformedToken));
+    }
+
+    @Benchmark
+    public void verifyMalformedToken(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.verify(malformedToken).isValid());
+    }
+
+    // 기존 JwtUtil.validateAccessToken 구현
+    private boolean legacyValidate(String token) {
+        try {
+            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 기존 JwtUtil.getEmailFromToken 구현
+    private String legacyGetEmail(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+            return claims.getSubject();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.sh.mygallery.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 사용자, 게시글, 이미지 데이터를 DB에 채우는 객체
+ *
+ * <p>API로 만들면 사용자마다 BCrypt 계산이 필요하므로 JDBC 배치 INSERT로 직접 넣는다.
+ * 모든 사용자는 같은 비밀번호({@value #PASSWORD})를 사용하며 해시는 한 번만 계산한다.
+ * 사용자 ID는 1부터 users까지, 게시글 ID는 1부터 boards까지 순서대로 생성된다. (빈 DB 기준)</p>
+ *
+ * <p>이미지는 목록 API가 읽는 메타데이터(board_images, image_blobs)만 만들고 실제 파일은 만들지 않는다.
+ * 같은 사진이 여러 게시글에 올라오는 상황을 흉내 내기 위해 정해진 수의 내용 해시를 돌려 쓴다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class DataSeeder {
+    public static final String PASSWORD = "loadtest-password";
+    // 이메일 형식: user{번호}@loadtest.local
+    private static final String EMAIL_FORMAT = "user%d@loadtest.local";
+    // 서로 다른 이미지 내용 수
+    private static final int DISTINCT_IMAGES = 500;
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (username, password, email, role, account_non_locked, login_type, created_at, updated_at) " +
+            "VALUES (?, ?, ?, 'ROLE_USER', TRUE, FALSE, ?, ?)";
+    private static final String INSERT_BOARD_SQL =
+            "INSERT INTO boards (title, content, user_id, view_count, comment_count, created_at, updated_at) VALUES (?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_BLOB_SQL =
+            "INSERT INTO image_blobs (content_hash, file_path, file_size, content_type, ref_count, created_at) " +
+            "VALUES (?, ?, ?, 'image/jpeg', ?, ?)";
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO board_images (origin_name, saved_name, image_url, file_size, content_hash, content_type, derivatives_ready, board_id) " +
+            "VALUES (?, ?, ?, ?, ?, 'image/jpeg', TRUE, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Random random;
+
+    public DataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.random = new Random(seed);
+    }
+
+    public static String email(int userId) {
+        return String.format(EMAIL_FORMAT, userId);
+    }
+
+    /**
+     * 사용자, 게시글, 이미지 데이터를 생성하는 메서드
+     *
+     * @param users 사용자 수
+     * @param boards 게시글 수
+     * @param imagesPerBoard 게시글당 이미지 수
+     */
+    public void seed(int users, int boards, int imagesPerBoard) {
+        LocalDateTime now = LocalDateTime.now();
+        seedUsers(users, now);
+        seedBoards(users, boards, now);
+        if (imagesPerBoard > 0) {
+            seedImages(boards, imagesPerBoard, now);
+        }
+    }
+
+    private void seedUsers(int users, LocalDateTime now) {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        Timestamp createdAt = Timestamp.valueOf(now.minusDays(30));
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int userId = 1; userId <= users; userId++) {
+            rows.add(new Object[]{"user" + userId, encodedPassword, email(userId), createdAt, createdAt});
+            flushIfFull(INSERT_USER_SQL, rows);
+        }
+        flush(INSERT_USER_SQL, rows);
+    }
+
+    // 게시글은 최근 것일수록 ID가 크도록 오래된 것부터 생성하고, 작성자는 일부 사용자에게 몰리도록 분포
+    private void seedBoards(int users, int boards, LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int boardId = 1; boardId <= boards; boardId++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(boards - boardId));
+            rows.add(new Object[]{"게시글 " + boardId, "부하 테스트용 게시글 내용 " + boardId, skewedUserId(users),
+                    random.nextInt(1000), createdAt, createdAt});
+            flushIfFull(INSERT_BOARD_SQL, rows);
+        }
+        flush(INSERT_BOARD_SQL, rows);
+    }
+
+    private void seedImages(int boards, int imagesPerBoard, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        int distinctImages = Math.min(DISTINCT_IMAGES, boards * imagesPerBoard);
+        String[] hashes = new String[distinctImages];
+        long[] sizes = new long[distinctImages];
+        int[] refCounts = new int[distinctImages];
+
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        byte[] hashBytes = new byte[32];
+        for (int i = 0; i < distinctImages; i++) {
+            random.nextBytes(hashBytes);
+            hashes[i] = HexFormat.of().formatHex(hashBytes);
+            sizes[i] = 200_000 + random.nextInt(3_000_000);
+        }
+        for (int boardId = 1; boardId <= boards; boardId++) {
+            for (int i = 0; i < imagesPerBoard; i++) {
+                int image = random.nextInt(distinctImages);
+                refCounts[image]++;
+                rows.add(new Object[]{"photo" + i + ".jpg", hashes[image], blobPath(hashes[image]), sizes[image],
+                        hashes[image], boardId});
+                flushIfFull(INSERT_IMAGE_SQL, rows);
+            }
+        }
+        flush(INSERT_IMAGE_SQL, rows);
+
+        for (int i = 0; i < distinctImages; i++) {
+            if (refCounts[i] > 0) {
+                rows.add(new Object[]{hashes[i], blobPath(hashes[i]), sizes[i], refCounts[i], createdAt});
+                flushIfFull(INSERT_BLOB_SQL, rows);
+            }
+        }
+        flush(INSERT_BLOB_SQL, rows);
+    }
+
+    // 작성자의 절반 정도가 상위 10% 사용자에게 몰리도록 선택
+    private int skewedUserId(int users) {
+        int activeUsers = Math.max(1, users / 10);
+        return random.nextBoolean() ? random.nextInt(activeUsers) + 1 : random.nextInt(users) + 1;
+    }
+
+    // ImageBlobStore와 같은 해시 기반 경로 (uploads/앞2자리/다음2자리/해시)
+    private String blobPath(String hash) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+
+    private void flushIfFull(String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH_SIZE) {
+            flush(sql, rows);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
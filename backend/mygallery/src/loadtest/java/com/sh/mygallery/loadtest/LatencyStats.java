@@ -0,0 +1,68 @@
+package com.sh.mygallery.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 하나의 응답 시간 분포와 실패 수를 집계하는 객체
+ *
+ * <p>HdrHistogram으로 1µs ~ 1분 범위를 유효숫자 3자리 정밀도로 기록하므로
+ * p999처럼 꼬리 구간의 백분위수도 표본을 버리지 않고 계산한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class LatencyStats {
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    // 2xx가 아닌 응답 또는 연결 실패 수
+    private final LongAdder errors = new LongAdder();
+    // 응답 코드별 수 (오류 원인 확인용)
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 한 건의 결과를 기록하는 메서드
+     *
+     * @param elapsedNanos 응답 시간(ns)
+     * @param status HTTP 응답 코드 (연결 실패 시 0)
+     */
+    public void record(long elapsedNanos, int status) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (status < 200 || status >= 300) {
+            errors.increment();
+        }
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    // 백분위수 응답 시간(ms)
+    public double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double maxMillis() {
+        return histogram.getMaxValue() / 1000.0;
+    }
+
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        statusCounts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue().sum()));
+        return result;
+    }
+}
@@ -0,0 +1,197 @@
+package com.sh.mygallery.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 정해진 수의 가상 사용자가 작업 비중에 따라 API를 반복 호출하는 부하 생성기
+ *
+ * <p>가상 사용자마다 가상 스레드 하나가 응답을 받은 뒤 바로 다음 요청을 보내는 closed-loop 방식이다.
+ * 서버가 느려지면 요청 수도 함께 줄어드므로, 처리량이 아닌 응답 시간을 볼 때는 같은 동시성끼리 비교한다.
+ * 예열 시간 동안의 요청은 집계하지 않는다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class LoadGenerator {
+    private static final String REFRESH_TOKEN_COOKIE = "refreshToken";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // 목록 조회 시 이전 응답의 커서로 다음 페이지를 조회할 확률(%)
+    private static final int NEXT_PAGE_PERCENT = 30;
+
+    private final LoadTestOptions options;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, LatencyStats> stats = new EnumMap<>(Operation.class);
+    // 비중만큼 작업을 채운 표 (무작위 인덱스로 작업 선택)
+    private final List<Operation> schedule = new ArrayList<>();
+
+    public LoadGenerator(LoadTestOptions options, String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new LatencyStats());
+        }
+        options.getMix().forEach((operation, weight) -> schedule.addAll(Collections.nCopies(weight, operation)));
+    }
+
+    /**
+     * 예열 후 측정 시간 동안 부하를 주고 작업별 결과를 반환하는 메서드
+     *
+     * @return 작업별 응답 시간 집계
+     */
+    public Map<Operation, LatencyStats> run() {
+        long measureStart = System.nanoTime() + options.getWarmup().toNanos();
+        long end = measureStart + options.getDuration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.getConcurrency(); i++) {
+                VirtualUser user = new VirtualUser(i);
+                executor.submit(() -> user.run(measureStart, end));
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 로그인 상태(토큰, 목록 커서)를 가지고 요청을 반복하는 가상 사용자
+     */
+    private final class VirtualUser {
+        private final Random random;
+        private final String email;
+
+        private String accessToken;
+        private String refreshToken;
+        private String nextCursor;
+
+        private VirtualUser(int index) {
+            // 같은 시드면 가상 사용자별 요청 순서가 같도록 시드를 나눔
+            this.random = new Random(options.getSeed() + index);
+            this.email = DataSeeder.email(index % options.getUsers() + 1);
+        }
+
+        private void run(long measureStart, long end) {
+            while (System.nanoTime() < end) {
+                Operation operation = schedule.get(random.nextInt(schedule.size()));
+                // 토큰이 없으면 다른 작업 전에 먼저 로그인
+                if (accessToken == null) {
+                    operation = Operation.LOGIN;
+                }
+                long startedAt = System.nanoTime();
+                int status = execute(operation);
+                if (startedAt >= measureStart) {
+                    stats.get(operation).record(System.nanoTime() - startedAt, status);
+                }
+            }
+        }
+
+        private int execute(Operation operation) {
+            try {
+                return switch (operation) {
+                    case LOGIN -> login();
+                    case REFRESH -> refresh();
+                    case BOARDS -> boards();
+                    case USER_BOARDS -> userBoards();
+                };
+            } catch (IOException e) {
+                return 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+        }
+
+        private int login() throws IOException, InterruptedException {
+            String body = objectMapper.writeValueAsString(Map.of("username", email, "password", DataSeeder.PASSWORD));
+            HttpResponse<String> response = send(request("/users/login")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            if (response.statusCode() == 200) {
+                accessToken = objectMapper.readTree(response.body()).path("accessToken").asText(null);
+                refreshToken = refreshTokenCookie(response);
+            }
+            return response.statusCode();
+        }
+
+        private int refresh() throws IOException, InterruptedException {
+            if (refreshToken == null) {
+                return login();
+            }
+            HttpResponse<String> response = send(request("/users/refresh")
+                    .header("Cookie", REFRESH_TOKEN_COOKIE + "=" + refreshToken)
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+            if (response.statusCode() == 200) {
+                accessToken = objectMapper.readTree(response.body()).path("accessToken").asText(null);
+                refreshToken = refreshTokenCookie(response);
+            } else if (response.statusCode() == 401) {
+                // 교체된 토큰을 다시 쓰지 않도록 다음 작업에서 새로 로그인
+                accessToken = null;
+                refreshToken = null;
+            }
+            return response.statusCode();
+        }
+
+        private int boards() throws IOException, InterruptedException {
+            String path = "/api/boards?size=" + options.getPageSize();
+            if (nextCursor != null && random.nextInt(100) < NEXT_PAGE_PERCENT) {
+                path += "&cursor=" + URLEncoder.encode(nextCursor, StandardCharsets.UTF_8);
+            }
+            HttpResponse<String> response = send(authorized(request(path)).GET());
+            if (response.statusCode() == 200) {
+                JsonNode cursor = objectMapper.readTree(response.body()).path("nextCursor");
+                nextCursor = cursor.isTextual() ? cursor.asText() : null;
+            }
+            return response.statusCode();
+        }
+
+        private int userBoards() throws IOException, InterruptedException {
+            int userId = random.nextInt(options.getUsers()) + 1;
+            return send(authorized(request("/api/boards/user/" + userId)).GET()).statusCode();
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        }
+
+        private HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+            return accessToken != null ? builder.header("Authorization", "Bearer " + accessToken) : builder;
+        }
+
+        private HttpResponse<String> send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+            return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        }
+
+        // Set-Cookie 헤더에서 refreshToken 값 추출 (Secure 쿠키라 CookieManager가 http 요청에 보내주지 않으므로 직접 관리)
+        private String refreshTokenCookie(HttpResponse<String> response) {
+            for (String header : response.headers().allValues("Set-Cookie")) {
+                if (header.startsWith(REFRESH_TOKEN_COOKIE + "=")) {
+                    int end = header.indexOf(';');
+                    String value = header.substring(REFRESH_TOKEN_COOKIE.length() + 1, end < 0 ? header.length() : end);
+                    return value.isEmpty() ? null : value;
+                }
+            }
+            return refreshToken;
+        }
+    }
+}
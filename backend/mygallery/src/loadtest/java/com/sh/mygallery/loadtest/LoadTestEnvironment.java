@@ -0,0 +1,118 @@
+package com.sh.mygallery.loadtest;
+
+import com.sh.mygallery.MyGalleryApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 대상 서버와 의존 서비스를 한 프로세스 안에서 실행하는 환경
+ *
+ * <ul>
+ *   <li>MySQL 대신 MySQL 호환 모드의 H2 인메모리 DB (스키마는 엔티티로 생성 + loadtest-schema.sql)</li>
+ *   <li>Redis Sentinel 대신 로컬 포트의 내장 Redis 한 대</li>
+ *   <li>애플리케이션은 임의의 빈 포트로 실행</li>
+ * </ul>
+ * 실제 MySQL/Redis와 절대 성능은 다르므로 같은 환경에서 변경 전후를 비교하는 용도로 사용한다.
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class LoadTestEnvironment implements AutoCloseable {
+    private static final String JWT_SECRET = "loadtest-secret-key-for-jwt-signature-0123456789";
+
+    private final RedisServer redisServer;
+    private final ConfigurableApplicationContext context;
+    private final Path storageDir;
+
+    private LoadTestEnvironment(RedisServer redisServer, ConfigurableApplicationContext context, Path storageDir) {
+        this.redisServer = redisServer;
+        this.context = context;
+        this.storageDir = storageDir;
+    }
+
+    /**
+     * 내장 Redis와 애플리케이션을 실행하는 메서드
+     *
+     * @return 실행된 환경 (close로 종료)
+     * @throws IOException 내장 Redis 실행 또는 임시 디렉토리 생성에 실패한 경우
+     */
+    public static LoadTestEnvironment start() throws IOException {
+        int redisPort = freePort();
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        Path storageDir = Files.createTempDirectory("mygallery-loadtest");
+        try {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(MyGalleryApplication.class)
+                    .properties(properties(redisPort, storageDir))
+                    .run();
+            return new LoadTestEnvironment(redisServer, context, storageDir);
+        } catch (RuntimeException e) {
+            redisServer.stop();
+            throw e;
+        }
+    }
+
+    private static Map<String, Object> properties(int redisPort, Path storageDir) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("management.server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:mygallery;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        // 엔티티가 없는 테이블은 Hibernate가 스키마를 만든 뒤 SQL 스크립트로 생성
+        properties.put("spring.jpa.defer-datasource-initialization", true);
+        properties.put("spring.sql.init.mode", "always");
+        properties.put("spring.sql.init.schema-locations", "classpath:loadtest-schema.sql");
+        properties.put("spring.data.redis.host", "localhost");
+        properties.put("spring.data.redis.port", redisPort);
+        properties.put("jwt.signature.secretkey", JWT_SECRET);
+        properties.put("image.storage.dir", storageDir.toString());
+        properties.put("search.index.dir", storageDir.resolve("search-index").toString());
+        // 모든 가상 사용자가 같은 IP에서 요청하므로 요청 제한을 끄고 서버 처리량을 측정
+        properties.put("rate-limit.enabled", false);
+        // 측정 중 콘솔이 로그로 가득 차지 않도록 경고 이상만 출력
+        properties.put("logging.level.root", "WARN");
+        return properties;
+    }
+
+    // 사용 중이지 않은 로컬 포트 조회
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    public ConfigurableApplicationContext getContext() {
+        return context;
+    }
+
+    // 애플리케이션이 요청을 받는 주소
+    public String getBaseUrl() {
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            context.close();
+        } finally {
+            redisServer.stop();
+            try (var files = Files.walk(storageDir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.sh.mygallery.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션
+ *
+ * <p>명령행 인자는 --이름=값 형식이며 지정하지 않은 옵션은 기본값을 사용한다.</p>
+ * <ul>
+ *   <li>--users : 생성할 사용자 수 (기본 1000)</li>
+ *   <li>--boards : 생성할 게시글 수 (기본 10000)</li>
+ *   <li>--images-per-board : 게시글당 이미지 수 (기본 3)</li>
+ *   <li>--concurrency : 동시에 요청을 보내는 가상 사용자 수 (기본 100)</li>
+ *   <li>--warmup : 측정 전 예열 시간 (기본 10s)</li>
+ *   <li>--duration : 측정 시간 (기본 60s)</li>
+ *   <li>--mix : 작업별 비중 (기본 login:5,refresh:10,boards:65,user-boards:20)</li>
+ *   <li>--page-size : 게시글 목록 한 페이지 크기 (기본 20)</li>
+ *   <li>--seed : 데이터 생성과 작업 선택에 사용하는 난수 시드 (기본 42, 같은 시드면 같은 데이터와 요청 순서)</li>
+ *   <li>--output : 결과를 JSON으로 저장할 파일 경로 (생략하면 콘솔 출력만)</li>
+ * </ul>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public final class LoadTestOptions {
+    private static final String DEFAULT_MIX = "login:5,refresh:10,boards:65,user-boards:20";
+
+    private final int users;
+    private final int boards;
+    private final int imagesPerBoard;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Operation, Integer> mix;
+    private final int pageSize;
+    private final long seed;
+    private final String output;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.users = positive(values, "users", 1000);
+        this.boards = positive(values, "boards", 10000);
+        this.imagesPerBoard = Integer.parseInt(values.getOrDefault("images-per-board", "3"));
+        this.concurrency = positive(values, "concurrency", 100);
+        this.warmup = parseDuration(values.getOrDefault("warmup", "10s"));
+        this.duration = parseDuration(values.getOrDefault("duration", "60s"));
+        this.mix = parseMix(values.getOrDefault("mix", DEFAULT_MIX));
+        this.pageSize = positive(values, "page-size", 20);
+        this.seed = Long.parseLong(values.getOrDefault("seed", "42"));
+        this.output = values.get("output");
+    }
+
+    /**
+     * 명령행 인자를 옵션으로 변환하는 메서드
+     *
+     * @param args --이름=값 형식의 인자
+     * @return 실행 옵션
+     * @throws IllegalArgumentException 형식이 잘못되었거나 알 수 없는 옵션인 경우
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    private static int positive(Map<String, String> values, String name, int defaultValue) {
+        int value = Integer.parseInt(values.getOrDefault(name, Integer.toString(defaultValue)));
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + "는 1 이상이어야 합니다.");
+        }
+        return value;
+    }
+
+    // 10s, 2m, 500ms 형식의 시간
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        throw new IllegalArgumentException("시간은 500ms, 10s, 2m 형식이어야 합니다: " + value);
+    }
+
+    // login:5,boards:95 형식의 작업별 비중
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("--mix는 작업:비중 목록이어야 합니다: " + value);
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                mix.put(Operation.fromOptionName(parts[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix에 비중이 1 이상인 작업이 하나 이상 있어야 합니다.");
+        }
+        return mix;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getBoards() {
+        return boards;
+    }
+
+    public int getImagesPerBoard() {
+        return imagesPerBoard;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", boards=" + boards + ", imagesPerBoard=" + imagesPerBoard
+                + ", concurrency=" + concurrency + ", warmup=" + warmup.toSeconds() + "s"
+                + ", duration=" + duration.toSeconds() + "s, mix=" + mix + ", pageSize=" + pageSize + ", seed=" + seed;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sh.mygallery.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 진입점
+ *
+ * <p>내장 DB/Redis로 애플리케이션을 띄우고, 사용자/게시글/이미지를 채운 뒤,
+ * 로그인, 토큰 재발급, 게시글 목록, 사용자별 게시글 조회를 섞어 부하를 주고
+ * 작업별 처리량과 p50/p99/p999 응답 시간을 출력한다.</p>
+ *
+ * <pre>
+ * ./gradlew loadTest --args="--users=1000 --boards=20000 --concurrency=200 --duration=60s --output=build/results/loadtest.json"
+ * </pre>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.println("부하 테스트 옵션: " + options);
+
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start()) {
+            long seedStartedAt = System.nanoTime();
+            new DataSeeder(environment.getContext().getBean(JdbcTemplate.class),
+                    environment.getContext().getBean(PasswordEncoder.class), options.getSeed())
+                    .seed(options.getUsers(), options.getBoards(), options.getImagesPerBoard());
+            System.out.printf("데이터 생성 완료: %d ms%n", (System.nanoTime() - seedStartedAt) / 1_000_000);
+
+            System.out.printf("대상 서버: %s, 예열 %ds 후 %ds 측정%n", environment.getBaseUrl(),
+                    options.getWarmup().toSeconds(), options.getDuration().toSeconds());
+            Map<Operation, LatencyStats> stats = new LoadGenerator(options, environment.getBaseUrl()).run();
+
+            printReport(options, stats);
+            if (options.getOutput() != null) {
+                writeReport(options, stats, Paths.get(options.getOutput()));
+            }
+        }
+    }
+
+    private static void printReport(LoadTestOptions options, Map<Operation, LatencyStats> stats) {
+        double seconds = options.getDuration().toMillis() / 1000.0;
+        System.out.printf("%n%-12s %10s %8s %12s %10s %10s %10s %10s%n",
+                "operation", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        long total = 0;
+        for (Map.Entry<Operation, LatencyStats> entry : stats.entrySet()) {
+            LatencyStats stat = entry.getValue();
+            if (stat.getCount() == 0) {
+                continue;
+            }
+            total += stat.getCount();
+            System.out.printf("%-12s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f   %s%n",
+                    entry.getKey().getOptionName(), stat.getCount(), stat.getErrors(), stat.getCount() / seconds,
+                    stat.percentileMillis(50), stat.percentileMillis(99), stat.percentileMillis(99.9),
+                    stat.maxMillis(), stat.getStatusCounts());
+        }
+        System.out.printf("%-12s %10d %8s %12.1f%n", "total", total, "", total / seconds);
+    }
+
+    // 커밋 간 비교를 위해 옵션과 작업별 결과를 JSON으로 저장
+    private static void writeReport(LoadTestOptions options, Map<Operation, LatencyStats> stats, Path output) throws IOException {
+        double seconds = options.getDuration().toMillis() / 1000.0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((operation, stat) -> {
+            if (stat.getCount() == 0) {
+                return;
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", stat.getCount());
+            result.put("errors", stat.getErrors());
+            result.put("throughput", stat.getCount() / seconds);
+            result.put("p50Millis", stat.percentileMillis(50));
+            result.put("p99Millis", stat.percentileMillis(99));
+            result.put("p999Millis", stat.percentileMillis(99.9));
+            result.put("maxMillis", stat.maxMillis());
+            result.put("statusCounts", stat.getStatusCounts());
+            operations.put(operation.getOptionName(), result);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options.toString());
+        report.put("operations", operations);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+        System.out.println("결과 저장: " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,38 @@
+package com.sh.mygallery.loadtest;
+
+/**
+ * 부하 테스트에서 호출하는 API 종류
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public enum Operation {
+    // POST /users/login
+    LOGIN("login"),
+    // POST /users/refresh
+    REFRESH("refresh"),
+    // GET /api/boards (커서를 따라 다음 페이지도 조회)
+    BOARDS("boards"),
+    // GET /api/boards/user/{userId}
+    USER_BOARDS("user-boards");
+
+    // --mix 옵션에서 사용하는 이름
+    private final String optionName;
+
+    Operation(String optionName) {
+        this.optionName = optionName;
+    }
+
+    public String getOptionName() {
+        return optionName;
+    }
+
+    public static Operation fromOptionName(String name) {
+        for (Operation operation : values()) {
+            if (operation.optionName.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 작업입니다: " + name);
+    }
+}
@@ -0,0 +1,6 @@
+-- 엔티티로 생성되지 않는 테이블 (frontend/create.sql과 같은 구조)
+CREATE TABLE IF NOT EXISTS board_view_flushes (
+  batch_id VARCHAR(36) PRIMARY KEY,
+  flushed_at TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_board_view_flushes_flushed_at ON board_view_flushes (flushed_at);
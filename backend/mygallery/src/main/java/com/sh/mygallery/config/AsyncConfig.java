@@ -0,0 +1,70 @@
+package com.sh.mygallery.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 요청 스레드와 분리하여 실행할 백그라운드 작업용 Executor를 관리하는 객체
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 파생 이미지(썸네일 등) 생성 전용 Executor Bean 생성
+     *
+     * <p>이미지 디코딩/리사이즈는 CPU와 메모리를 많이 사용하므로 스레드 수와 대기열 크기를 모두 제한한다.
+     * 대기열이 가득 차면 작업을 호출한 스레드(요청 스레드)에서 실행하지 않고 즉시 거절하며,
+     * 거절된 작업은 주기적인 재등록 작업이 다시 처리한다.</p>
+     *
+     * @param threads 동시에 처리할 작업 수
+     * @param queueCapacity 대기열에 쌓아둘 수 있는 최대 작업 수
+     * @return 크기가 제한된 ThreadPoolTaskExecutor
+     */
+    @Bean(name = "imageDerivativeExecutor")
+    public ThreadPoolTaskExecutor imageDerivativeExecutor(@Value("${image.derivative.threads:2}") int threads,
+                                                          @Value("${image.derivative.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-derivative-");
+        // 대기열 초과 시 TaskRejectedException 발생 (CallerRunsPolicy를 쓰면 요청 스레드가 점유됨)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시(BCrypt) 계산 전용 Executor Bean 생성
+     *
+     * <p>BCrypt는 한 번에 약 100ms의 CPU를 사용하므로 요청 스레드에서 직접 계산하면
+     * 로그인 요청이 몰릴 때 Tomcat 스레드와 CPU를 모두 차지해 일반 조회 요청까지 멈춘다.
+     * 동시에 계산하는 수를 CPU 코어 수 이하로 제한하고, 대기열이 가득 차면 즉시 거절(503)한다.</p>
+     *
+     * @param threads 동시에 계산할 해시 수 (0 이하면 CPU 코어 수)
+     * @param queueCapacity 대기열에 쌓아둘 수 있는 최대 계산 수
+     * @return 크기가 제한된 ThreadPoolTaskExecutor
+     * @since 2026-10-18
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(@Value("${security.password-hash.threads:0}") int threads,
+                                                       @Value("${security.password-hash.queue-capacity:32}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        // 대기열 초과 시 TaskRejectedException 발생 → 503으로 빠르게 거절
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,47 @@
+package com.sh.mygallery.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC 배치 실행 관련 드라이버 설정을 관리하는 객체
+ *
+ * <p>MySQL Connector/J는 기본적으로 배치의 문장을 한 건씩 서버에 보내므로 배치로 묶어도 왕복 수가 줄지 않는다.
+ * rewriteBatchedStatements를 켜면 INSERT 배치를 multi-row INSERT 한 문장으로 바꿔 보내고,
+ * 생성된 AUTO_INCREMENT 키도 행 수만큼 함께 돌려준다. (BoardBulkRepository, ImageBulkRepository)</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Configuration
+@Slf4j
+public class JdbcBatchConfig {
+    private static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+    /**
+     * MySQL 커넥션 풀에 rewriteBatchedStatements를 추가하는 BeanPostProcessor Bean 생성
+     * 접속 URL에 이미 지정되어 있거나 MySQL이 아닌 DB(부하 테스트의 H2 등)는 그대로 둔다.
+     *
+     * @return 커넥션 풀이 시작되기 전에 드라이버 속성을 추가하는 BeanPostProcessor
+     */
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari
+                        && hikari.getJdbcUrl() != null
+                        && hikari.getJdbcUrl().startsWith("jdbc:mysql:")
+                        && !hikari.getJdbcUrl().contains(REWRITE_BATCHED_STATEMENTS)
+                        && !hikari.getDataSourceProperties().containsKey(REWRITE_BATCHED_STATEMENTS)) {
+                    hikari.addDataSourceProperty(REWRITE_BATCHED_STATEMENTS, "true");
+                    log.info("MySQL 배치 INSERT를 multi-row INSERT로 전송합니다. ({}=true)", REWRITE_BATCHED_STATEMENTS);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,300 @@
+package com.sh.mygallery.config;
+
+import com.sh.mygallery.domain.board.service.BoardDetailCacheService;
+import com.sh.mygallery.domain.image.service.ImageArchiveService;
+import com.sh.mygallery.filter.RateLimiter;
+import com.sh.mygallery.filter.VerifiedTokenCache;
+import com.sh.mygallery.util.BoundedPasswordEncoder;
+import com.sh.mygallery.util.ConcurrencyLimitedDataSource;
+import com.sh.mygallery.util.ReplicaLagMonitor;
+import com.sh.mygallery.util.ReplicaRoutingDataSource;
+import com.sh.mygallery.util.StatementCountInspector;
+import com.sh.mygallery.util.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션 메트릭 수집 설정을 관리하는 객체
+ *
+ * <p>Spring Boot Actuator가 기본으로 수집하는 메트릭(엔드포인트 응답 시간, HikariCP 커넥션 대기 시간, JVM) 외에
+ * 이 애플리케이션의 주요 구간을 Micrometer 메트릭으로 등록한다.
+ * 모든 메트릭은 로컬 전용 관리 포트의 /actuator/prometheus 에서 수집한다. (metrics.properties 참고)</p>
+ * <ul>
+ *   <li>@Timed가 붙은 서비스 메서드 실행 시간 (mygallery.service)</li>
+ *   <li>요청별 Hibernate SQL 수 (mygallery.hibernate.statements, RequestMetricsFilter)</li>
+ *   <li>BCrypt 계산/대기 시간과 거절 수 (mygallery.password.hash.*)</li>
+ *   <li>JWT 검증 캐시 적중률 (mygallery.jwt.cache.*)</li>
+ *   <li>게시글 상세 캐시 단계별 적중률과 DB 조회 시간 (mygallery.board.detail.cache.*)</li>
+ *   <li>요청 제한 규칙별 허용/거절 수와 거절 위치 (mygallery.ratelimit.*, RateLimitFilter)</li>
+ *   <li>백그라운드 Executor 대기열, 가상 스레드 모드의 DB 동시 접근 제한과 캐리어 스레드 고정 횟수</li>
+ *   <li>읽기·쓰기 분리 모드의 대상별 커넥션 요청 수와 복제 지연</li>
+ * </ul>
+ * Redis 명령 응답 시간은 RedisConfig의 ClientResources에서, JWT 검증 시간은 JwtRequestFilter에서 기록한다.
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    /**
+     * 서비스 클래스/메서드의 @Timed를 처리하는 Aspect Bean 생성
+     *
+     * @param meterRegistry 메트릭 저장소
+     * @return @Timed가 붙은 메서드의 실행 시간을 기록하는 Aspect
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 수를 세는 StatementInspector를 등록하는 Bean 생성
+     *
+     * @return Hibernate 설정에 StatementCountInspector를 추가하는 Customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountInspector());
+    }
+
+    /**
+     * 비밀번호 해시(BCrypt) 메트릭 등록
+     *
+     * @param passwordEncoder 해시 계산 횟수와 시간을 집계하는 PasswordEncoder
+     * @return 메트릭 등록 객체
+     */
+    @Bean
+    public MeterBinder passwordHashMetrics(BoundedPasswordEncoder passwordEncoder) {
+        return registry -> {
+            FunctionTimer.builder("mygallery.password.hash", passwordEncoder,
+                            BoundedPasswordEncoder::getHashCount, BoundedPasswordEncoder::getHashNanos, TimeUnit.NANOSECONDS)
+                    .description("BCrypt 계산 시간")
+                    .register(registry);
+            FunctionTimer.builder("mygallery.password.hash.wait", passwordEncoder,
+                            BoundedPasswordEncoder::getHashCount, BoundedPasswordEncoder::getWaitNanos, TimeUnit.NANOSECONDS)
+                    .description("BCrypt 계산 전 대기열에서 기다린 시간")
+                    .register(registry);
+            FunctionCounter.builder("mygallery.password.hash.rejected", passwordEncoder, BoundedPasswordEncoder::getRejectedCount)
+                    .description("대기열 초과 또는 시간 초과로 거절된 로그인 수")
+                    .register(registry);
+            Gauge.builder("mygallery.password.hash.queue", passwordEncoder, BoundedPasswordEncoder::getQueueDepth)
+                    .description("대기열에 쌓여 있는 BCrypt 계산 수")
+                    .register(registry);
+            Gauge.builder("mygallery.password.hash.active", passwordEncoder, BoundedPasswordEncoder::getActiveCount)
+                    .description("계산 중인 BCrypt 수")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * JWT 검증 캐시 메트릭 등록
+     *
+     * @param verifiedTokenCache 검증된 토큰 캐시
+     * @return 메트릭 등록 객체
+     */
+    @Bean
+    public MeterBinder verifiedTokenCacheMetrics(VerifiedTokenCache verifiedTokenCache) {
+        return registry -> {
+            FunctionCounter.builder("mygallery.jwt.cache.requests", verifiedTokenCache, VerifiedTokenCache::getHitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("mygallery.jwt.cache.requests", verifiedTokenCache, VerifiedTokenCache::getMissCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("mygallery.jwt.cache.evictions", verifiedTokenCache, VerifiedTokenCache::getEvictionCount)
+                    .register(registry);
+            Gauge.builder("mygallery.jwt.cache.size", verifiedTokenCache, VerifiedTokenCache::size)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 요청 제한 메트릭 등록
+     * 규칙별 허용/거절 수는 RateLimitFilter가 mygallery.ratelimit.requests로 기록한다.
+     *
+     * @param rateLimiter 토큰 버킷 요청 제한
+     * @return 메트릭 등록 객체
+     */
+    @Bean
+    public MeterBinder rateLimiterMetrics(RateLimiter rateLimiter) {
+        return registry -> {
+            FunctionCounter.builder("mygallery.ratelimit.rejected", rateLimiter, RateLimiter::getLocalRejectedCount)
+                    .description("Redis에 묻지 않고 서버 내부에서 거절한 요청 수")
+                    .tag("layer", "local")
+                    .register(registry);
+            FunctionCounter.builder("mygallery.ratelimit.rejected", rateLimiter, RateLimiter::getRedisRejectedCount)
+                    .tag("layer", "redis")
+                    .register(registry);
+            FunctionCounter.builder("mygallery.ratelimit.redis.errors", rateLimiter, RateLimiter::getRedisErrorCount)
+                    .description("Redis 오류로 서버 내부 한도만 적용한 횟수")
+                    .register(registry);
+            Gauge.builder("mygallery.ratelimit.local.buckets", rateLimiter, RateLimiter::getLocalBucketCount)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 게시글 상세 캐시 메트릭 등록
+     * 적중률은 requests의 result 태그(l1, l2, miss)별 비율로 계산한다.
+     *
+     * @param boardDetailCacheService 게시글 상세 캐시
+     * @return 메트릭 등록 객체
+     */
+    @Bean
+    public MeterBinder boardDetailCacheMetrics(BoardDetailCacheService boardDetailCacheService) {
+        return registry -> {
+            FunctionCounter.builder("mygallery.board.detail.cache.requests", boardDetailCacheService,
+                            BoardDetailCacheService::getNearHitCount)
+                    .tag("result", "l1")
+                    .register(registry);
+            FunctionCounter.builder("mygallery.board.detail.cache.requests", boardDetailCacheService,
+                            BoardDetailCacheService::getRedisHitCount)
+                    .tag("result", "l2")
+                    .register(registry);
+            FunctionCounter.builder("mygallery.board.detail.cache.requests", boardDetailCacheService,
+                            BoardDetailCacheService::getMissCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("mygallery.board.detail.cache.early.refreshes", boardDetailCacheService,
+                            BoardDetailCacheService::getEarlyRefreshCount)
+                    .description("만료 전에 미리 다시 조회한 횟수")
+                    .register(registry);
+            FunctionCounter.builder("mygallery.board.detail.cache.coalesced", boardDetailCacheService,
+                            BoardDetailCacheService::getCoalescedCount)
+                    .description("다른 요청의 DB 조회 결과를 기다린 횟수")
+                    .register(registry);
+            FunctionTimer.builder("mygallery.board.detail.cache.load", boardDetailCacheService,
+                            BoardDetailCacheService::getLoadCount, BoardDetailCacheService::getLoadNanos, TimeUnit.NANOSECONDS)
+                    .description("캐시를 채우기 위한 DB 조회 시간")
+                    .register(registry);
+            Gauge.builder("mygallery.board.detail.cache.size", boardDetailCacheService, BoardDetailCacheService::getNearSize)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 이미지 압축 파일 다운로드 메트릭 등록
+     *
+     * @param imageArchiveService 압축 파일 다운로드 서비스
+     * @return 메트릭 등록 객체
+     */
+    @Bean
+    public MeterBinder imageArchiveMetrics(ImageArchiveService imageArchiveService) {
+        return registry -> {
+            Gauge.builder("mygallery.image.archive.active", imageArchiveService, ImageArchiveService::getActiveCount)
+                    .description("현재 보내고 있는 압축 파일 수")
+                    .register(registry);
+            FunctionCounter.builder("mygallery.image.archive.rejected", imageArchiveService, ImageArchiveService::getRejectedCount)
+                    .description("동시 처리 한도를 넘어 거절한 압축 파일 요청 수")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 파생 이미지 생성 Executor 메트릭 등록
+     *
+     * @param imageDerivativeExecutor 파생 이미지 생성 Executor
+     * @return 메트릭 등록 객체
+     */
+    @Bean
+    public MeterBinder imageDerivativeExecutorMetrics(@Qualifier("imageDerivativeExecutor") ThreadPoolTaskExecutor imageDerivativeExecutor) {
+        return registry -> {
+            Gauge.builder("mygallery.image.derivative.queue", imageDerivativeExecutor,
+                            executor -> executor.getThreadPoolExecutor().getQueue().size())
+                    .description("대기열에 쌓여 있는 파생 이미지 생성 작업 수")
+                    .register(registry);
+            Gauge.builder("mygallery.image.derivative.active", imageDerivativeExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 읽기·쓰기 분리 모드에서만 생성되는 객체의 메트릭 등록 (복제본을 설정하지 않으면 아무것도 등록하지 않음)
+     *
+     * @param dataSource 애플리케이션이 사용하는 DataSource (라우팅 DataSource인 경우에만 등록)
+     * @param lagMonitor 복제 지연 확인 모니터
+     * @return 메트릭 등록 객체
+     */
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ObjectProvider<DataSource> dataSource,
+                                             ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        return registry -> {
+            if (dataSource.getIfUnique() instanceof LazyConnectionDataSourceProxy lazy
+                    && lazy.getTargetDataSource() instanceof ReplicaRoutingDataSource routing) {
+                FunctionCounter.builder("mygallery.datasource.routing", routing, ReplicaRoutingDataSource::getPrimaryCount)
+                        .description("대상별 커넥션 요청 수")
+                        .tag("target", "primary")
+                        .register(registry);
+                FunctionCounter.builder("mygallery.datasource.routing", routing, ReplicaRoutingDataSource::getReplicaCount)
+                        .description("대상별 커넥션 요청 수")
+                        .tag("target", "replica")
+                        .register(registry);
+                FunctionCounter.builder("mygallery.datasource.routing.fallback", routing, ReplicaRoutingDataSource::getLagFallbackCount)
+                        .description("primary로 보낸 읽기 요청 수")
+                        .tag("reason", "lag")
+                        .register(registry);
+                FunctionCounter.builder("mygallery.datasource.routing.fallback", routing, ReplicaRoutingDataSource::getStickyCount)
+                        .description("primary로 보낸 읽기 요청 수")
+                        .tag("reason", "recent-write")
+                        .register(registry);
+            }
+            lagMonitor.ifAvailable(monitor ->
+                    Gauge.builder("mygallery.datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                            .description("복제 지연(초), 확인하지 못했으면 -1")
+                            .baseUnit("seconds")
+                            .register(registry));
+        };
+    }
+
+    /**
+     * 가상 스레드 모드에서만 생성되는 객체의 메트릭 등록 (플랫폼 스레드 모드에서는 아무것도 등록하지 않음)
+     *
+     * @param dataSource DB 동시 접근 수가 제한된 DataSource인 경우에만 등록
+     * @param pinningMonitor 캐리어 스레드 고정 감지 모니터
+     * @return 메트릭 등록 객체
+     */
+    @Bean
+    public MeterBinder virtualThreadMetrics(ObjectProvider<DataSource> dataSource,
+                                            ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+        return registry -> {
+            // 읽기·쓰기 분리 모드에서는 primary/복제본 풀마다 제한되므로 풀 이름으로 구분
+            dataSource.orderedStream().forEach(candidate -> {
+                if (candidate instanceof ConcurrencyLimitedDataSource limited) {
+                    String pool = limited.getTargetDataSource() instanceof HikariDataSource hikari
+                            && hikari.getPoolName() != null ? hikari.getPoolName() : "default";
+                    Gauge.builder("mygallery.jdbc.virtual.waiting", limited, ConcurrencyLimitedDataSource::getWaitingCount)
+                            .description("DB 커넥션 허가를 기다리는 스레드 수")
+                            .tag("pool", pool)
+                            .register(registry);
+                    FunctionCounter.builder("mygallery.jdbc.virtual.rejected", limited, ConcurrencyLimitedDataSource::getRejectedCount)
+                            .description("시간 안에 DB 커넥션 허가를 얻지 못한 수")
+                            .tag("pool", pool)
+                            .register(registry);
+                }
+            });
+            pinningMonitor.ifAvailable(monitor ->
+                    FunctionCounter.builder("mygallery.virtual.pinned", monitor, VirtualThreadPinningMonitor::getPinnedCount)
+                            .description("가상 스레드가 캐리어 스레드에 고정된 횟수")
+                            .register(registry));
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.sh.mygallery.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * multipart 요청 처리 방식을 설정하는 객체
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Configuration
+public class MultipartConfig {
+
+    /**
+     * multipart 요청을 지연 파싱하는 MultipartResolver Bean 생성
+     *
+     * <p>기본 설정에서는 DispatcherServlet이 컨트롤러 호출 전에 request.getParts()를 호출하여
+     * 서블릿 컨테이너(Tomcat)가 요청 본문 전체를 메모리나 임시파일에 먼저 받아 둔다.
+     * 지연 파싱으로 설정하면 컨트롤러가 파트에 접근하기 전까지 본문을 읽지 않으므로,
+     * 이미지 업로드처럼 요청 스트림을 직접 읽어 저장소로 흘려보내는 경로가 버퍼링 없이 동작한다.</p>
+     *
+     * @return 지연 파싱이 설정된 StandardServletMultipartResolver
+     */
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public MultipartResolver multipartResolver() {
+        StandardServletMultipartResolver resolver = new StandardServletMultipartResolver();
+        resolver.setResolveLazily(true);
+        return resolver;
+    }
+}
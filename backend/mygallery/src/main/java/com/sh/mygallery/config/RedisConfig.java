@@ -1,13 +1,36 @@
 package com.sh.mygallery.config;
 
 
+import com.sh.mygallery.util.RedisFailoverHealthIndicator;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
 
 /**
  * 프로젝트에 적용된 redis의 설정을 전역적으로 관리하는 객체
@@ -20,13 +43,76 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 @Slf4j
 public class RedisConfig {
     // Redis Sentinel 구성을 위해 프로퍼티에서 불러오는 마스터 이름
-    @Value("${spring.data.redis.sentinel.master}")
+    @Value("${spring.data.redis.sentinel.master:}")
     private String sentinelMaster;
 
     // Sentinel 노드 목록(호스트:포트 형태의 콤마 구분 문자열)
-    @Value("${spring.data.redis.sentinel.nodes}")
+    @Value("${spring.data.redis.sentinel.nodes:}")
     private String sentinelNodes;
 
+    // Sentinel 노드가 설정되지 않은 경우(로컬 개발, 부하 테스트) 접속할 단일 Redis
+    @Value("${spring.data.redis.host:localhost}")
+    private String standaloneHost;
+
+    @Value("${spring.data.redis.port:6379}")
+    private int standalonePort;
+
+    // 명령 하나의 응답을 기다리는 최대 시간
+    @Value("${spring.data.redis.timeout:500ms}")
+    private Duration commandTimeout;
+
+    // 연결을 맺을 때까지 기다리는 최대 시간
+    @Value("${spring.data.redis.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    // 복제본 읽기용 커넥션 팩토리의 읽기 대상 (Lettuce ReadFrom 이름: replicaPreferred, replica, nearest, any, upstream 등)
+    @Value("${redis.read-from:replicaPreferred}")
+    private String readFrom;
+
+    // Lettuce I/O 스레드 수 (0이면 CPU 코어 수)
+    @Value("${redis.io-threads:0}")
+    private int ioThreads;
+
+    // 커넥션 풀 사용 여부와 크기
+    @Value("${spring.data.redis.lettuce.pool.enabled:false}")
+    private boolean poolEnabled;
+
+    @Value("${spring.data.redis.lettuce.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:16}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    // 풀에서 커넥션을 빌릴 때 기다리는 최대 시간
+    @Value("${spring.data.redis.lettuce.pool.max-wait:200ms}")
+    private Duration poolMaxWait;
+
+    /**
+     * Lettuce 클라이언트가 공유하는 리소스(I/O 스레드, 메트릭 등) Bean생성
+     * <p>RedisConnectionFactory를 직접 정의하면 Spring Boot의 Lettuce 메트릭 자동 설정이 적용되지 않으므로,
+     * Redis 명령 응답 시간(lettuce.command.completion/firstresponse)을 Micrometer에 기록하도록 직접 구성한다.
+     * 쓰기용/복제본 읽기용 커넥션 팩토리가 같은 이벤트 루프 스레드를 공유하도록 하나만 만든다.</p>
+     *
+     * @param meterRegistry 메트릭 저장소
+     * @return 명령 응답 시간을 기록하는 ClientResources
+     * @since 2026-10-18
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(MeterRegistry meterRegistry) {
+        DefaultClientResources.Builder builder = DefaultClientResources.builder()
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry,
+                        MicrometerOptions.builder().histogram(true).build()));
+        // 0이면 Lettuce 기본값(CPU 코어 수) 사용
+        if (ioThreads > 0) {
+            builder.ioThreadPoolSize(ioThreads)
+                    .computationThreadPoolSize(ioThreads);
+        }
+        return builder.build();
+    }
+
     /**
      * Redis Sentinel 기반의 RedisConnectionFactory Bean생성
      * <p>Sentinel을 사용하거나 커스텀 설정을 적용하려면 직접 Bean으로 재정의해야 함<br>
@@ -36,13 +122,93 @@ public class RedisConfig {
      *   <li>프로퍼티에서 정의된 sentinel 노드를 파싱하여 SentinelConfig에 추가한다.</li>
      *   <li>LettuceConnectionFactory를 Sentinel 기반으로 초기화하여 Redis 장애 시 자동 Failover를 지원한다.</li>
      * </ul>
+     * <p>Sentinel 노드가 설정되지 않았다면 spring.data.redis.host/port의 단일 Redis에 연결한다.
+     * 모든 명령은 master에서 실행된다. (스크립트, 쓰기, 쓰기 직후 다시 읽어야 하는 값)</p>
      *
      * @author 이세형
+     * @param lettuceClientResources 명령 응답 시간을 기록하는 Lettuce 공유 리소스
      * @return LettuceConnectionFactory 인스턴스(스프링 내 RedisTemplate 등의 비즈니스 레이어에서 사용)
      * @since 2025-12-11
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    @Primary
+    public RedisConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
+        return connectionFactory(lettuceClientResources, null);
+    }
+
+    /**
+     * 복제본에서 읽어도 되는 조회 전용 RedisConnectionFactory Bean생성
+     * <p>Sentinel 구성에서는 redis.read-from(기본 replicaPreferred)에 따라 복제본에서 읽고,
+     * 복제본이 없으면 master에서 읽는다. 단일 Redis 구성에서는 같은 Redis에 연결한다.
+     * 복제 지연만큼 오래된 값을 읽을 수 있으므로 잠시 오래된 값이어도 되는 캐시 조회에만 사용한다.</p>
+     *
+     * @param lettuceClientResources 쓰기용 커넥션 팩토리와 공유하는 Lettuce 리소스
+     * @return 조회 전용 LettuceConnectionFactory
+     * @since 2026-10-18
+     */
+    @Bean
+    public RedisConnectionFactory replicaReadRedisConnectionFactory(ClientResources lettuceClientResources) {
+        return connectionFactory(lettuceClientResources, ReadFrom.valueOf(readFrom));
+    }
+
+    /**
+     * 기본 StringRedisTemplate Bean생성 (master 사용)
+     * 복제본 읽기용 템플릿을 함께 정의하면 Spring Boot가 기본 템플릿을 만들지 않으므로 직접 정의한다.
+     *
+     * @param redisConnectionFactory master에 연결하는 커넥션 팩토리
+     * @return master에서 실행되는 StringRedisTemplate
+     * @since 2026-10-18
+     */
+    @Bean
+    @Primary
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    /**
+     * 복제본에서 조회하는 StringRedisTemplate Bean생성
+     * 복제 지연만큼 오래된 값이어도 되는 조회에서만 사용한다.
+     * 무효화 표시와 함께 쓰이는 캐시(게시글 상세)나 master에서 옮기고 지우는 값(미반영 조회수)은
+     * 복제본에서 읽으면 지워진 값이 다시 보이므로 기본 템플릿으로 master에서 읽어야 한다.
+     *
+     * @param replicaReadRedisConnectionFactory 복제본 우선 커넥션 팩토리
+     * @return 복제본에서 실행되는 StringRedisTemplate
+     * @since 2026-10-18
+     */
+    @Bean
+    public StringRedisTemplate replicaReadRedisTemplate(
+            @Qualifier("replicaReadRedisConnectionFactory") RedisConnectionFactory replicaReadRedisConnectionFactory) {
+        return new StringRedisTemplate(replicaReadRedisConnectionFactory);
+    }
+
+    /**
+     * Sentinel이 알려주는 master 주소와 failover 상태를 /actuator/health에 보고하는 HealthIndicator Bean생성
+     * Sentinel 노드가 설정된 경우에만 등록된다.
+     *
+     * @param redisConnectionFactory Sentinel 연결을 제공하는 커넥션 팩토리
+     * @return failover 상태 HealthIndicator
+     * @since 2026-10-18
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.sentinel.nodes")
+    public RedisFailoverHealthIndicator redisFailoverHealthIndicator(RedisConnectionFactory redisConnectionFactory) {
+        return new RedisFailoverHealthIndicator(redisConnectionFactory, sentinelMaster);
+    }
+
+    /**
+     * 설정에 맞는 LettuceConnectionFactory 생성
+     *
+     * @param clientResources 공유 Lettuce 리소스
+     * @param readFrom 읽기 명령을 보낼 노드 (null이면 master, Sentinel 구성에서만 적용)
+     * @return 초기화된 커넥션 팩토리
+     */
+    private LettuceConnectionFactory connectionFactory(ClientResources clientResources, ReadFrom readFrom) {
+        if (!StringUtils.hasText(sentinelNodes)) {
+            log.info("Sentinel 노드가 설정되지 않아 단일 Redis({}:{})에 연결합니다.", standaloneHost, standalonePort);
+            return initialize(new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(standaloneHost, standalonePort), clientConfiguration(clientResources, null)));
+        }
+
         // Sentinel 설정 객체 생성, master 이름 설정
         RedisSentinelConfiguration sentinelConfig = new RedisSentinelConfiguration()
                 .master(sentinelMaster);
@@ -60,11 +226,76 @@ public class RedisConfig {
         }
 
         // Lettuce 기반 Sentinel 커넥션 팩토리 생성
-        LettuceConnectionFactory factory = new LettuceConnectionFactory(sentinelConfig);
-        // 내부 속성 초기화
+        return initialize(new LettuceConnectionFactory(sentinelConfig, clientConfiguration(clientResources, readFrom)));
+    }
+
+    // 내부 속성 초기화 (커넥션 풀을 쓰는 경우 명령마다 풀에서 커넥션을 빌리도록 공유 커넥션을 끔)
+    private LettuceConnectionFactory initialize(LettuceConnectionFactory factory) {
+        factory.setShareNativeConnection(!poolEnabled);
         factory.afterPropertiesSet();
-        // 스프링이 IoC 컨테이너에서 주입 가능한 Bean으로 사용하게 반환
         return factory;
     }
 
+    /**
+     * Lettuce 클라이언트 설정 생성
+     * <ul>
+     *   <li>명령마다 응답 대기 시간을 제한하여 Redis가 느려지거나 failover 중일 때 요청 스레드가 오래 묶이지 않도록 한다.</li>
+     *   <li>연결이 끊긴 동안의 명령은 내부 버퍼에 쌓지 않고 바로 실패시켜, 호출하는 쪽이 DB 조회 등으로 대체하게 한다.</li>
+     *   <li>spring.data.redis.lettuce.pool.enabled=true이면 커넥션 풀을 사용한다.
+     *       기본값(공유 커넥션 하나에 명령을 파이프라인으로 보내는 방식)이 대부분 더 빠르며,
+     *       긴 스크립트나 큰 응답이 다른 명령을 막는 경우에만 켠다.</li>
+     * </ul>
+     *
+     * @param clientResources 공유 Lettuce 리소스
+     * @param readFrom 읽기 명령을 보낼 노드 (null이면 master)
+     * @return Lettuce 클라이언트 설정
+     */
+    private LettuceClientConfiguration clientConfiguration(ClientResources clientResources, ReadFrom readFrom) {
+        ClientOptions clientOptions = ClientOptions.builder()
+                .autoReconnect(true)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(connectTimeout)
+                        .keepAlive(true)
+                        .build())
+                .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                .build();
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = poolEnabled
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig())
+                : LettuceClientConfiguration.builder();
+        builder.clientResources(clientResources)
+                .clientOptions(clientOptions)
+                .commandTimeout(commandTimeout);
+        if (readFrom != null) {
+            builder.readFrom(readFrom);
+        }
+        return builder.build();
+    }
+
+    // 커넥션 풀 설정
+    private GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig() {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(poolMaxActive);
+        config.setMaxIdle(poolMaxIdle);
+        config.setMinIdle(poolMinIdle);
+        config.setMaxWait(poolMaxWait);
+        return config;
+    }
+
+    /**
+     * Redis pub/sub 메시지를 구독하기 위한 리스너 컨테이너 Bean생성
+     * 사용자 캐시 무효화 알림 등 서버 간 알림을 받을 때 사용한다.
+     *
+     * @param redisConnectionFactory Redis 커넥션 팩토리
+     * @return 리스너 컨테이너 (구독할 채널은 각 리스너가 등록)
+     * @since 2026-10-18
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
 }
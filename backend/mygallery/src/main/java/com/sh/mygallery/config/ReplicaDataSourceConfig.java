@@ -0,0 +1,132 @@
+package com.sh.mygallery.config;
+
+import com.sh.mygallery.util.ReplicaLagMonitor;
+import com.sh.mygallery.util.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * primary/복제본(replica) 읽기·쓰기 분리 DataSource 설정을 관리하는 객체
+ *
+ * <p>datasource.replica.url이 설정된 경우에만 적용되며, 설정하지 않으면 Spring Boot 기본 DataSource 하나를 그대로 사용한다.
+ * primary 커넥션 풀은 기존과 같이 spring.datasource.*, spring.datasource.hikari.* 설정을 사용하고,
+ * 복제본 커넥션 풀은 datasource.replica.*, datasource.replica.hikari.* 설정을 사용한다.
+ * 애플리케이션이 사용하는 DataSource는 두 풀 앞에 놓인 라우팅 DataSource이며,
+ * {@code @Transactional(readOnly = true)} 트랜잭션만 복제본으로 보낸다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+@Slf4j
+public class ReplicaDataSourceConfig {
+
+    /**
+     * 쓰기와 복제본을 사용할 수 없을 때의 읽기를 처리할 primary 커넥션 풀 Bean 생성
+     *
+     * @param properties spring.datasource.* 설정
+     * @return primary 커넥션 풀
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 처리할 복제본 커넥션 풀 Bean 생성
+     * 복제본이 여러 대라면 ProxySQL, MySQL Router 등 읽기 분산 주소를 url로 지정한다.
+     *
+     * @param properties primary 설정 (드라이버 클래스 결정용)
+     * @param url 복제본 접속 URL
+     * @param username 복제본 사용자 (생략 시 primary와 동일)
+     * @param password 복제본 비밀번호 (생략 시 primary와 동일)
+     * @return 복제본 커넥션 풀
+     */
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    /**
+     * 복제 지연 확인 모니터 Bean 생성
+     *
+     * @param replica 복제본 커넥션 풀
+     * @param maxLagSeconds 복제본을 사용할 수 있는 최대 지연 시간(초)
+     * @return 주기적으로 복제 지연을 확인하는 모니터
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${datasource.replica.max-lag-seconds:2}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(replica, maxLagSeconds);
+    }
+
+    /**
+     * 애플리케이션이 사용할 읽기·쓰기 분리 DataSource Bean 생성
+     *
+     * <p>LazyConnectionDataSourceProxy는 실제 SQL을 실행할 때 커넥션을 얻으므로,
+     * 그 시점에는 트랜잭션의 readOnly 여부가 정해져 있어 올바른 풀을 고를 수 있다.</p>
+     *
+     * @param primary primary 커넥션 풀
+     * @param replica 복제본 커넥션 풀
+     * @param lagMonitor 복제 지연 확인 모니터
+     * @param stickyWindowMillis 쓰기 후 해당 사용자의 읽기를 primary로 보내는 시간(ms)
+     * @return 트랜잭션 종류에 따라 커넥션 풀을 고르는 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor,
+                                 @Value("${datasource.replica.sticky-window-ms:5000}") long stickyWindowMillis) {
+        log.info("읽기 전용 트랜잭션을 복제본으로 보냅니다. stickyWindow={}ms", stickyWindowMillis);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, replica, lagMonitor, Duration.ofMillis(stickyWindowMillis));
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 트랜잭션이 끝날 때마다 Hibernate가 커넥션을 반납하도록 설정하는 Bean 생성
+     *
+     * <p>Spring은 기본으로 EntityManager가 닫힐 때까지 커넥션을 유지(DELAYED_ACQUISITION_AND_HOLD)한다.
+     * OSIV로 요청 내내 EntityManager가 열려 있으면, 먼저 실행된 읽기 전용 트랜잭션이 얻은 복제본 커넥션을
+     * 같은 요청의 이후 쓰기 트랜잭션(같은 커넥션을 쓰는 JdbcTemplate 포함)이 그대로 사용하게 된다.
+     * 트랜잭션마다 커넥션을 반납하면 다음 트랜잭션에서 readOnly 여부에 맞는 풀을 다시 고른다.</p>
+     *
+     * @return Hibernate 커넥션 처리 방식을 바꾸는 Customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
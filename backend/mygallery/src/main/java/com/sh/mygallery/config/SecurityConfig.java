@@ -1,7 +1,12 @@
 package com.sh.mygallery.config;
 
 import com.sh.mygallery.filter.JwtRequestFilter;
+import com.sh.mygallery.filter.RateLimitFilter;
+import com.sh.mygallery.util.BoundedPasswordEncoder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,10 +15,11 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -27,16 +33,21 @@ import java.util.List;
 @RequiredArgsConstructor // 의존성 주입용 어노테이션
 public class SecurityConfig {
 
-    private final JwtRequestFilter jwtRequestFilter;
     /**
      * 비밀번호 암호화를 위한 인코더를 반환해주는 객체(Bean)
+     * BCrypt 계산은 요청 스레드가 아닌 전용 Executor에서 실행된다.
      *
      * @since 2025-12-04
+     * @param passwordHashExecutor 비밀번호 해시 계산 전용 Executor
+     * @param timeoutMillis 해시 계산 결과를 기다리는 최대 시간(ms)
+     * @param strength BCrypt 강도(log2 반복 횟수, 1 늘릴 때마다 계산 시간 2배, PasswordHashBenchmark로 측정)
      * @return BCrypt기반Encoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(@Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                                                  @Value("${security.password-hash.timeout-ms:2000}") long timeoutMillis,
+                                                  @Value("${security.password-hash.bcrypt-strength:10}") int strength) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashExecutor, Duration.ofMillis(timeoutMillis));
     }
 
     /**
@@ -53,15 +64,49 @@ public class SecurityConfig {
     }
 
 
+    /**
+     * JwtRequestFilter가 서블릿 필터로 한 번 더 등록되지 않도록 막는 설정
+     * Component로 등록된 필터는 Spring Boot가 서블릿 필터로도 자동 등록하는데,
+     * 그러면 보안 필터 체인보다 먼저 실행되어 설정한 인증 정보가 보안 필터 체인에서 초기화된다.
+     *
+     * @param jwtRequestFilter JWT 검증 필터
+     * @return 비활성화된 필터 등록 정보
+     * @since 2026-10-18
+     */
+    @Bean
+    public FilterRegistrationBean<JwtRequestFilter> jwtRequestFilterRegistration(JwtRequestFilter jwtRequestFilter) {
+        FilterRegistrationBean<JwtRequestFilter> registration = new FilterRegistrationBean<>(jwtRequestFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * RateLimitFilter도 서블릿 필터로 한 번 더 등록되지 않도록 막는 설정
+     * 보안 필터 체인 안에서 JWT 검증 뒤에 실행되어야 사용자 기준 한도를 적용할 수 있다.
+     *
+     * @param rateLimitFilter 요청 제한 필터
+     * @return 비활성화된 필터 등록 정보
+     * @since 2026-10-18
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     /**
      * Spring Security의 보안 필터 체인 설정
      *
      * @param http HTTP보안 설정 객체
+     * @param jwtRequestFilter JWT 검증 필터 (생성자로 주입하면 PasswordEncoder를 통해 순환 참조가 생기므로 메서드로 주입)
+     * @param rateLimitFilter 로그인/재발급/게시글 작성 요청 수 제한 필터
      * @return SecurityFilterChain객체
      * @throws Exception 보안설정 처리중 발생가능한 예외
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtRequestFilter jwtRequestFilter,
+                                                   RateLimitFilter rateLimitFilter) throws Exception {
         http
 //                .securityMatcher("/user/**") //이 SecurityFilterChain이 "/user/**" 경로에만 적용되도록 매칭 설정
                 // CSRF는 브라우저 자동 쿠키 전송을 악용한 공격을 막는 기능이므로
@@ -89,7 +134,9 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 // UsernamePasswordAuthenticationFilter 앞에 JWT 필터 추가
-                .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class)
+                // JWT 필터 뒤에서 요청 수 제한 (인증된 사용자 기준 한도 적용, BCrypt/DB 접근 전에 거절)
+                .addFilterAfter(rateLimitFilter, JwtRequestFilter.class);
 
         return http.build();
     }
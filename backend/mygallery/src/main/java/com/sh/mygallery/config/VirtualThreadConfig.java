@@ -0,0 +1,123 @@
+package com.sh.mygallery.config;
+
+import com.sh.mygallery.util.ConcurrencyLimitedDataSource;
+import com.sh.mygallery.util.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드(spring.threads.virtual.enabled=true)에서만 적용되는 설정을 관리하는 객체
+ *
+ * <p>가상 스레드 모드를 켜면 Spring Boot가 Tomcat 요청 처리, @Scheduled 작업을 가상 스레드에서 실행한다.
+ * (CPU를 사용하는 이미지 처리, 비밀번호 해시 Executor는 크기가 제한된 플랫폼 스레드 풀을 그대로 사용한다.)
+ * 이 설정은 그에 맞춰 다음을 추가한다.</p>
+ * <ul>
+ *   <li>DB 동시 접근 수를 커넥션 풀 크기로 제한하고 짧은 시간 안에 실패하도록 DataSource를 감싼다.</li>
+ *   <li>JFR 이벤트로 캐리어 스레드 고정(pinning)을 실행 중에 감지한다.</li>
+ *   <li>시작 시 현재 JDK에서 고정을 일으키는 것으로 알려진 JDBC 드라이버 버전을 경고한다.</li>
+ * </ul>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    /**
+     * DataSource를 동시 접근 수가 제한된 DataSource로 감싸는 BeanPostProcessor Bean 생성
+     *
+     * @param environment 설정값 조회용 (BeanPostProcessor는 다른 Bean보다 먼저 만들어지므로 Environment로 직접 조회)
+     * @return DataSource를 감싸는 BeanPostProcessor
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 읽기·쓰기 분리 모드의 라우팅 DataSource는 감싸지 않음 (뒤의 primary/복제본 풀이 각각 제한됨)
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+                        || bean instanceof LazyConnectionDataSourceProxy) {
+                    return bean;
+                }
+                // 기본값은 커넥션 풀 크기 (풀보다 많이 들여보내도 풀 안에서 기다리기만 함)
+                int poolSize = bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+                int maxConcurrency = environment.getProperty("jdbc.virtual.max-concurrency", Integer.class, poolSize);
+                long timeoutMillis = environment.getProperty("jdbc.virtual.acquire-timeout-ms", Long.class, 3000L);
+                log.info("가상 스레드 모드: DB 동시 접근 수를 {}개로 제한합니다. timeout={}ms", maxConcurrency, timeoutMillis);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, Duration.ofMillis(timeoutMillis));
+            }
+        };
+    }
+
+    /**
+     * 캐리어 스레드 고정(pinning) 감지 모니터 Bean 생성
+     *
+     * @param environment 설정값 조회용
+     * @return 애플리케이션 시작/종료와 함께 동작하는 모니터
+     */
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(Environment environment) {
+        long thresholdMillis = environment.getProperty("virtual-thread.pinning.threshold-ms", Long.class, 20L);
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMillis));
+    }
+
+    /**
+     * 시작 시 가상 스레드를 고정시키는 것으로 알려진 JDBC 드라이버를 사용 중인지 확인하는 메서드
+     * MySQL Connector/J 9.0 미만은 I/O를 synchronized 블록 안에서 수행하므로 JDK 24 미만에서는 쿼리마다 캐리어 스레드가 고정된다.
+     * JDK 24부터는 synchronized 안에서 대기해도 고정되지 않으므로(JEP 491) 드라이버 버전과 관계없이 경고하지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkJdbcDriver() {
+        String version = mysqlDriverVersion();
+        if (version == null) {
+            return;
+        }
+        if (pinsCarrierThreads(version)) {
+            log.warn("MySQL Connector/J {}는 Java {}에서 쿼리 실행 중 가상 스레드를 캐리어 스레드에 고정시킵니다. " +
+                    "DB 대기가 많은 요청은 CPU 코어 수만큼만 동시에 처리될 수 있으므로 9.0 이상을 사용하세요.",
+                    version, Runtime.version().feature());
+        } else {
+            log.info("MySQL Connector/J {}", version);
+        }
+    }
+
+    // 드라이버의 synchronized 블록이 현재 JDK에서 캐리어 스레드를 고정시키는지 확인 (버전을 해석할 수 없으면 false)
+    private boolean pinsCarrierThreads(String version) {
+        if (Runtime.version().feature() >= 24) {
+            return false;
+        }
+        int major = parseMajor(version);
+        return major > 0 && major < 9;
+    }
+
+    // 드라이버 클래스의 상수에서 버전 조회 (드라이버가 없으면 null)
+    private String mysqlDriverVersion() {
+        try {
+            return (String) Class.forName("com.mysql.cj.Constants").getField("CJ_VERSION").get(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private int parseMajor(String version) {
+        try {
+            return Integer.parseInt(version.substring(0, version.indexOf('.')));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
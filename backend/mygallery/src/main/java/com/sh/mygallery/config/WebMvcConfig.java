@@ -0,0 +1,84 @@
+package com.sh.mygallery.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Spring MVC 설정을 관리하는 객체
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    /*
+     * 응답을 오래 스트리밍하는 경로 (게시글 내보내기, 이미지 압축 파일)
+     * OSIV가 적용되면 첫 조회에서 얻은 DB 커넥션을 응답이 끝날 때까지 붙잡고 있으므로,
+     * 느린 클라이언트 몇 명이 커넥션 풀을 모두 차지하지 않도록 이 경로들은 OSIV에서 제외한다.
+     * (해당 경로는 DTO만 조회하여 지연 로딩이 필요 없음)
+     */
+    private static final String[] STREAMING_PATHS = {
+            "/api/boards/user/*/export",
+            "/api/boards/*/images/archive",
+            "/api/boards/user/*/images/archive"
+    };
+
+    // 비동기 응답(StreamingResponseBody)이 끝날 때까지 기다리는 최대 시간
+    private final Duration asyncRequestTimeout;
+    private final ObjectProvider<OpenEntityManagerInViewInterceptor> openEntityManagerInViewInterceptor;
+
+    public WebMvcConfig(@Value("${spring.mvc.async.request-timeout:10m}") Duration asyncRequestTimeout,
+                        ObjectProvider<OpenEntityManagerInViewInterceptor> openEntityManagerInViewInterceptor) {
+        this.asyncRequestTimeout = asyncRequestTimeout;
+        this.openEntityManagerInViewInterceptor = openEntityManagerInViewInterceptor;
+    }
+
+    /**
+     * OSIV(Open EntityManager In View) 인터셉터 Bean 생성
+     * 이 Bean이 있으면 Spring Boot는 모든 경로에 적용하는 기본 OSIV 설정을 만들지 않으며,
+     * 대신 addInterceptors()에서 스트리밍 경로를 제외하고 등록한다.
+     * spring.jpa.open-in-view=false이면 OSIV를 사용하지 않는다.
+     *
+     * @param entityManagerFactory EntityManagerFactory
+     * @return OSIV 인터셉터
+     * @since 2026-10-18
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor(EntityManagerFactory entityManagerFactory) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        return interceptor;
+    }
+
+    // 스트리밍 경로를 제외한 모든 요청에 OSIV 적용
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = openEntityManagerInViewInterceptor.getIfAvailable();
+        if (interceptor != null) {
+            registry.addWebRequestInterceptor(interceptor)
+                    .excludePathPatterns(STREAMING_PATHS);
+        }
+    }
+
+    /**
+     * 비동기 응답의 제한 시간 설정
+     * 지정하지 않으면 컨테이너 기본값(Tomcat 30초)이 적용되어 큰 내보내기 응답이 도중에 끊기므로 기본값을 늘린다.
+     *
+     * @param configurer 비동기 처리 설정
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+}
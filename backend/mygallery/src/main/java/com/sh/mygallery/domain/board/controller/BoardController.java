@@ -1,13 +1,20 @@
 package com.sh.mygallery.domain.board.controller;
 
 import com.sh.mygallery.domain.board.domain.Board;
+import com.sh.mygallery.domain.board.dto.BoardDTO;
+import com.sh.mygallery.domain.board.service.BoardExportService;
 import com.sh.mygallery.domain.board.service.BoardService;
+import com.sh.mygallery.domain.search.dto.SearchDTO;
 import com.sh.mygallery.domain.user.domain.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 import java.util.List;
@@ -24,6 +31,7 @@ import java.util.List;
 public class BoardController {
     // 알맞은 service객체 보유
     private final BoardService boardService;
+    private final BoardExportService boardExportService;
 
     /**
      * 게시글 생성(Create)을 처리하는 메서드
@@ -32,24 +40,58 @@ public class BoardController {
      * @return 생성된 Board 정보를 ResponseEntity로 래핑하여 반환
      */
     @PostMapping
-    public ResponseEntity<Board> write(@RequestBody Board board, @AuthenticationPrincipal User user) {
+    public ResponseEntity<BoardDTO.BoardResponse> write(@RequestBody Board board, @AuthenticationPrincipal User user) {
         board.setUser(user);
         Board createdBoard = boardService.write(board);
-        return ResponseEntity.ok(createdBoard);
+        return ResponseEntity.ok(BoardDTO.BoardResponse.from(createdBoard));
     }
 
     /**
-     * 전체 게시글 목록을 조회하는 메서드
-     * 클라이언트 요청을 받아 BoardService에서 조회한 게시글 리스트를 반환
+     * 게시글 목록을 최신순으로 한 페이지씩 조회하는 메서드
+     * 응답에 포함된 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회할 수 있다.
      *
-     * @return 조회된 게시글 리스트(List<Board>)를 ResponseEntity로 감싸서 반환
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지 조회 시 생략)
+     * @param size 한 페이지에 조회할 게시글 수
+     * @return 조회된 게시글 요약 목록과 다음 커서를 ResponseEntity로 감싸서 반환
      */
     @GetMapping
-    public ResponseEntity<List<Board>> getBoards(){
-        List<Board> boards = boardService.getAllBoards();
+    public ResponseEntity<BoardDTO.CursorPage<BoardDTO.BoardSummary>> getBoards(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size){
+        BoardDTO.CursorPage<BoardDTO.BoardSummary> boards = boardService.getBoards(cursor, size);
         return ResponseEntity.ok(boards);
     }
 
+    /**
+     * 게시글 제목과 내용을 검색하는 메서드
+     * 검색어와 관련성이 높은 순서로 정렬된 결과를 페이지 번호로 나누어 반환한다.
+     *
+     * @param q 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 한 페이지에 조회할 게시글 수
+     * @return 검색된 게시글 요약 목록과 전체 일치 수를 ResponseEntity로 감싸서 반환
+     */
+    @GetMapping("/search")
+    public ResponseEntity<SearchDTO.SearchPage<BoardDTO.BoardSummary>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(boardService.search(q, page, size));
+    }
+
+    /**
+     * 게시글 한 건을 조회하는 메서드
+     * 조회할 때마다 해당 게시글의 조회수가 1 증가한다.
+     *
+     * @param id 조회할 게시글 ID
+     * @return 조회된 게시글 정보
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<BoardDTO.BoardDetail> getBoard(@PathVariable Long id) {
+        BoardDTO.BoardDetail board = boardService.getBoard(id);
+        return ResponseEntity.ok(board);
+    }
+
     /**
      * 특정 사용자의 게시글 목록을 조회하는 메서드
      *
@@ -57,11 +99,34 @@ public class BoardController {
      * @return 해당 사용자가 작성한 게시글 리스트
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Board>> getBoardsByUserId(@PathVariable Long userId) {
-        List<Board> boards = boardService.getBoardsByUserId(userId);
+    public ResponseEntity<List<BoardDTO.BoardSummary>> getBoardsByUserId(@PathVariable Long userId) {
+        List<BoardDTO.BoardSummary> boards = boardService.getBoardsByUserId(userId);
         return ResponseEntity.ok(boards);
     }
 
+    /**
+     * 특정 사용자의 게시글 전체를 파일로 내보내는 메서드
+     * 게시글을 한 번에 모두 읽지 않고 조회하는 대로 응답에 기록하므로 게시글 수와 관계없이 메모리 사용량이 일정하다.
+     *
+     * @param userId 사용자 ID
+     * @param format 내보내기 형식 (ndjson: 한 줄에 게시글 하나, json: JSON 배열)
+     * @return 게시글을 차례로 기록하는 스트리밍 응답
+     * @since 2026-10-18
+     */
+    @GetMapping("/user/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportBoardsByUserId(@PathVariable Long userId,
+                                                                      @RequestParam(defaultValue = "ndjson") String format) {
+        BoardDTO.ExportFormat exportFormat = BoardDTO.ExportFormat.from(format);
+        StreamingResponseBody body = out -> boardExportService.exportBoardsByUserId(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("boards-" + userId + "." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * 게시글 수정(Update)을 처리하는 메서드
      * 전달된 데이터로 기존 게시글을 갱신
@@ -69,10 +134,10 @@ public class BoardController {
      * @return 수정된 Board 정보를 ResponseEntity로 래핑하여 반환
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Board> update(@PathVariable Long id, @RequestBody Board board, @AuthenticationPrincipal User user){
+    public ResponseEntity<BoardDTO.BoardResponse> update(@PathVariable Long id, @RequestBody Board board, @AuthenticationPrincipal User user){
         // board 한 건을 업데이트 검증로직은 서비스 내부에서 구현
         Board updatedBoard = boardService.update(id, board, user);
-        return ResponseEntity.ok(updatedBoard);
+        return ResponseEntity.ok(BoardDTO.BoardResponse.from(updatedBoard));
     }
 
     /**
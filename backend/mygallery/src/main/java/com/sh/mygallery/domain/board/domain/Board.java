@@ -16,7 +16,12 @@ import java.util.List;
  * @since 2025-11-30
  */
 @Entity
-@Table(name="boards")
+@Table(name="boards", indexes = {
+        // 목록 조회(keyset 페이지네이션)의 정렬 기준과 동일한 순서의 복합 인덱스
+        @Index(name = "idx_boards_created_at_board_id", columnList = "created_at, board_id"),
+        // 검색 색인 재시작 시 스냅샷 이후 수정된 게시글 조회용
+        @Index(name = "idx_boards_updated_at", columnList = "updated_at")
+})
 @Getter
 public class Board {
     // boards 기본키(PK) 식별자
@@ -53,10 +58,29 @@ public class Board {
     @Column(name="view_count")
     private int viewCount;
 
+    // 댓글 수 (comments에서 세지 않도록 비정규화, 댓글 작성/삭제 시 상대값 UPDATE로만 변경)
+    // 게시글 수정 시 읽어 둔 값으로 덮어쓰지 않도록 엔티티 UPDATE 대상에서 제외
+    @Column(name="comment_count", nullable = false, updatable = false)
+    private int commentCount;
+
     // 이미지 리스트
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<com.sh.mygallery.domain.image.domain.Image> images = new ArrayList<>();
 
+    // INSERT 직전 생성/수정 날짜 초기화 (목록 정렬 기준이므로 null이 되면 안 됨)
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    // UPDATE 직전 수정 날짜 갱신
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // 연관관계 편의 메소드
     public void addImage(com.sh.mygallery.domain.image.domain.Image image) {
         images.add(image);
@@ -1,5 +1,17 @@
 package com.sh.mygallery.domain.board.dto;
 
+import com.sh.mygallery.domain.board.domain.Board;
+import com.sh.mygallery.domain.board.exception.InvalidExportFormatException;
+import com.sh.mygallery.domain.comment.dto.CommentDTO;
+import com.sh.mygallery.domain.image.dto.ImageDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Board의 민감정보를 제외한 데이터를 다룰때 사용할 DTO
  *
@@ -7,4 +19,267 @@ package com.sh.mygallery.domain.board.dto;
  * @since 2025-11-30
  */
 public class BoardDTO {
+
+    /**
+     * 커서 기반 페이지 조회 결과를 담는 응답 DTO
+     *
+     * <p>nextCursor는 클라이언트가 내용을 해석하지 않고 그대로 다음 요청에 전달하는 불투명한 토큰이며,
+     * 더 이상 조회할 게시글이 없으면 null이 된다.</p>
+     *
+     * @param <T> 페이지에 담기는 항목 타입
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CursorPage<T> {
+        // 현재 페이지의 항목 목록
+        private List<T> items;
+        // 다음 페이지 조회에 사용할 커서 (마지막 페이지라면 null)
+        private String nextCursor;
+        // 다음 페이지 존재 여부
+        private boolean hasNext;
+    }
+
+    /**
+     * 게시글 목록 화면에 필요한 값만 담는 평탄화된 조회 전용 DTO
+     *
+     * <p>엔티티를 그대로 직렬화하면 게시글마다 작성자와 이미지 컬렉션이 지연 로딩되고(N+1),
+     * 작성자의 비밀번호 해시까지 응답에 포함된다.
+     * 이 DTO는 JPQL 생성자 표현식으로 게시글과 작성자 이름을 한 번에 조회한 뒤,
+     * 대표 이미지와 이미지 수를 페이지 단위의 한 번의 쿼리로 채워 넣는다.</p>
+     */
+    @Getter
+    public static class BoardSummary {
+        // 게시글 ID
+        private final Long boardId;
+        // 게시글 제목
+        private final String title;
+        // 작성자 이름
+        private final String authorName;
+        // 조회수 (DB 반영분 + Redis 미반영분)
+        private long viewCount;
+        // 댓글 수
+        private final int commentCount;
+        // 생성날짜
+        private final LocalDateTime createdAt;
+        // 대표 이미지 경로 (이미지가 없으면 null)
+        private String thumbnailUrl;
+        // 첨부 이미지 수
+        private long imageCount;
+        // 최신 댓글 미리보기 (최신순)
+        private List<CommentDTO.CommentResponse> latestComments = List.of();
+
+        // JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+        public BoardSummary(Long boardId, String title, String authorName, int viewCount, int commentCount,
+                            LocalDateTime createdAt) {
+            this.boardId = boardId;
+            this.title = title;
+            this.authorName = authorName;
+            this.viewCount = viewCount;
+            this.commentCount = commentCount;
+            this.createdAt = createdAt;
+        }
+
+        // 아직 DB에 반영되지 않은 조회수 증가분을 더하는 메서드
+        public void addPendingViews(long pendingViews) {
+            this.viewCount += pendingViews;
+        }
+
+        // 이미지 요약 조회 결과를 채워 넣는 메서드
+        public void applyImages(String thumbnailUrl, long imageCount) {
+            this.thumbnailUrl = thumbnailUrl;
+            this.imageCount = imageCount;
+        }
+
+        // 최신 댓글 조회 결과를 채워 넣는 메서드
+        public void applyLatestComments(List<CommentDTO.CommentResponse> latestComments) {
+            this.latestComments = latestComments;
+        }
+    }
+
+    /**
+     * 게시글 작성/수정 결과로 반환할 응답 DTO
+     * 엔티티 대신 반환하여 작성자(User) 엔티티와 비밀번호 해시가 직렬화되지 않도록 한다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class BoardResponse {
+        private Long boardId;
+        private String title;
+        private String content;
+        private String authorName;
+        private long viewCount;
+        private int commentCount;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        // 엔티티를 응답 DTO로 변환하는 정적 팩토리 메서드
+        public static BoardResponse from(Board board) {
+            return from(board, board.getViewCount());
+        }
+
+        // 미반영 조회수까지 합산한 조회수로 응답 DTO를 만드는 정적 팩토리 메서드
+        public static BoardResponse from(Board board, long viewCount) {
+            return new BoardResponse(
+                    board.getBoardId(),
+                    board.getTitle(),
+                    board.getContent(),
+                    board.getUser() != null ? board.getUser().getDisplayName() : null,
+                    viewCount,
+                    board.getCommentCount(),
+                    board.getCreatedAt(),
+                    board.getUpdatedAt()
+            );
+        }
+    }
+
+    /**
+     * 게시글 상세 화면에 필요한 값을 담는 조회 전용 DTO
+     *
+     * <p>상세 캐시(BoardDetailCacheService)에 그대로 보관되므로 변경할 수 없는 값으로만 구성한다.
+     * 조회수는 캐시된 값에 미반영 증가분을 더한 새 객체를 withViewCount()로 만들어 응답한다.</p>
+     *
+     * @since 2026-10-18
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class BoardDetail {
+        private final Long boardId;
+        private final String title;
+        private final String content;
+        private final String authorName;
+        private final long viewCount;
+        private final int commentCount;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+        // 첨부 이미지 ID 목록 (등록 순)
+        private final List<Long> imageIds;
+
+        // 엔티티와 이미지 ID 목록으로 상세 DTO를 만드는 정적 팩토리 메서드
+        public static BoardDetail from(Board board, List<Long> imageIds) {
+            return new BoardDetail(
+                    board.getBoardId(),
+                    board.getTitle(),
+                    board.getContent(),
+                    board.getUser() != null ? board.getUser().getDisplayName() : null,
+                    board.getViewCount(),
+                    board.getCommentCount(),
+                    board.getCreatedAt(),
+                    board.getUpdatedAt(),
+                    List.copyOf(imageIds)
+            );
+        }
+
+        // 첨부 이미지 경로 목록
+        public List<String> getImageUrls() {
+            return imageIds.stream()
+                    .map(imageId -> ImageDTO.IMAGE_URL_PREFIX + imageId)
+                    .toList();
+        }
+
+        // 조회수만 바꾼 새 상세 DTO를 만드는 메서드
+        public BoardDetail withViewCount(long viewCount) {
+            return new BoardDetail(boardId, title, content, authorName, viewCount, commentCount,
+                    createdAt, updatedAt, imageIds);
+        }
+    }
+
+    /**
+     * 캐시에 보관하는 게시글 상세와 갱신 정보
+     *
+     * <p>loadMillis는 DB에서 다시 읽어오는 데 걸린 시간이고 expiresAt은 논리적 만료 시각(epoch ms)이다.
+     * 두 값으로 만료 직전 확률적으로 미리 갱신할지 결정한다. (BoardDetailCacheService 참고)</p>
+     *
+     * @since 2026-10-18
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CachedBoardDetail {
+        private final BoardDetail detail;
+        private final long loadMillis;
+        private final long expiresAt;
+    }
+
+    /**
+     * 게시글 내보내기(export)에서 한 줄로 기록되는 게시글 한 건
+     *
+     * <p>JPQL 생성자 표현식으로 필요한 컬럼만 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다.</p>
+     *
+     * @since 2026-10-18
+     */
+    @Getter
+    public static class BoardExport {
+        private final Long boardId;
+        private final String title;
+        private final String content;
+        // 조회수 (DB 반영분 + Redis 미반영분)
+        private long viewCount;
+        private final int commentCount;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        // JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+        public BoardExport(Long boardId, String title, String content, int viewCount, int commentCount,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.boardId = boardId;
+            this.title = title;
+            this.content = content;
+            this.viewCount = viewCount;
+            this.commentCount = commentCount;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+
+        // 아직 DB에 반영되지 않은 조회수 증가분을 더하는 메서드
+        public void addPendingViews(long pendingViews) {
+            this.viewCount += pendingViews;
+        }
+    }
+
+    /**
+     * 게시글 내보내기 응답 형식
+     *
+     * @since 2026-10-18
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum ExportFormat {
+        // 한 줄에 게시글 하나 (Newline Delimited JSON)
+        NDJSON("application/x-ndjson", "ndjson"),
+        // 게시글 전체를 하나의 JSON 배열로
+        JSON("application/json", "json");
+
+        private final String contentType;
+        private final String extension;
+
+        // 요청 파라미터(대소문자 무시)를 형식으로 변환하는 메서드
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new InvalidExportFormatException("지원하지 않는 내보내기 형식입니다. format=" + value);
+        }
+    }
+
+    /**
+     * 이관/가져오기 작업에서 한 번에 등록할 게시글 한 건
+     *
+     * <p>JPA 엔티티를 거치지 않고 JDBC 배치로 저장하므로 작성자는 ID로만 지정한다.
+     * createdAt을 지정하지 않으면 저장 시각을 사용한다.</p>
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BoardImport {
+        private String title;
+        private String content;
+        // 작성자 ID
+        private Long userId;
+        // 원본 서비스의 작성 시각 (null이면 저장 시각)
+        private LocalDateTime createdAt;
+        // 게시글에 첨부할 이미지 목록 (null이면 이미지 없음)
+        private List<ImageDTO.ImageImport> images;
+    }
 }
@@ -0,0 +1,21 @@
+package com.sh.mygallery.domain.board.exception;
+
+/**
+ * 게시글 목록 조회 시 전달된 커서를 해석할 수 없는 경우 반환할 Exception
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class InvalidCursorException extends BoardException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidCursorException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,21 @@
+package com.sh.mygallery.domain.board.exception;
+
+/**
+ * 게시글 내보내기 요청의 형식을 지원하지 않는 경우 반환할 Exception
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class InvalidExportFormatException extends BoardException {
+    public InvalidExportFormatException(String message) {
+        super(message);
+    }
+
+    public InvalidExportFormatException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidExportFormatException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,76 @@
+package com.sh.mygallery.domain.board.repository;
+
+import com.sh.mygallery.domain.board.dto.BoardDTO;
+import com.sh.mygallery.util.GeneratedKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글을 JDBC 배치로 대량 등록하는 저장소
+ *
+ * <p>boards의 ID는 IDENTITY(AUTO_INCREMENT)이므로 Hibernate는 INSERT를 배치로 묶지 못하고 한 행씩 실행한다.
+ * 이관/가져오기처럼 수십만 건을 넣는 작업은 이 저장소로 {@value #BATCH_SIZE}건씩 묶어 실행하고,
+ * 생성된 ID는 배치 실행 결과(getGeneratedKeys)로 한 번에 돌려받는다.
+ * MySQL에서는 rewriteBatchedStatements(JdbcBatchConfig)로 배치가 multi-row INSERT 한 문장으로 전송된다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardBulkRepository {
+    // 한 번에 전송할 최대 행 수 (max_allowed_packet을 넘지 않도록 제한)
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO boards (title, content, user_id, view_count, comment_count, created_at, updated_at) VALUES (?, ?, ?, 0, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글들을 배치 INSERT로 등록하는 메서드 (트랜잭션 내부에서 호출)
+     *
+     * @param boards 등록할 게시글 목록
+     * @param now createdAt이 없는 게시글에 사용할 작성 시각
+     * @return 등록된 게시글 ID (boards와 같은 순서)
+     */
+    public long[] insertAll(List<BoardDTO.BoardImport> boards, LocalDateTime now) {
+        long[] ids = new long[boards.size()];
+        for (int from = 0; from < boards.size(); from += BATCH_SIZE) {
+            List<BoardDTO.BoardImport> chunk = boards.subList(from, Math.min(from + BATCH_SIZE, boards.size()));
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            BoardDTO.BoardImport board = chunk.get(i);
+                            Timestamp createdAt = Timestamp.valueOf(board.getCreatedAt() != null ? board.getCreatedAt() : now);
+                            ps.setString(1, board.getTitle());
+                            ps.setString(2, board.getContent());
+                            ps.setLong(3, board.getUserId());
+                            ps.setTimestamp(4, createdAt);
+                            ps.setTimestamp(5, createdAt);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+            GeneratedKeys.copy(keyHolder, ids, from, chunk.size());
+        }
+        return ids;
+    }
+}
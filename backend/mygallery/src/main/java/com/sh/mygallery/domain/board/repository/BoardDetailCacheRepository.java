@@ -0,0 +1,199 @@
+package com.sh.mygallery.domain.board.repository;
+
+import com.sh.mygallery.domain.board.dto.BoardDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 상세 화면 데이터를 Redis Hash로 보관하는 공유 캐시 저장소
+ *
+ * <ul>
+ *   <li>{@value #KEY_PREFIX}{boardId} : 게시글 상세 Hash (TTL 적용).
+ *       값과 함께 DB 조회에 걸린 시간(loadMillis)과 논리적 만료 시각(expiresAt)을 보관하여
+ *       만료 직전 확률적으로 미리 갱신하는 데 사용한다.</li>
+ *   <li>{@value #KEY_PREFIX}{boardId}{@value #TOMBSTONE_SUFFIX} : 무효화 직후 잠시 남겨두는 표시 키.
+ *       무효화 이전에 DB에서 읽은 오래된 값이 무효화 이후에 다시 저장되는 것을 막는다.</li>
+ * </ul>
+ * 무효화 직후 복제 지연으로 지워지기 전의 값을 읽어 내부 캐시에 다시 채우지 않도록 조회도 master에서 한다.
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardDetailCacheRepository {
+    // 게시글 상세 Hash 키 접두사
+    private static final String KEY_PREFIX = "board:detail:";
+    // 무효화 표시 키 접미사
+    private static final String TOMBSTONE_SUFFIX = ":invalidated";
+
+    /*
+     * 무효화 표시가 없을 때만 게시글 상세를 저장하는 스크립트
+     * KEYS[1] = 게시글 Hash, KEYS[2] = 무효화 표시 키, ARGV[1] = TTL(ms), ARGV[2..] = field, value 쌍
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    /*
+     * 게시글 상세를 삭제하고 무효화 표시를 남기는 스크립트
+     * KEYS = 게시글 Hash 목록, ARGV[1] = 무효화 표시 키 접미사, ARGV[2] = 무효화 표시 보관 시간(ms)
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do " +
+            "  redis.call('SET', KEYS[i] .. ARGV[1], '1', 'PX', ARGV[2]) " +
+            "  redis.call('DEL', KEYS[i]) " +
+            "end " +
+            "return #KEYS",
+            Long.class);
+
+    /*
+     * 캐시되어 있는 게시글 상세의 조회수에만 증가분을 더하는 스크립트 (캐시에 없는 게시글은 새로 만들지 않음)
+     * KEYS = 게시글 Hash 목록, ARGV = KEYS와 같은 순서의 조회수 증가분
+     */
+    private static final RedisScript<Long> ADD_VIEWS_SCRIPT = new DefaultRedisScript<>(
+            "local updated = 0 " +
+            "for i = 1, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    redis.call('HINCRBY', KEYS[i], 'viewCount', ARGV[i]) " +
+            "    updated = updated + 1 " +
+            "  end " +
+            "end " +
+            "return updated",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 캐시된 게시글 상세를 조회하는 메서드 (HGETALL)
+     *
+     * @param boardId 게시글 ID
+     * @return 캐시된 게시글 상세와 갱신 정보
+     */
+    public Optional<BoardDTO.CachedBoardDetail> find(Long boardId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(boardId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        BoardDTO.BoardDetail detail = new BoardDTO.BoardDetail(
+                Long.parseLong((String) fields.get("boardId")),
+                (String) fields.get("title"),
+                (String) fields.get("content"),
+                (String) fields.get("authorName"),
+                Long.parseLong((String) fields.get("viewCount")),
+                Integer.parseInt((String) fields.get("commentCount")),
+                toDateTime(fields.get("createdAt")),
+                toDateTime(fields.get("updatedAt")),
+                toImageIds(fields.get("imageIds")));
+        return Optional.of(new BoardDTO.CachedBoardDetail(detail,
+                Long.parseLong((String) fields.get("loadMillis")),
+                Long.parseLong((String) fields.get("expiresAt"))));
+    }
+
+    /**
+     * 게시글 상세를 저장하는 메서드
+     * 최근에 무효화된 게시글이라면 저장하지 않는다.
+     *
+     * @param cached 저장할 게시글 상세와 갱신 정보
+     * @param ttl 보관 시간
+     */
+    public void save(BoardDTO.CachedBoardDetail cached, Duration ttl) {
+        BoardDTO.BoardDetail detail = cached.getDetail();
+        List<String> args = new ArrayList<>();
+        args.add(Long.toString(ttl.toMillis()));
+        addField(args, "boardId", detail.getBoardId());
+        addField(args, "title", detail.getTitle());
+        addField(args, "content", detail.getContent());
+        addField(args, "authorName", detail.getAuthorName());
+        addField(args, "viewCount", detail.getViewCount());
+        addField(args, "commentCount", detail.getCommentCount());
+        addField(args, "createdAt", detail.getCreatedAt());
+        addField(args, "updatedAt", detail.getUpdatedAt());
+        addField(args, "imageIds", detail.getImageIds().stream().map(String::valueOf).collect(Collectors.joining(",")));
+        addField(args, "loadMillis", cached.getLoadMillis());
+        addField(args, "expiresAt", cached.getExpiresAt());
+
+        String key = key(detail.getBoardId());
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key, key + TOMBSTONE_SUFFIX), args.toArray());
+    }
+
+    /**
+     * 캐시된 게시글 상세를 삭제하고 잠시 동안 다시 저장되지 않도록 표시하는 메서드
+     * 여러 게시글을 한 번의 스크립트 실행으로 처리한다.
+     *
+     * @param boardIds 게시글 ID 목록
+     * @param tombstoneTtl 다시 저장을 막는 시간
+     */
+    public void invalidate(Collection<Long> boardIds, Duration tombstoneTtl) {
+        if (boardIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = boardIds.stream()
+                .map(this::key)
+                .toList();
+        redisTemplate.execute(INVALIDATE_SCRIPT, keys, TOMBSTONE_SUFFIX, Long.toString(tombstoneTtl.toMillis()));
+    }
+
+    /**
+     * 캐시된 게시글 상세의 조회수에 증가분을 더하는 메서드
+     * 캐시를 지우지 않으므로 보관 시간과 갱신 정보는 그대로 유지된다.
+     *
+     * @param deltas 게시글 ID별 조회수 증가분
+     */
+    public void addViews(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(deltas.size());
+        List<String> args = new ArrayList<>(deltas.size());
+        deltas.forEach((boardId, delta) -> {
+            keys.add(key(boardId));
+            args.add(Long.toString(delta));
+        });
+        redisTemplate.execute(ADD_VIEWS_SCRIPT, keys, args.toArray());
+    }
+
+    private String key(Long boardId) {
+        return KEY_PREFIX + boardId;
+    }
+
+    // 값이 있는 필드만 field, value 쌍으로 추가
+    private void addField(List<String> args, String field, Object value) {
+        if (value != null) {
+            args.add(field);
+            args.add(value.toString());
+        }
+    }
+
+    private LocalDateTime toDateTime(Object value) {
+        return value != null ? LocalDateTime.parse((String) value) : null;
+    }
+
+    private List<Long> toImageIds(Object value) {
+        if (value == null || ((String) value).isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(((String) value).split(","))
+                .map(Long::parseLong)
+                .toList();
+    }
+}
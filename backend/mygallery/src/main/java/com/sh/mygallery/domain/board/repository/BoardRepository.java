@@ -1,10 +1,20 @@
 package com.sh.mygallery.domain.board.repository;
 
 import com.sh.mygallery.domain.board.domain.Board;
+import com.sh.mygallery.domain.board.dto.BoardDTO;
+import com.sh.mygallery.domain.search.dto.SearchDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 직접 Boards Table에 접근하여 database를 다룰 객체
@@ -15,6 +25,168 @@ import java.util.List;
 @Repository
 public interface BoardRepository extends JpaRepository<Board,Long> {
 
-    // 특정 사용자(userId)가 작성한 모든 게시글 조회하는 메서드
-    List<Board> findByUserUserId(Long userId);
+    /**
+     * 특정 사용자가 작성한 게시글을 목록용 DTO로 조회하는 메서드
+     * 작성자를 함께 조인하여 게시글마다 User를 지연 로딩하지 않도록 한다.
+     *
+     * @param userId 작성자 ID
+     * @return 최신순으로 정렬된 게시글 요약 목록
+     * @since 2026-10-18
+     */
+    @Query("select new com.sh.mygallery.domain.board.dto.BoardDTO$BoardSummary(" +
+            "b.boardId, b.title, u.username, b.viewCount, b.commentCount, b.createdAt) " +
+            "from Board b join b.user u " +
+            "where u.userId = :userId " +
+            "order by b.createdAt desc, b.boardId desc")
+    List<BoardDTO.BoardSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 커서 없이 최신 게시글부터 첫 페이지를 조회하는 메서드
+     *
+     * <p>(created_at, board_id) 내림차순으로 정렬하며, 조회 건수는 pageable의 size로만 제한한다.
+     * OFFSET을 사용하지 않으므로 pageable은 항상 0페이지로 전달해야 한다.
+     * 엔티티 대신 작성자 이름까지 포함한 목록용 DTO로 바로 조회한다.</p>
+     *
+     * @param pageable 조회할 최대 건수를 담은 Pageable (page = 0)
+     * @return 최신순으로 정렬된 게시글 요약 목록
+     * @since 2026-10-18
+     */
+    @Query("select new com.sh.mygallery.domain.board.dto.BoardDTO$BoardSummary(" +
+            "b.boardId, b.title, u.username, b.viewCount, b.commentCount, b.createdAt) " +
+            "from Board b join b.user u " +
+            "order by b.createdAt desc, b.boardId desc")
+    List<BoardDTO.BoardSummary> findFirstPage(Pageable pageable);
+
+    /**
+     * 커서(마지막으로 본 게시글의 created_at, board_id) 이후의 게시글을 조회하는 메서드
+     *
+     * <p>WHERE 조건으로 커서 위치부터 바로 인덱스를 탐색하기 때문에
+     * 스크롤이 깊어져도 OFFSET처럼 앞의 행을 읽고 버리는 비용이 발생하지 않는다.</p>
+     *
+     * @param createdAt 마지막으로 본 게시글의 생성날짜
+     * @param boardId 마지막으로 본 게시글의 ID (생성날짜가 같은 경우의 순서 보장용)
+     * @param pageable 조회할 최대 건수를 담은 Pageable (page = 0)
+     * @return 커서 이후의 게시글 요약 목록
+     * @since 2026-10-18
+     */
+    @Query("select new com.sh.mygallery.domain.board.dto.BoardDTO$BoardSummary(" +
+            "b.boardId, b.title, u.username, b.viewCount, b.commentCount, b.createdAt) " +
+            "from Board b join b.user u " +
+            "where b.createdAt < :createdAt " +
+            "or (b.createdAt = :createdAt and b.boardId < :boardId) " +
+            "order by b.createdAt desc, b.boardId desc")
+    List<BoardDTO.BoardSummary> findNextPage(@Param("createdAt") LocalDateTime createdAt,
+                             @Param("boardId") Long boardId,
+                             Pageable pageable);
+
+    /**
+     * 게시글의 댓글 수를 상대값으로 변경하는 메서드 (트랜잭션 내부에서 호출)
+     *
+     * <p>읽은 값에 더해 저장하지 않고 DB에서 바로 더하므로 동시에 댓글이 작성되어도 증가분이 유실되지 않는다.
+     * 게시글 행을 잠그므로 같은 트랜잭션의 댓글 INSERT/DELETE보다 먼저 호출한다.
+     * updated_at은 그대로 두어 검색 색인의 재색인 대상이 되지 않도록 한다.</p>
+     *
+     * @param boardId 게시글 ID
+     * @param delta 더할 값 (작성 1, 삭제 -1)
+     * @return 변경된 행 수 (게시글이 없으면 0)
+     * @since 2026-10-18
+     */
+    @Modifying
+    @Query(value = "UPDATE boards SET comment_count = comment_count + :delta, updated_at = updated_at " +
+            "WHERE board_id = :boardId", nativeQuery = true)
+    int addCommentCount(@Param("boardId") Long boardId, @Param("delta") int delta);
+
+    /**
+     * 게시글 ID 목록에 해당하는 게시글을 목록용 DTO로 조회하는 메서드
+     * 검색 결과처럼 순서가 정해진 ID 목록을 한 번의 쿼리로 조회할 때 사용하며, 반환 순서는 보장하지 않는다.
+     *
+     * @param boardIds 조회할 게시글 ID 목록
+     * @return 존재하는 게시글의 요약 목록
+     * @since 2026-10-18
+     */
+    @Query("select new com.sh.mygallery.domain.board.dto.BoardDTO$BoardSummary(" +
+            "b.boardId, b.title, u.username, b.viewCount, b.commentCount, b.createdAt) " +
+            "from Board b join b.user u " +
+            "where b.boardId in :boardIds")
+    List<BoardDTO.BoardSummary> findSummariesByIds(@Param("boardIds") Collection<Long> boardIds);
+
+    /**
+     * 검색 색인 생성을 위해 board_id 순서로 게시글을 나누어 조회하는 메서드
+     *
+     * @param afterId 이전 조회의 마지막 게시글 ID (처음이면 0)
+     * @param pageable 조회할 최대 건수를 담은 Pageable (page = 0)
+     * @return afterId 이후의 색인용 게시글 목록
+     * @since 2026-10-18
+     */
+    @Query("select new com.sh.mygallery.domain.search.dto.SearchDTO$IndexDocument(" +
+            "b.boardId, b.title, b.content, b.updatedAt) " +
+            "from Board b " +
+            "where b.boardId > :afterId " +
+            "order by b.boardId")
+    List<SearchDTO.IndexDocument> findIndexDocuments(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 검색 색인 스냅샷 이후 수정된 게시글을 board_id 순서로 나누어 조회하는 메서드
+     *
+     * @param since 이 시각 이후(포함) 수정된 게시글만 조회
+     * @param afterId 이전 조회의 마지막 게시글 ID (처음이면 0)
+     * @param pageable 조회할 최대 건수를 담은 Pageable (page = 0)
+     * @return 색인용 게시글 목록
+     * @since 2026-10-18
+     */
+    @Query("select new com.sh.mygallery.domain.search.dto.SearchDTO$IndexDocument(" +
+            "b.boardId, b.title, b.content, b.updatedAt) " +
+            "from Board b " +
+            "where b.updatedAt >= :since and b.boardId > :afterId " +
+            "order by b.boardId")
+    List<SearchDTO.IndexDocument> findIndexDocumentsUpdatedSince(@Param("since") LocalDateTime since,
+                                                                 @Param("afterId") Long afterId,
+                                                                 Pageable pageable);
+
+    /**
+     * 변경 알림을 받은 게시글을 색인용으로 다시 조회하는 메서드
+     *
+     * @param boardIds 조회할 게시글 ID 목록
+     * @return 존재하는 게시글의 색인용 목록 (삭제된 게시글은 포함되지 않음)
+     * @since 2026-10-18
+     */
+    @Query("select new com.sh.mygallery.domain.search.dto.SearchDTO$IndexDocument(" +
+            "b.boardId, b.title, b.content, b.updatedAt) " +
+            "from Board b " +
+            "where b.boardId in :boardIds")
+    List<SearchDTO.IndexDocument> findIndexDocumentsByIds(@Param("boardIds") Collection<Long> boardIds);
+
+    /**
+     * 사용자의 게시글을 내보내기 위해 board_id 순서로 나누어 조회하는 메서드
+     *
+     * <p>(user_id, board_id) 순서의 인덱스를 afterId 위치부터 읽으므로 뒤쪽 묶음도 앞쪽과 같은 비용으로 조회된다.
+     * 묶음마다 짧은 읽기 전용 트랜잭션으로 실행되어, 느린 클라이언트에게 내보내는 동안 DB 커넥션을 붙잡지 않고
+     * 복제본이 설정되어 있으면 복제본에서 조회한다.</p>
+     *
+     * @param userId 작성자 ID
+     * @param afterId 이전 묶음의 마지막 게시글 ID (처음이면 0)
+     * @param pageable 조회할 최대 건수를 담은 Pageable (page = 0)
+     * @return 내보내기용 게시글 목록
+     * @since 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.sh.mygallery.domain.board.dto.BoardDTO$BoardExport(" +
+            "b.boardId, b.title, b.content, b.viewCount, b.commentCount, b.createdAt, b.updatedAt) " +
+            "from Board b " +
+            "where b.user.userId = :userId and b.boardId > :afterId " +
+            "order by b.boardId")
+    List<BoardDTO.BoardExport> findExportRowsByUserId(@Param("userId") Long userId,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable pageable);
+
+    /**
+     * 게시글 상세 캐시를 채우기 위해 작성자와 함께 게시글 한 건을 조회하는 메서드
+     * 트랜잭션 밖에서 호출되어도 작성자 이름을 읽을 수 있도록 작성자를 함께 조인한다.
+     *
+     * @param boardId 게시글 ID
+     * @return 작성자가 채워진 게시글
+     * @since 2026-10-18
+     */
+    @Query("select b from Board b join fetch b.user where b.boardId = :boardId")
+    Optional<Board> findWithUserByBoardId(@Param("boardId") Long boardId);
 }
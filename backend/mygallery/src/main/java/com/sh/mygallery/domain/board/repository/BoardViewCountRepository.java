@@ -0,0 +1,175 @@
+package com.sh.mygallery.domain.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아직 DB에 반영되지 않은 게시글 조회수 증가분을 Redis에 보관하는 저장소
+ *
+ * <p>조회가 발생할 때마다 boards 행을 잠그고 갱신하는 대신 Redis Hash에 HINCRBY로 누적해 두고,
+ * 스케줄러가 주기적으로 누적분을 가져가 한 번에 DB에 반영한다.</p>
+ *
+ * <ul>
+ *   <li>{@value #PENDING_KEY} : 조회 시 증가분이 누적되는 Hash (field = 게시글 ID)</li>
+ *   <li>{@value #FLUSHING_KEY} : 반영 중인 증가분 Hash, 반영이 끝나기 전까지 남아 있으므로
+ *       반영 도중 서버가 죽어도 다음 주기에 같은 배치 ID로 다시 처리된다.</li>
+ * </ul>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardViewCountRepository {
+    // 조회수 증가분이 누적되는 Hash 키
+    private static final String PENDING_KEY = "board:views:pending";
+    // DB 반영 중인 증가분을 보관하는 Hash 키
+    private static final String FLUSHING_KEY = "board:views:flushing";
+    // 반영 중인 Hash 안에서 배치 ID를 보관하는 필드명
+    public static final String BATCH_FIELD = "_batch";
+
+    /*
+     * 반영할 증가분을 원자적으로 가져가는 스크립트
+     * 1. 이전 반영이 끝나지 않은 Hash가 남아 있으면 그 배치 ID를 그대로 반환(재처리)
+     * 2. 누적된 증가분이 없으면 nil 반환
+     * 3. 누적 Hash를 반영용 Hash로 RENAME하고 새 배치 ID를 기록
+     * RENAME 이후의 조회는 새 누적 Hash에 쌓이므로 반영 중에도 증가분이 유실되지 않는다.
+     */
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  return redis.call('HGET', KEYS[2], ARGV[2]) " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "  return false " +
+            "end " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('HSET', KEYS[2], ARGV[2], ARGV[1]) " +
+            "return ARGV[1]",
+            String.class);
+
+    /*
+     * 반영이 끝난 증가분 묶음을 자신이 가져간 배치일 때만 제거하는 스크립트
+     * KEYS[1] = 반영용 Hash, ARGV[1] = 배치 ID, ARGV[2] = 배치 ID 필드명
+     * 그사이 다른 서버가 같은 배치를 끝내고 새 배치를 가져갔다면 새 배치의 증가분을 지우지 않는다.
+     */
+    private static final RedisScript<Long> DELETE_CLAIMED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], ARGV[2]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    /*
+     * 누적 중인 증가분과 반영 중인 증가분을 한 번에 읽어 합산하는 스크립트
+     * 두 Hash를 따로 읽으면 그 사이 반영 처리가 Hash를 옮기거나 지웠을 때 증가분이 두 번 더해지거나 빠진다.
+     * KEYS[1] = 누적 Hash, KEYS[2] = 반영용 Hash, ARGV = 게시글 ID 목록, 반환값 = ARGV와 같은 순서의 합계
+     */
+    private static final RedisScript<List> FIND_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local pending = redis.call('HMGET', KEYS[1], unpack(ARGV)) " +
+            "local flushing = redis.call('HMGET', KEYS[2], unpack(ARGV)) " +
+            "local result = {} " +
+            "for i = 1, #ARGV do " +
+            "  result[i] = (tonumber(pending[i]) or 0) + (tonumber(flushing[i]) or 0) " +
+            "end " +
+            "return result",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 게시글의 조회수 증가분을 1 늘리는 메서드 (HINCRBY, 원자적 연산)
+     *
+     * @param boardId 조회된 게시글 ID
+     */
+    public void increment(Long boardId) {
+        redisTemplate.opsForHash().increment(PENDING_KEY, boardId.toString(), 1);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 게시글별 증가분을 조회하는 메서드
+     * 누적 중인 값과 반영 중인 값을 스크립트 한 번으로 함께 읽어 합산한다.
+     *
+     * @param boardIds 조회할 게시글 ID 목록
+     * @return 게시글 ID별 미반영 증가분 (증가분이 없는 게시글은 포함되지 않음)
+     */
+    public Map<Long, Long> findPending(Collection<Long> boardIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (boardIds.isEmpty()) {
+            return result;
+        }
+
+        Object[] fields = new Object[boardIds.size()];
+        int index = 0;
+        for (Long boardId : boardIds) {
+            fields[index++] = boardId.toString();
+        }
+
+        // 반영 처리가 master에서 Hash를 옮기고 지우므로 복제본에서 읽으면 반영 도중 조회수가 튈 수 있어 master에서 읽음
+        List<?> deltas = redisTemplate.execute(FIND_PENDING_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY), fields);
+
+        index = 0;
+        for (Long boardId : boardIds) {
+            long delta = deltas != null ? toLong(deltas.get(index)) : 0;
+            if (delta != 0) {
+                result.put(boardId, delta);
+            }
+            index++;
+        }
+        return result;
+    }
+
+    /**
+     * DB에 반영할 증가분 묶음을 가져가는 메서드
+     *
+     * @param newBatchId 새로 가져갈 경우 부여할 배치 ID
+     * @return 처리해야 할 배치 ID (이전에 끝나지 않은 배치가 있으면 그 ID, 반영할 것이 없으면 null)
+     */
+    public String claimBatch(String newBatchId) {
+        return redisTemplate.execute(CLAIM_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY), newBatchId, BATCH_FIELD);
+    }
+
+    /**
+     * 반영 중인 증가분 묶음을 조회하는 메서드
+     *
+     * @param batchId claimBatch()로 가져간 배치 ID
+     * @return 게시글 ID별 증가분 (반영 중인 묶음이 다른 배치로 바뀌었다면 빈 Map)
+     */
+    public Map<Long, Long> findClaimed(String batchId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+        Map<Long, Long> deltas = new HashMap<>();
+        if (!batchId.equals(entries.get(BATCH_FIELD))) {
+            return deltas;
+        }
+        entries.forEach((field, value) -> {
+            if (!BATCH_FIELD.equals(field)) {
+                deltas.put(Long.valueOf(field.toString()), toLong(value));
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * DB 반영이 끝난 증가분 묶음을 제거하는 메서드
+     * 반영용 Hash가 가져간 배치의 것일 때만 제거한다.
+     *
+     * @param batchId claimBatch()로 가져간 배치 ID
+     * @return 제거했으면 true, 이미 다른 배치로 바뀌었으면 false
+     */
+    public boolean deleteClaimed(String batchId) {
+        Long deleted = redisTemplate.execute(DELETE_CLAIMED_SCRIPT, List.of(FLUSHING_KEY), batchId, BATCH_FIELD);
+        return deleted != null && deleted > 0;
+    }
+
+    // Redis에서 읽은 값을 long으로 변환 (값이 없으면 0)
+    private long toLong(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+}
@@ -0,0 +1,420 @@
+package com.sh.mygallery.domain.board.service;
+
+import com.sh.mygallery.domain.board.domain.Board;
+import com.sh.mygallery.domain.board.dto.BoardDTO;
+import com.sh.mygallery.domain.board.repository.BoardDetailCacheRepository;
+import com.sh.mygallery.domain.board.repository.BoardRepository;
+import com.sh.mygallery.domain.image.repository.ImageRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 상세 화면 데이터를 2단계로 캐시하는 read-through Service Component
+ *
+ * <p>조회 순서는 서버 내부 캐시(L1) → Redis 공유 캐시(L2) → MySQL이며, 하위 단계에서 찾은 값은 상위 단계에 채운다.
+ * 인기 게시글에 요청이 몰려도 DB 부하가 늘지 않도록 다음을 적용한다.</p>
+ * <ul>
+ *   <li>같은 게시글을 동시에 DB에서 읽어야 하는 경우 한 요청만 조회하고 나머지는 그 결과를 기다린다. (서버 단위)</li>
+ *   <li>만료가 가까워질수록 높은 확률로 한 요청이 미리 다시 조회한다. (XFetch:
+ *       now - loadMillis * beta * ln(rand) >= expiresAt) 조회에 오래 걸리는 게시글일수록 더 일찍 갱신되어
+ *       만료 순간 모든 서버가 한꺼번에 DB를 조회하지 않는다.</li>
+ *   <li>게시글 수정/삭제, 댓글 수·이미지 변경 뒤에는 invalidateAfterCommit()으로 해당 게시글만 정확히 지우고
+ *       pub/sub으로 모든 서버의 내부 캐시에서도 제거한다. Redis에는 잠시 무효화 표시를 남겨
+ *       무효화 이전에 읽은 값이 다시 저장되지 않도록 한다.</li>
+ *   <li>조회수 반영은 수 초마다 인기 게시글에 일어나므로 캐시를 지우지 않고 addFlushedViews()로
+ *       Redis 캐시의 조회수에 반영분만 더한 뒤 내부 캐시만 다시 채우게 한다.</li>
+ * </ul>
+ *
+ * <p>Redis에 장애가 있으면 Redis 단계를 건너뛰고 DB에서 조회한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Service
+@Slf4j
+public class BoardDetailCacheService implements MessageListener {
+    // 게시글 상세 캐시 무효화를 알리는 Redis pub/sub 채널
+    public static final String INVALIDATION_CHANNEL = "board:detail:invalidate";
+
+    private final BoardRepository boardRepository;
+    private final ImageRepository imageRepository;
+    private final BoardDetailCacheRepository boardDetailCacheRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 서버 내부 캐시 (boardId → 항목)
+    private final Map<Long, Entry> nearCache = new ConcurrentHashMap<>();
+    // 진행 중인 DB 조회 (boardId → 조회 결과를 기다리는 Future)
+    private final Map<Long, Load> inFlight = new ConcurrentHashMap<>();
+    // 서버 내부 캐시 최대 항목 수
+    private final int nearMaxSize;
+    // 서버 내부 캐시 보관 시간(ms)
+    private final long nearTtlMillis;
+    // Redis 캐시 보관 시간
+    private final Duration redisTtl;
+    // 무효화 후 Redis 캐시에 다시 저장하지 않는 시간
+    private final Duration tombstoneTtl;
+    // 미리 갱신하는 정도 (클수록 더 일찍 갱신, 0이면 미리 갱신하지 않음)
+    private final double earlyRefreshBeta;
+
+    // 내부 캐시 적중, Redis 캐시 적중, 미적중, 미리 갱신, 다른 요청의 조회를 기다린 횟수
+    private final LongAdder nearHitCount = new LongAdder();
+    private final LongAdder redisHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder earlyRefreshCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    // DB 조회 횟수와 조회 시간 합계(ns)
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public BoardDetailCacheService(BoardRepository boardRepository,
+                                   ImageRepository imageRepository,
+                                   BoardDetailCacheRepository boardDetailCacheRepository,
+                                   StringRedisTemplate redisTemplate,
+                                   RedisMessageListenerContainer listenerContainer,
+                                   @Value("${board.detail-cache.near.max-size:2000}") int nearMaxSize,
+                                   @Value("${board.detail-cache.near.ttl-ms:2000}") long nearTtlMillis,
+                                   @Value("${board.detail-cache.redis.ttl-seconds:60}") long redisTtlSeconds,
+                                   @Value("${board.detail-cache.redis.tombstone-ms:1000}") long tombstoneMillis,
+                                   @Value("${board.detail-cache.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        this.boardRepository = boardRepository;
+        this.imageRepository = imageRepository;
+        this.boardDetailCacheRepository = boardDetailCacheRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.nearMaxSize = nearMaxSize;
+        this.nearTtlMillis = nearTtlMillis;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.tombstoneTtl = Duration.ofMillis(tombstoneMillis);
+        this.earlyRefreshBeta = earlyRefreshBeta;
+    }
+
+    // 다른 서버에서 보낸 무효화 알림 구독
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 게시글 상세를 조회하는 메서드
+     *
+     * <p>반환되는 조회수는 캐시에 저장될 당시 DB에 반영되어 있던 값이므로
+     * 호출하는 쪽에서 Redis의 미반영 증가분을 더해야 한다.</p>
+     *
+     * @param boardId 게시글 ID
+     * @return 게시글 상세
+     * @throws IllegalArgumentException 게시글이 없는 경우 (없는 게시글은 캐시하지 않음)
+     */
+    public BoardDTO.BoardDetail get(Long boardId) {
+        long now = System.currentTimeMillis();
+        Entry entry = nearCache.get(boardId);
+        if (entry != null && entry.expiresAt > now) {
+            nearHitCount.increment();
+            return refreshIfExpiring(boardId, entry.cached, now);
+        }
+
+        Optional<BoardDTO.CachedBoardDetail> cached = findInRedis(boardId);
+        if (cached.isPresent()) {
+            redisHitCount.increment();
+            putNear(boardId, cached.get(), now);
+            return refreshIfExpiring(boardId, cached.get(), now);
+        }
+
+        missCount.increment();
+        return load(boardId);
+    }
+
+    /**
+     * 게시글 상세 캐시를 모든 서버에서 무효화하는 메서드
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 무효화하고, 트랜잭션 밖이라면 바로 무효화한다.
+     *
+     * @param boardIds 무효화할 게시글 ID 목록
+     */
+    public void invalidateAfterCommit(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(boardIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(ids);
+                }
+            });
+        } else {
+            invalidate(ids);
+        }
+    }
+
+    /**
+     * DB에 반영된 조회수 증가분을 캐시된 게시글 상세에 더하는 메서드
+     *
+     * <p>무효화하면 가장 많이 조회되는 게시글이 반영 주기마다 캐시에서 빠지고 무효화 표시 때문에 잠시 다시 저장되지도 않는다.
+     * 대신 Redis 캐시의 조회수만 늘리고, 모든 서버의 내부 캐시는 조회수가 늘어난 Redis 캐시에서 다시 채우도록 제거한다.
+     * (Redis 캐시는 남아 있으므로 DB 조회는 일어나지 않는다.)</p>
+     *
+     * @param deltas DB에 반영된 게시글 ID별 조회수 증가분
+     */
+    public void addFlushedViews(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(deltas.keySet());
+        try {
+            boardDetailCacheRepository.addViews(deltas);
+            evictLocal(ids);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    ids.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (DataAccessException e) {
+            // Redis 캐시의 조회수는 갱신 주기가 지나야 맞춰지므로, 그동안 오래된 값이 쓰이지 않도록 무효화
+            log.warn("캐시된 게시글 상세에 조회수를 반영하지 못해 무효화합니다. boardIds={}", ids, e);
+            invalidate(ids);
+        }
+    }
+
+    // Redis 캐시를 지우고 모든 서버에 내부 캐시 제거를 알림
+    private void invalidate(List<Long> boardIds) {
+        evictLocal(boardIds);
+        try {
+            boardDetailCacheRepository.invalidate(boardIds, tombstoneTtl);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    boardIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (DataAccessException e) {
+            // Redis 장애 시 다른 서버는 내부 캐시 보관 시간이 지나야 반영됨
+            log.warn("게시글 상세 캐시 무효화를 전파하지 못했습니다. boardIds={}", boardIds, e);
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자신)가 보낸 무효화 알림을 처리하는 메서드
+     *
+     * @param message 쉼표로 구분한 게시글 ID가 담긴 메시지
+     * @param pattern 구독 패턴 (사용하지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<Long> boardIds = new ArrayList<>();
+        for (String id : body.split(",")) {
+            try {
+                boardIds.add(Long.parseLong(id.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 게시글 상세 캐시 무효화 알림을 무시합니다. message={}", body);
+            }
+        }
+        evictLocal(boardIds);
+    }
+
+    // 진행 중인 조회가 끝나도 내부 캐시에 남지 않도록 표시한 뒤 내부 캐시에서 제거
+    private void evictLocal(Collection<Long> boardIds) {
+        for (Long boardId : boardIds) {
+            Load load = inFlight.remove(boardId);
+            if (load != null) {
+                load.invalidated = true;
+            }
+            nearCache.remove(boardId);
+        }
+    }
+
+    /**
+     * 만료가 가까운 항목이면 확률적으로 미리 다시 조회하는 메서드
+     * 다시 조회하다 DB 오류가 나면 아직 만료되지 않은 캐시 값을 그대로 사용한다.
+     *
+     * @param boardId 게시글 ID
+     * @param cached 캐시된 게시글 상세
+     * @param now 현재 시각(epoch ms)
+     * @return 미리 갱신했다면 새로 읽은 값, 아니라면 캐시된 값
+     */
+    private BoardDTO.BoardDetail refreshIfExpiring(Long boardId, BoardDTO.CachedBoardDetail cached, long now) {
+        if (!shouldRefreshEarly(cached, now)) {
+            return cached.getDetail();
+        }
+        earlyRefreshCount.increment();
+        try {
+            return load(boardId);
+        } catch (DataAccessException e) {
+            log.warn("게시글 상세를 미리 갱신하지 못해 캐시된 값을 사용합니다. boardId={}", boardId, e);
+            return cached.getDetail();
+        }
+    }
+
+    // XFetch: -ln(rand)는 지수분포를 따르므로 만료까지 남은 시간이 조회 시간에 가까울수록 갱신 확률이 높아짐
+    private boolean shouldRefreshEarly(BoardDTO.CachedBoardDetail cached, long now) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double gap = -cached.getLoadMillis() * earlyRefreshBeta * Math.log(random);
+        return now + gap >= cached.getExpiresAt();
+    }
+
+    /**
+     * 게시글 상세를 DB에서 읽어 두 단계의 캐시에 채우는 메서드
+     * 같은 게시글을 이미 조회 중인 요청이 있으면 새로 조회하지 않고 그 결과를 기다린다.
+     *
+     * @param boardId 게시글 ID
+     * @return 게시글 상세
+     */
+    private BoardDTO.BoardDetail load(Long boardId) {
+        Load mine = new Load();
+        Load running = inFlight.putIfAbsent(boardId, mine);
+        if (running != null) {
+            coalescedCount.increment();
+            return await(running);
+        }
+
+        try {
+            long startedAt = System.nanoTime();
+            BoardDTO.BoardDetail detail = loadFromDatabase(boardId);
+            long elapsedNanos = System.nanoTime() - startedAt;
+            loadCount.increment();
+            loadNanos.add(elapsedNanos);
+
+            long now = System.currentTimeMillis();
+            long loadMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            BoardDTO.CachedBoardDetail cached = new BoardDTO.CachedBoardDetail(detail, loadMillis, now + redisTtl.toMillis());
+            saveToRedis(cached);
+            putNear(boardId, cached, now);
+            // 조회 도중 무효화되었다면 방금 넣은 값을 제거 (무효화 쪽은 표시 후 제거하므로 어느 순서든 남지 않음)
+            if (mine.invalidated) {
+                nearCache.remove(boardId);
+            }
+            mine.future.complete(detail);
+            return detail;
+        } catch (RuntimeException | Error e) {
+            // 기다리는 요청이 멈춰 있지 않도록 실패도 전달
+            mine.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(boardId, mine);
+        }
+    }
+
+    // 다른 요청의 조회 결과를 기다림 (조회 중 발생한 예외는 그대로 다시 던짐)
+    private BoardDTO.BoardDetail await(Load load) {
+        try {
+            return load.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 게시글과 작성자, 이미지 ID 목록을 조회 (트랜잭션 없이 primary에서 조회하여 무효화 직후 복제 지연 값을 캐시하지 않음)
+    private BoardDTO.BoardDetail loadFromDatabase(Long boardId) {
+        Board board = boardRepository.findWithUserByBoardId(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시글을 찾을 수 없습니다. id=" + boardId));
+        return BoardDTO.BoardDetail.from(board, imageRepository.findIdsByBoardId(boardId));
+    }
+
+    private Optional<BoardDTO.CachedBoardDetail> findInRedis(Long boardId) {
+        try {
+            return boardDetailCacheRepository.find(boardId);
+        } catch (DataAccessException e) {
+            log.warn("Redis 게시글 상세 캐시 조회에 실패하여 DB에서 조회합니다. boardId={}", boardId, e);
+            return Optional.empty();
+        }
+    }
+
+    private void saveToRedis(BoardDTO.CachedBoardDetail cached) {
+        try {
+            boardDetailCacheRepository.save(cached, redisTtl);
+        } catch (DataAccessException e) {
+            log.warn("Redis 게시글 상세 캐시 저장에 실패했습니다. boardId={}", cached.getDetail().getBoardId(), e);
+        }
+    }
+
+    // 서버 내부 캐시에 저장 (가득 차면 만료된 항목을 정리하고, 그래도 가득 차 있으면 저장하지 않음)
+    private void putNear(Long boardId, BoardDTO.CachedBoardDetail cached, long now) {
+        if (nearCache.size() >= nearMaxSize) {
+            nearCache.values().removeIf(e -> e.expiresAt <= now);
+            if (nearCache.size() >= nearMaxSize) {
+                return;
+            }
+        }
+        // Redis 항목보다 오래 남지 않도록 보관 시간을 제한
+        nearCache.put(boardId, new Entry(cached, Math.min(now + nearTtlMillis, cached.getExpiresAt())));
+    }
+
+    // 서버 내부 캐시 적중 횟수
+    public long getNearHitCount() {
+        return nearHitCount.sum();
+    }
+
+    // Redis 캐시 적중 횟수
+    public long getRedisHitCount() {
+        return redisHitCount.sum();
+    }
+
+    // 두 단계 모두 적중하지 않은 횟수
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    // 만료 전에 미리 갱신한 횟수
+    public long getEarlyRefreshCount() {
+        return earlyRefreshCount.sum();
+    }
+
+    // 다른 요청의 DB 조회 결과를 기다린 횟수
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    // DB 조회 횟수
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    // DB 조회 시간 합계(ns)
+    public long getLoadNanos() {
+        return loadNanos.sum();
+    }
+
+    // 현재 서버 내부 캐시 항목 수
+    public int getNearSize() {
+        return nearCache.size();
+    }
+
+    /**
+     * 서버 내부 캐시 항목 (캐시된 게시글 상세와 내부 캐시 만료 시점)
+     */
+    private record Entry(BoardDTO.CachedBoardDetail cached, long expiresAt) {
+    }
+
+    /**
+     * 진행 중인 DB 조회 (기다리는 요청에게 결과를 전달하는 Future와 조회 도중 무효화 여부)
+     */
+    private static class Load {
+        private final CompletableFuture<BoardDTO.BoardDetail> future = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sh.mygallery.domain.board.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sh.mygallery.domain.board.dto.BoardDTO;
+import com.sh.mygallery.domain.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자의 게시글 전체를 응답 스트림에 바로 기록하는 내보내기(export) 객체
+ *
+ * <p>게시글을 목록으로 모두 읽은 뒤 직렬화하면 게시글 수에 비례해 힙을 사용한다.
+ * 이 서비스는 board_id 기준 keyset으로 {@value #BATCH_SIZE}건씩 조회하여 바로 기록하고 다음 묶음으로 넘어가므로,
+ * 게시글이 수만 건이어도 메모리에는 한 묶음만 남는다.
+ * 묶음마다 스트림을 flush하여 클라이언트가 느리면 쓰기에서 기다리게 되고(back-pressure), 그동안 DB 커넥션은 사용하지 않는다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardExportService {
+    // 한 번에 조회해서 기록할 게시글 수
+    private static final int BATCH_SIZE = 500;
+
+    private final BoardRepository boardRepository;
+    private final BoardViewCountService viewCountService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자의 게시글을 오래된 순으로 응답 스트림에 기록하는 메서드
+     *
+     * @param userId 작성자 ID
+     * @param format 기록 형식 (NDJSON: 한 줄에 하나, JSON: 하나의 배열)
+     * @param out 응답 스트림 (닫지 않음)
+     * @return 기록한 게시글 수
+     * @throws IOException 응답 스트림에 기록하지 못한 경우 (클라이언트 연결 종료 등)
+     */
+    public long exportBoardsByUserId(Long userId, BoardDTO.ExportFormat format, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // 응답 스트림은 컨테이너가 닫음
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // NDJSON은 최상위 값 사이에 기본 구분자(공백) 대신 줄바꿈만 기록
+        generator.setRootValueSeparator(null);
+
+        if (format == BoardDTO.ExportFormat.JSON) {
+            generator.writeStartArray();
+        }
+
+        long written = 0;
+        long afterId = 0;
+        PageRequest limit = PageRequest.ofSize(BATCH_SIZE);
+        while (true) {
+            List<BoardDTO.BoardExport> boards = boardRepository.findExportRowsByUserId(userId, afterId, limit);
+            if (boards.isEmpty()) {
+                break;
+            }
+            fillPendingViews(boards);
+
+            for (BoardDTO.BoardExport board : boards) {
+                generator.writeObject(board);
+                if (format == BoardDTO.ExportFormat.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+            }
+            // 묶음 단위로 소켓까지 밀어내기
+            generator.flush();
+            written += boards.size();
+
+            if (boards.size() < BATCH_SIZE) {
+                break;
+            }
+            afterId = boards.get(boards.size() - 1).getBoardId();
+        }
+
+        if (format == BoardDTO.ExportFormat.JSON) {
+            generator.writeEndArray();
+        }
+        generator.flush();
+        return written;
+    }
+
+    // 묶음의 조회수에 Redis의 미반영 증가분을 더함 (묶음당 Redis 조회 한 번)
+    private void fillPendingViews(List<BoardDTO.BoardExport> boards) {
+        List<Long> boardIds = boards.stream()
+                .map(BoardDTO.BoardExport::getBoardId)
+                .toList();
+        Map<Long, Long> pendingViews = viewCountService.getPendingViews(boardIds);
+        for (BoardDTO.BoardExport board : boards) {
+            board.addPendingViews(pendingViews.getOrDefault(board.getBoardId(), 0L));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.sh.mygallery.domain.board.service;
+
+import com.sh.mygallery.domain.board.domain.Board;
+import com.sh.mygallery.domain.board.dto.BoardDTO;
+import com.sh.mygallery.domain.board.exception.NoTitleException;
+import com.sh.mygallery.domain.board.exception.NotUserException;
+import com.sh.mygallery.domain.board.repository.BoardBulkRepository;
+import com.sh.mygallery.domain.board.repository.BoardRepository;
+import com.sh.mygallery.domain.image.domain.Image;
+import com.sh.mygallery.domain.image.dto.ImageDTO;
+import com.sh.mygallery.domain.image.repository.ImageBulkRepository;
+import com.sh.mygallery.domain.image.service.ImageBlobStore;
+import com.sh.mygallery.domain.search.service.BoardSearchService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 이관/가져오기 작업에서 게시글과 이미지를 대량으로 등록하는 객체
+ *
+ * <p>JPA로 게시글 한 건과 이미지 30장을 저장하면 IDENTITY 키 때문에 INSERT가 31번 따로 실행된다.
+ * 이 서비스는 게시글, 이미지, blob 참조 수를 각각 JDBC 배치로 등록하므로
+ * 호출 한 번에 실행되는 문장 수가 행 수가 아닌 배치 수에 비례한다.
+ * 파생 이미지(썸네일 등)는 ImageDerivativeService의 주기적인 작업이 생성한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Service
+@Timed(value = "mygallery.service", histogram = true)
+@RequiredArgsConstructor
+public class BoardImportService {
+    private final BoardBulkRepository boardBulkRepository;
+    private final BoardRepository boardRepository;
+    private final ImageBulkRepository imageBulkRepository;
+    private final ImageBlobStore imageBlobStore;
+    private final BoardSearchService boardSearchService;
+
+    /**
+     * 게시글과 첨부 이미지를 한 트랜잭션에서 배치로 등록하는 메서드
+     *
+     * <p>한 번의 호출이 하나의 트랜잭션이므로 수백만 건을 옮길 때는 호출하는 쪽에서
+     * 수백 ~ 수천 건 단위로 나누어 호출한다. 이미지 파일은 미리 ImageBlobStore.resolve(contentHash)
+     * 경로에 복사되어 있어야 한다.</p>
+     *
+     * @param boards 등록할 게시글 목록
+     * @return 등록된 게시글 ID (boards와 같은 순서)
+     * @throws NoTitleException 제목이 없는 게시글이 있는 경우
+     * @throws NotUserException 작성자가 지정되지 않은 게시글이 있는 경우
+     */
+    @Transactional
+    public List<Long> importBoards(List<BoardDTO.BoardImport> boards) {
+        for (BoardDTO.BoardImport board : boards) {
+            if (!StringUtils.hasText(board.getTitle())) {
+                throw new NoTitleException("게시글의 제목은 필수입니다.");
+            }
+            if (board.getUserId() == null) {
+                throw new NotUserException("게시글의 작성자는 필수입니다.");
+            }
+        }
+        if (boards.isEmpty()) {
+            return List.of();
+        }
+
+        long[] boardIds = boardBulkRepository.insertAll(boards, LocalDateTime.now());
+
+        List<Image> images = new ArrayList<>();
+        for (int i = 0; i < boards.size(); i++) {
+            List<ImageDTO.ImageImport> boardImages = boards.get(i).getImages();
+            if (boardImages == null || boardImages.isEmpty()) {
+                continue;
+            }
+            // 게시글을 조회하지 않고 ID만 가진 참조로 연결
+            Board board = boardRepository.getReferenceById(boardIds[i]);
+            for (ImageDTO.ImageImport imageImport : boardImages) {
+                Image image = Image.builder()
+                        .originalFileName(imageImport.getOriginalFileName())
+                        .storedFileName(imageImport.getContentHash())
+                        .filePath(imageBlobStore.resolve(imageImport.getContentHash()).toString())
+                        .fileSize(imageImport.getFileSize())
+                        .contentHash(imageImport.getContentHash())
+                        .contentType(imageImport.getContentType())
+                        .build();
+                image.setBoard(board);
+                images.add(image);
+            }
+        }
+
+        if (!images.isEmpty()) {
+            imageBlobStore.acquireExisting(images);
+            imageBulkRepository.insertAll(images);
+        }
+        List<Long> ids = Arrays.stream(boardIds).boxed().toList();
+        // 커밋 후 검색 색인 반영
+        boardSearchService.reindexAfterCommit(ids);
+        return ids;
+    }
+}
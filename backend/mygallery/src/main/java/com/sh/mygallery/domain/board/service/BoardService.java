@@ -1,17 +1,31 @@
 package com.sh.mygallery.domain.board.service;
 
 import com.sh.mygallery.domain.board.domain.Board;
+import com.sh.mygallery.domain.board.dto.BoardCursor;
+import com.sh.mygallery.domain.board.dto.BoardDTO;
 import com.sh.mygallery.domain.board.exception.NoTitleException;
 import com.sh.mygallery.domain.board.exception.NotUserException;
 import com.sh.mygallery.domain.board.repository.BoardRepository;
+import com.sh.mygallery.domain.comment.dto.CommentDTO;
+import com.sh.mygallery.domain.comment.service.CommentService;
+import com.sh.mygallery.domain.image.dto.ImageDTO;
+import com.sh.mygallery.domain.image.service.ImageService;
+import com.sh.mygallery.domain.search.dto.SearchDTO;
+import com.sh.mygallery.domain.search.service.BoardSearchService;
 import com.sh.mygallery.domain.user.domain.User;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * controller의 요청을 받아 올바른 Repository로 요청을 전달해 주기위한 객체
@@ -20,28 +34,217 @@ import java.util.Objects;
  * @since 2025-11-30
  */
 @Service
+@Timed(value = "mygallery.service", histogram = true)
 @RequiredArgsConstructor
 public class BoardService {
+    // 한 페이지의 기본 게시글 수
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    // 한 페이지에 허용하는 최대 게시글 수 (과도한 조회로 인한 메모리 사용 방지)
+    public static final int MAX_PAGE_SIZE = 100;
+    // 검색 결과로 넘겨볼 수 있는 최대 순위 (깊은 페이지 요청이 상위 결과 선택 비용을 키우지 않도록 제한)
+    public static final int MAX_SEARCH_RESULTS = 1000;
+
     // 알맞은 repository객체 보유
     private final BoardRepository boardRepository;
+    private final ImageService imageService;
+    private final BoardViewCountService viewCountService;
+    private final BoardSearchService boardSearchService;
+    private final CommentService commentService;
+    private final BoardDetailCacheService boardDetailCacheService;
 
     /**
-     * 게시판의 모든 글을 불러오는 메서드
+     * 게시판의 글을 최신순으로 한 페이지씩 불러오는 메서드
+     *
+     * <p>(created_at, board_id)를 기준으로 하는 keyset 페이지네이션을 사용한다.
+     * 다음 페이지 존재 여부를 별도의 count 쿼리 없이 알기 위해 size + 1건을 조회한 뒤
+     * 초과분이 있으면 잘라내고 마지막 항목으로 다음 커서를 만든다.
+     * 페이지 크기와 관계없이 게시글 1회, 이미지 요약 2회, 최신 댓글 1회의 고정된 쿼리만 실행된다.
+     * 읽기 전용 트랜잭션이므로 복제본이 설정되어 있으면 복제본에서 조회한다. (ReplicaDataSourceConfig)</p>
      *
-     * @return 모든 게시글을 List의 형태로 반환
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지라면 null)
+     * @param size 조회할 게시글 수 (1 ~ MAX_PAGE_SIZE 범위로 보정)
+     * @return 게시글 요약 목록과 다음 커서를 담은 CursorPage
+     * @since 2026-10-18
      */
-    public List<Board> getAllBoards(){
-        return boardRepository.findAll();
+    @Transactional(readOnly = true)
+    public BoardDTO.CursorPage<BoardDTO.BoardSummary> getBoards(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<BoardDTO.BoardSummary> boards;
+        if (!StringUtils.hasText(cursor)) {
+            boards = boardRepository.findFirstPage(limit);
+        } else {
+            BoardCursor decoded = BoardCursor.decode(cursor);
+            boards = boardRepository.findNextPage(decoded.getCreatedAt(), decoded.getBoardId(), limit);
+        }
+
+        boolean hasNext = boards.size() > pageSize;
+        if (hasNext) {
+            boards = boards.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            BoardDTO.BoardSummary last = boards.get(boards.size() - 1);
+            nextCursor = new BoardCursor(last.getCreatedAt(), last.getBoardId()).encode();
+        }
+
+        fillImageSummaries(boards);
+        fillPendingViews(boards);
+        fillLatestComments(boards);
+        return new BoardDTO.CursorPage<>(boards, nextCursor, hasNext);
     }
 
     /**
      * 특정 사용자가 작성한 모든 게시글을 조회하는 메서드
      *
      * @param userId 작성자 ID
-     * @return 사용자가 작성한 게시글 목록
+     * @return 사용자가 작성한 게시글 요약 목록
+     */
+    @Transactional(readOnly = true)
+    public List<BoardDTO.BoardSummary> getBoardsByUserId(Long userId) {
+        List<BoardDTO.BoardSummary> boards = boardRepository.findSummariesByUserId(userId);
+        fillImageSummaries(boards);
+        fillPendingViews(boards);
+        fillLatestComments(boards);
+        return boards;
+    }
+
+    /**
+     * 게시글 제목과 내용에서 검색어와 관련된 게시글을 점수 순으로 한 페이지 조회하는 메서드
+     *
+     * <p>순위는 메모리 검색 색인에서 계산하고, 해당 페이지의 게시글만 ID 목록으로 한 번에 조회한다.
+     * 색인에는 있지만 DB에서 찾을 수 없는 게시글(변경 알림을 놓친 경우)은 결과에서 빼고 다시 색인하도록 알린다.</p>
+     *
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 조회할 게시글 수 (1 ~ MAX_PAGE_SIZE 범위로 보정)
+     * @return 점수 순 게시글 요약 목록과 전체 일치 수를 담은 SearchPage
+     * @since 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    public SearchDTO.SearchPage<BoardDTO.BoardSummary> search(String query, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        if (!StringUtils.hasText(query) || (long) pageNumber * pageSize >= MAX_SEARCH_RESULTS) {
+            return new SearchDTO.SearchPage<>(List.of(), pageNumber, pageSize, 0, false);
+        }
+
+        int offset = pageNumber * pageSize;
+        SearchDTO.SearchHits hits = boardSearchService.search(query, offset, Math.min(pageSize, MAX_SEARCH_RESULTS - offset));
+
+        Map<Long, BoardDTO.BoardSummary> found = boardRepository.findSummariesByIds(hits.getBoardIds()).stream()
+                .collect(Collectors.toMap(BoardDTO.BoardSummary::getBoardId, Function.identity()));
+
+        // 색인의 점수 순서대로 정렬
+        List<BoardDTO.BoardSummary> boards = new ArrayList<>(hits.getBoardIds().size());
+        List<Long> stale = new ArrayList<>();
+        for (Long boardId : hits.getBoardIds()) {
+            BoardDTO.BoardSummary board = found.get(boardId);
+            if (board != null) {
+                boards.add(board);
+            } else {
+                stale.add(boardId);
+            }
+        }
+        if (!stale.isEmpty()) {
+            // 복제 지연으로 아직 보이지 않는 새 글일 수 있으므로 바로 지우지 않고 primary 기준으로 다시 색인
+            boardSearchService.reindexAfterCommit(stale);
+        }
+
+        fillImageSummaries(boards);
+        fillPendingViews(boards);
+        fillLatestComments(boards);
+        boolean hasNext = offset + hits.getBoardIds().size() < Math.min(hits.getTotalHits(), MAX_SEARCH_RESULTS);
+        return new SearchDTO.SearchPage<>(boards, pageNumber, pageSize, hits.getTotalHits(), hasNext);
+    }
+
+    /**
+     * 게시글 한 건을 조회하고 조회수를 증가시키는 메서드
+     *
+     * <p>게시글 내용과 이미지 목록은 BoardDetailCacheService의 read-through 캐시에서 가져오므로
+     * 캐시에 있는 동안에는 DB 커넥션을 사용하지 않는다. (그래서 트랜잭션을 열지 않는다.)
+     * 조회수는 DB를 직접 갱신하지 않고 BoardViewCountService를 통해 Redis에 누적한다.
+     * 응답의 조회수는 캐시에 저장된 DB 값과 아직 반영되지 않은 증가분을 합산한 값이다.</p>
+     *
+     * @param id 조회할 게시글 ID
+     * @return 조회된 게시글 정보
+     * @since 2026-10-18
+     */
+    public BoardDTO.BoardDetail getBoard(Long id) {
+        BoardDTO.BoardDetail board = boardDetailCacheService.get(id);
+
+        viewCountService.increase(id);
+        long viewCount = board.getViewCount() + viewCountService.getPendingViews(id);
+        return board.withViewCount(viewCount);
+    }
+
+    /**
+     * 게시글 요약 목록에 대표 이미지와 이미지 수를 채워 넣는 메서드
+     * 게시글 수와 관계없이 IN 절을 사용한 고정된 횟수의 쿼리로 조회한다.
+     *
+     * @param boards 이미지 정보를 채울 게시글 요약 목록
      */
-    public List<Board> getBoardsByUserId(Long userId) {
-        return boardRepository.findByUserUserId(userId);
+    private void fillImageSummaries(List<BoardDTO.BoardSummary> boards) {
+        if (boards.isEmpty()) {
+            return;
+        }
+
+        List<Long> boardIds = boards.stream()
+                .map(BoardDTO.BoardSummary::getBoardId)
+                .toList();
+
+        Map<Long, ImageDTO.BoardImageSummary> images = imageService.getBoardImageSummaries(boardIds);
+
+        for (BoardDTO.BoardSummary board : boards) {
+            ImageDTO.BoardImageSummary image = images.get(board.getBoardId());
+            if (image != null) {
+                board.applyImages(image.getThumbnailUrl(), image.getImageCount());
+            }
+        }
+    }
+
+    /**
+     * 게시글 요약 목록의 조회수에 Redis의 미반영 증가분을 더하는 메서드
+     *
+     * @param boards 조회수를 보정할 게시글 요약 목록
+     */
+    private void fillPendingViews(List<BoardDTO.BoardSummary> boards) {
+        if (boards.isEmpty()) {
+            return;
+        }
+
+        List<Long> boardIds = boards.stream()
+                .map(BoardDTO.BoardSummary::getBoardId)
+                .toList();
+
+        Map<Long, Long> pendingViews = viewCountService.getPendingViews(boardIds);
+        for (BoardDTO.BoardSummary board : boards) {
+            board.addPendingViews(pendingViews.getOrDefault(board.getBoardId(), 0L));
+        }
+    }
+
+    /**
+     * 게시글 요약 목록에 최신 댓글 미리보기를 채워 넣는 메서드
+     * 댓글 수는 boards.comment_count를 함께 조회하므로 게시글 수와 관계없이 한 번의 쿼리만 실행된다.
+     *
+     * @param boards 최신 댓글을 채울 게시글 요약 목록
+     */
+    private void fillLatestComments(List<BoardDTO.BoardSummary> boards) {
+        if (boards.isEmpty()) {
+            return;
+        }
+
+        List<Long> boardIds = boards.stream()
+                .map(BoardDTO.BoardSummary::getBoardId)
+                .toList();
+
+        Map<Long, List<CommentDTO.CommentResponse>> comments = commentService.getLatestComments(boardIds);
+        for (BoardDTO.BoardSummary board : boards) {
+            board.applyLatestComments(comments.getOrDefault(board.getBoardId(), List.of()));
+        }
     }
 
     /**
@@ -66,7 +269,10 @@ public class BoardService {
         // 게시글 저장
         // 새로운 게시글이므로 INSERT 수행
         // 저장 후 생성된 식별자(ID)가 포함된 엔티티를 반환해 줌
-        return boardRepository.save(board);
+        Board saved = boardRepository.save(board);
+        // 검색 색인 반영
+        boardSearchService.reindexAfterCommit(List.of(saved.getBoardId()));
+        return saved;
     }
 
     /**
@@ -100,6 +306,10 @@ public class BoardService {
         existingBoard.setTitle(board.getTitle());
         existingBoard.setContent(board.getContent());
 
+        // 커밋 후 검색 색인 반영과 상세 캐시 무효화
+        boardSearchService.reindexAfterCommit(List.of(id));
+        boardDetailCacheService.invalidateAfterCommit(List.of(id));
+
         // 변경 내용 저장 및 반환
         return boardRepository.save(existingBoard);
     }
@@ -120,7 +330,12 @@ public class BoardService {
         if (!Objects.equals(board.getUser().getUserId(), user.getUserId())) {
             throw new NotUserException("게시글을 삭제할 권한이 없습니다.");
         }
+        // 게시글과 함께 삭제되는 이미지들의 파일 참조 해제 (파일은 참조가 모두 사라진 뒤 정리 작업에서 삭제)
+        imageService.releaseImages(board.getImages());
         boardRepository.deleteById(id);
+        // 커밋 후 검색 색인에서 제거하고 상세 캐시 무효화
+        boardSearchService.reindexAfterCommit(List.of(id));
+        boardDetailCacheService.invalidateAfterCommit(List.of(id));
     }
 }
 
@@ -0,0 +1,124 @@
+package com.sh.mygallery.domain.board.service;
+
+import com.sh.mygallery.domain.board.repository.BoardViewCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 게시글 조회수를 Redis에 먼저 누적하고 주기적으로 DB에 반영(write-behind)하는 Service Component
+ *
+ * <p>조회할 때마다 boards.view_count를 갱신하면 인기 게시글의 같은 행에 대한 잠금 경합으로
+ * 모든 조회가 직렬화된다. 대신 Redis에 증가분만 원자적으로 누적하고,
+ * 스케줄러가 누적분을 묶어 한 번의 배치 UPDATE로 반영한다.</p>
+ *
+ * <p>반영 도중 서버가 죽으면 Redis의 반영용 Hash가 그대로 남아 다음 주기에 같은 배치 ID로 재처리된다.
+ * 배치 ID는 UPDATE와 같은 트랜잭션에서 board_view_flushes 테이블에 기록되므로,
+ * 이미 커밋된 배치를 다시 처리하더라도 조회수가 두 번 더해지지 않는다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BoardViewCountService {
+    // 처리된 배치 ID 기록 (이미 존재하면 0건 INSERT → 반영 생략)
+    private static final String INSERT_BATCH_SQL =
+            "INSERT IGNORE INTO board_view_flushes (batch_id, flushed_at) VALUES (?, NOW())";
+    // 조회수 증가분 반영 (updated_at은 그대로 두어 검색 색인의 재색인 대상이 되지 않도록 함)
+    private static final String UPDATE_VIEW_COUNT_SQL =
+            "UPDATE boards SET view_count = view_count + ?, updated_at = updated_at WHERE board_id = ?";
+    // 재처리 가능성이 없어진 오래된 배치 기록 정리
+    private static final String DELETE_OLD_BATCH_SQL =
+            "DELETE FROM board_view_flushes WHERE flushed_at < NOW() - INTERVAL 1 DAY";
+
+    private final BoardViewCountRepository viewCountRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardDetailCacheService boardDetailCacheService;
+
+    /**
+     * 게시글 조회수를 1 증가시키는 메서드
+     * DB가 아닌 Redis에만 기록되며, 실제 DB 반영은 flush()에서 이루어진다.
+     *
+     * @param boardId 조회된 게시글 ID
+     */
+    public void increase(Long boardId) {
+        viewCountRepository.increment(boardId);
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 게시글별 조회수 증가분을 조회하는 메서드
+     * 화면에 보여줄 조회수는 DB의 view_count에 이 값을 더한 값이다.
+     *
+     * @param boardIds 조회할 게시글 ID 목록
+     * @return 게시글 ID별 미반영 증가분
+     */
+    public Map<Long, Long> getPendingViews(Collection<Long> boardIds) {
+        return viewCountRepository.findPending(boardIds);
+    }
+
+    /**
+     * 게시글 한 건의 미반영 조회수 증가분을 조회하는 메서드
+     *
+     * @param boardId 조회할 게시글 ID
+     * @return 미반영 증가분
+     */
+    public long getPendingViews(Long boardId) {
+        return viewCountRepository.findPending(List.of(boardId)).getOrDefault(boardId, 0L);
+    }
+
+    /**
+     * Redis에 누적된 조회수 증가분을 DB에 반영하는 메서드
+     *
+     * <p>한 주기에 누적분을 한 묶음(배치)으로 가져가 JDBC 배치 UPDATE 한 번으로 반영한 뒤
+     * Redis의 반영용 Hash를 제거한다. 이전 주기에 끝나지 않은 배치가 남아 있으면 그것부터 처리한다.</p>
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        String batchId = viewCountRepository.claimBatch(UUID.randomUUID().toString());
+        if (batchId == null) {
+            // 반영할 증가분 없음
+            return;
+        }
+
+        Map<Long, Long> deltas = viewCountRepository.findClaimed(batchId);
+        if (deltas.isEmpty()) {
+            // 그사이 다른 서버가 이 배치를 끝냈음 (다른 배치로 바뀌었다면 제거되지 않음)
+            viewCountRepository.deleteClaimed(batchId);
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((boardId, delta) -> args.add(new Object[]{delta, boardId}));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 같은 배치가 이미 커밋되었다면(반영 후 Redis 정리 전에 중단된 경우) 다시 더하지 않음
+            if (jdbcTemplate.update(INSERT_BATCH_SQL, batchId) == 0) {
+                log.info("이미 반영된 조회수 배치를 건너뜁니다. batchId={}", batchId);
+                return;
+            }
+            jdbcTemplate.batchUpdate(UPDATE_VIEW_COUNT_SQL, args);
+            jdbcTemplate.update(DELETE_OLD_BATCH_SQL);
+        });
+
+        if (!viewCountRepository.deleteClaimed(batchId)) {
+            // 같은 배치를 함께 처리한 다른 서버가 먼저 제거한 경우 (캐시 반영도 그 서버가 함)
+            log.info("반영용 조회수 묶음을 다른 서버가 이미 제거했습니다. batchId={}", batchId);
+            return;
+        }
+        // 미반영분이 DB로 옮겨졌으므로 캐시에 저장된 DB 조회수에도 더해 조회수가 줄어 보이지 않도록 함
+        // (반영용 Hash를 제거한 서버만 더하므로 같은 배치가 두 번 더해지지 않음)
+        boardDetailCacheService.addFlushedViews(deltas);
+        log.debug("조회수 배치 반영 완료. batchId={}, boards={}", batchId, args.size());
+    }
+}
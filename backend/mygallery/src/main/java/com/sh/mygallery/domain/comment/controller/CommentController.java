@@ -0,0 +1,70 @@
+package com.sh.mygallery.domain.comment.controller;
+
+import com.sh.mygallery.domain.board.dto.BoardDTO;
+import com.sh.mygallery.domain.comment.dto.CommentDTO;
+import com.sh.mygallery.domain.comment.service.CommentService;
+import com.sh.mygallery.domain.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Comments관련된 Service를 찾아 명령하는 Controller
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Controller
+@RequiredArgsConstructor
+@RequestMapping("/api/boards/{boardId}/comments")
+public class CommentController {
+    // 알맞은 service객체 보유
+    private final CommentService commentService;
+
+    /**
+     * 게시글의 댓글을 작성 순으로 한 페이지씩 조회하는 메서드
+     * 응답에 포함된 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회할 수 있다.
+     *
+     * @param boardId 게시글 ID
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지 조회 시 생략)
+     * @param size 한 페이지에 조회할 댓글 수
+     * @return 조회된 댓글 목록과 다음 커서를 ResponseEntity로 감싸서 반환
+     */
+    @GetMapping
+    public ResponseEntity<BoardDTO.CursorPage<CommentDTO.CommentResponse>> getComments(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(commentService.getComments(boardId, cursor, size));
+    }
+
+    /**
+     * 댓글 작성을 처리하는 메서드
+     *
+     * @param boardId 댓글을 달 게시글 ID
+     * @param request 댓글 내용
+     * @return 저장된 댓글 정보
+     */
+    @PostMapping
+    public ResponseEntity<CommentDTO.CommentResponse> write(@PathVariable Long boardId,
+                                                            @RequestBody CommentDTO.CommentRequest request,
+                                                            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(commentService.write(boardId, request, user));
+    }
+
+    /**
+     * 댓글 삭제를 처리하는 메서드
+     *
+     * @param boardId 댓글이 달린 게시글 ID
+     * @param commentId 삭제할 댓글 ID
+     * @return 삭제 성공 여부를 포함한 응답
+     */
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<Void> delete(@PathVariable Long boardId, @PathVariable Long commentId,
+                                       @AuthenticationPrincipal User user) {
+        commentService.delete(boardId, commentId, user);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.sh.mygallery.domain.comment.domain;
+
+import com.sh.mygallery.domain.board.domain.Board;
+import com.sh.mygallery.domain.user.domain.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * comments table에 매칭할 엔터티 선언
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "comments", indexes = {
+        // 게시글별 댓글 keyset 페이지네이션과 최신 댓글 조회의 정렬 기준과 동일한 순서의 복합 인덱스
+        @Index(name = "idx_comments_board_id_created_at", columnList = "board_id, created_at, comment_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Comment {
+    // comments 기본키(PK) 식별자
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    // 댓글이 달린 게시글(fk), 게시글이 삭제되면 DB에서 함께 삭제
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Board board;
+
+    // 작성자(fk)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "writer_id", nullable = false)
+    private User user;
+
+    // 댓글 내용
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    // 생성날짜
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public Comment(Board board, User user, String content) {
+        this.board = board;
+        this.user = user;
+        this.content = content;
+    }
+
+    // INSERT 직전 생성날짜 초기화 (댓글 목록 정렬 기준이므로 null이 되면 안 됨)
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,66 @@
+package com.sh.mygallery.domain.comment.dto;
+
+import com.sh.mygallery.domain.comment.exception.InvalidCommentCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 댓글 목록의 keyset 페이지네이션에 사용하는 커서
+ *
+ * <p>마지막으로 내려준 댓글의 (created_at, comment_id)를 담고 있으며,
+ * 클라이언트에는 URL-safe Base64로 인코딩한 불투명한 문자열로만 노출한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+    // 인코딩 시 생성날짜와 댓글 ID를 구분하는 문자
+    private static final String DELIMITER = "|";
+
+    // 마지막으로 본 댓글의 생성날짜
+    private final LocalDateTime createdAt;
+
+    // 마지막으로 본 댓글의 ID
+    private final Long commentId;
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 인코딩하는 메서드
+     *
+     * @return URL-safe Base64로 인코딩된 커서 토큰
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + commentId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 토큰을 해석하는 메서드
+     *
+     * @param token encode()로 생성된 커서 토큰
+     * @return 해석된 CommentCursor
+     * @throws InvalidCommentCursorException 토큰의 형식이 올바르지 않은 경우
+     */
+    public static CommentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new InvalidCommentCursorException("잘못된 커서입니다.");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, index));
+            Long commentId = Long.parseLong(raw.substring(index + 1));
+            return new CommentCursor(createdAt, commentId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 디코딩 실패, 숫자 변환 실패(NumberFormatException) 포함
+            throw new InvalidCommentCursorException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.sh.mygallery.domain.comment.dto;
+
+import com.sh.mygallery.domain.comment.domain.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Comment 엔티티를 직접 노출하지 않고 필요한 데이터만 다룰때 사용할 DTO
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class CommentDTO {
+
+    /**
+     * 댓글 작성 요청 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CommentRequest {
+        // 댓글 내용
+        private String content;
+    }
+
+    /**
+     * 댓글 응답 DTO
+     * 게시글 상세의 댓글 목록과 게시글 목록의 최신 댓글 미리보기에 함께 사용한다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CommentResponse {
+        private Long commentId;
+        private Long boardId;
+        private String content;
+        // 작성자 이름
+        private String authorName;
+        private LocalDateTime createdAt;
+
+        // 엔티티를 응답 DTO로 변환하는 정적 팩토리 메서드
+        public static CommentResponse from(Comment comment) {
+            return new CommentResponse(
+                    comment.getCommentId(),
+                    comment.getBoard().getBoardId(),
+                    comment.getContent(),
+                    comment.getUser() != null ? comment.getUser().getDisplayName() : null,
+                    comment.getCreatedAt()
+            );
+        }
+    }
+}
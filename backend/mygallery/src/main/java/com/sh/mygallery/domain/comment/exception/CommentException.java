@@ -0,0 +1,25 @@
+package com.sh.mygallery.domain.comment.exception;
+
+/**
+ * Comment와 관련된 모든 예외(Exception)을 처리해 줄 객체
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class CommentException extends RuntimeException {
+    public CommentException() {
+        super();
+    }
+
+    public CommentException(String message) {
+        super(message);
+    }
+
+    public CommentException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CommentException(Throwable cause) {
+        super(cause);
+    }
+}
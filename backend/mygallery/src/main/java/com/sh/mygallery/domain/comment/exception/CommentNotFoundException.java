@@ -0,0 +1,21 @@
+package com.sh.mygallery.domain.comment.exception;
+
+/**
+ * 댓글 또는 댓글을 달 게시글을 찾을 수 없는 경우 반환할 Exception
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class CommentNotFoundException extends CommentException {
+    public CommentNotFoundException(String message) {
+        super(message);
+    }
+
+    public CommentNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CommentNotFoundException(Throwable cause) {
+        super(cause);
+    }
+}
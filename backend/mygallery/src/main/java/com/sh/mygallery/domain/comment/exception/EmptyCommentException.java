@@ -0,0 +1,21 @@
+package com.sh.mygallery.domain.comment.exception;
+
+/**
+ * 댓글 내용이 없는 경우 반환할 Exception
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class EmptyCommentException extends CommentException {
+    public EmptyCommentException(String message) {
+        super(message);
+    }
+
+    public EmptyCommentException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public EmptyCommentException(Throwable cause) {
+        super(cause);
+    }
+}
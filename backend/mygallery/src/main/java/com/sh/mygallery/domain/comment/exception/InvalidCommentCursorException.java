@@ -0,0 +1,21 @@
+package com.sh.mygallery.domain.comment.exception;
+
+/**
+ * 댓글 목록 조회 시 전달된 커서를 해석할 수 없는 경우 반환할 Exception
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class InvalidCommentCursorException extends CommentException {
+    public InvalidCommentCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCommentCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidCommentCursorException(Throwable cause) {
+        super(cause);
+    }
+}
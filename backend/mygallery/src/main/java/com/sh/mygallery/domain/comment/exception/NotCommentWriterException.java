@@ -0,0 +1,21 @@
+package com.sh.mygallery.domain.comment.exception;
+
+/**
+ * 로그인하지 않았거나 댓글 작성자가 아닌 사용자가 댓글을 작성/삭제하려는 경우 반환할 Exception
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class NotCommentWriterException extends CommentException {
+    public NotCommentWriterException(String message) {
+        super(message);
+    }
+
+    public NotCommentWriterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public NotCommentWriterException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,64 @@
+package com.sh.mygallery.domain.comment.repository;
+
+import com.sh.mygallery.domain.comment.dto.CommentDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 게시글 목록에 표시할 게시글별 최신 댓글을 조회하는 저장소
+ *
+ * <p>게시글마다 "최신 N건"을 가져오는 LIMIT 쿼리를 UNION ALL로 이어 붙여 한 번의 쿼리로 한 페이지 전체를 조회한다.
+ * 각 게시글의 쿼리는 (board_id, created_at, comment_id) 인덱스를 최신순으로 N건만 읽고 멈추므로,
+ * 게시글의 댓글이 아무리 많아도 읽는 행 수는 게시글 수 × N으로 정해진다.
+ * (윈도 함수로 게시글별 순위를 매기면 페이지에 있는 게시글의 댓글을 모두 읽어야 한다.)
+ * JPQL로는 표현할 수 없어 SQL로 직접 조회한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentPreviewRepository {
+    // 게시글 한 개의 최신 댓글 쿼리 (%d = 게시글 파라미터 번호)
+    private static final String LATEST_COMMENTS_OF_BOARD_SQL =
+            "(SELECT c.comment_id, c.board_id, c.content, u.username, c.created_at" +
+            " FROM comments c JOIN users u ON u.user_id = c.writer_id" +
+            " WHERE c.board_id = :boardId%d" +
+            " ORDER BY c.created_at DESC, c.comment_id DESC" +
+            " LIMIT :limit)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글별 최신 댓글을 한 번의 쿼리로 조회하는 메서드
+     *
+     * @param boardIds 조회할 게시글 ID 목록 (비어 있으면 안 됨)
+     * @param limit 게시글마다 가져올 최대 댓글 수
+     * @return 게시글 ID 순, 같은 게시글 안에서는 최신순으로 정렬된 댓글 목록
+     */
+    public List<CommentDTO.CommentResponse> findLatestByBoardIds(Collection<Long> boardIds, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        StringJoiner sql = new StringJoiner(" UNION ALL ",
+                "SELECT r.comment_id, r.board_id, r.content, r.username, r.created_at FROM (",
+                ") r ORDER BY r.board_id, r.created_at DESC, r.comment_id DESC");
+        int index = 0;
+        for (Long boardId : boardIds) {
+            params.addValue("boardId" + index, boardId);
+            sql.add(LATEST_COMMENTS_OF_BOARD_SQL.formatted(index));
+            index++;
+        }
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new CommentDTO.CommentResponse(
+                rs.getLong("comment_id"),
+                rs.getLong("board_id"),
+                rs.getString("content"),
+                rs.getString("username"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ));
+    }
+}
@@ -0,0 +1,61 @@
+package com.sh.mygallery.domain.comment.repository;
+
+import com.sh.mygallery.domain.comment.domain.Comment;
+import com.sh.mygallery.domain.comment.dto.CommentDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 직접 Comments Table에 접근하여 database를 다룰 객체
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 특정 게시글에 달린 댓글 한 건 조회 (다른 게시글의 댓글 ID로 삭제하는 것을 방지)
+    Optional<Comment> findByCommentIdAndBoardBoardId(Long commentId, Long boardId);
+
+    /**
+     * 게시글의 댓글을 오래된 순으로 첫 페이지만 조회하는 메서드
+     *
+     * @param boardId 게시글 ID
+     * @param pageable 조회할 최대 건수를 담은 Pageable (page = 0)
+     * @return 작성 순으로 정렬된 댓글 목록
+     */
+    @Query("select new com.sh.mygallery.domain.comment.dto.CommentDTO$CommentResponse(" +
+            "c.commentId, c.board.boardId, c.content, u.username, c.createdAt) " +
+            "from Comment c join c.user u " +
+            "where c.board.boardId = :boardId " +
+            "order by c.createdAt, c.commentId")
+    List<CommentDTO.CommentResponse> findFirstPage(@Param("boardId") Long boardId, Pageable pageable);
+
+    /**
+     * 커서(마지막으로 본 댓글의 created_at, comment_id) 이후의 댓글을 조회하는 메서드
+     * (board_id, created_at, comment_id) 인덱스에서 커서 위치부터 바로 탐색한다.
+     *
+     * @param boardId 게시글 ID
+     * @param createdAt 마지막으로 본 댓글의 생성날짜
+     * @param commentId 마지막으로 본 댓글의 ID (생성날짜가 같은 경우의 순서 보장용)
+     * @param pageable 조회할 최대 건수를 담은 Pageable (page = 0)
+     * @return 커서 이후의 댓글 목록
+     */
+    @Query("select new com.sh.mygallery.domain.comment.dto.CommentDTO$CommentResponse(" +
+            "c.commentId, c.board.boardId, c.content, u.username, c.createdAt) " +
+            "from Comment c join c.user u " +
+            "where c.board.boardId = :boardId " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.commentId > :commentId)) " +
+            "order by c.createdAt, c.commentId")
+    List<CommentDTO.CommentResponse> findNextPage(@Param("boardId") Long boardId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("commentId") Long commentId,
+                                                  Pageable pageable);
+}
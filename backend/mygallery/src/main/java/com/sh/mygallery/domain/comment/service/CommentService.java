@@ -0,0 +1,173 @@
+package com.sh.mygallery.domain.comment.service;
+
+import com.sh.mygallery.domain.board.dto.BoardDTO;
+import com.sh.mygallery.domain.board.repository.BoardRepository;
+import com.sh.mygallery.domain.board.service.BoardDetailCacheService;
+import com.sh.mygallery.domain.comment.domain.Comment;
+import com.sh.mygallery.domain.comment.dto.CommentCursor;
+import com.sh.mygallery.domain.comment.dto.CommentDTO;
+import com.sh.mygallery.domain.comment.exception.CommentNotFoundException;
+import com.sh.mygallery.domain.comment.exception.EmptyCommentException;
+import com.sh.mygallery.domain.comment.exception.NotCommentWriterException;
+import com.sh.mygallery.domain.comment.repository.CommentPreviewRepository;
+import com.sh.mygallery.domain.comment.repository.CommentRepository;
+import com.sh.mygallery.domain.user.domain.User;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 댓글의 작성/삭제/조회를 담당하는 객체
+ *
+ * <p>게시글의 댓글 수는 boards.comment_count에 비정규화하여 보관한다.
+ * 댓글을 작성/삭제하는 트랜잭션 안에서 상대값 UPDATE(comment_count ± 1)로 함께 갱신하므로
+ * 목록 조회 시 게시글마다 COUNT 쿼리를 실행하지 않아도 되고, 동시에 작성되어도 증가분이 유실되지 않는다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Service
+@Timed(value = "mygallery.service", histogram = true)
+public class CommentService {
+    // 한 페이지의 기본 댓글 수
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    // 한 페이지에 허용하는 최대 댓글 수
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final CommentPreviewRepository commentPreviewRepository;
+    private final BoardRepository boardRepository;
+    private final BoardDetailCacheService boardDetailCacheService;
+    // 게시글 목록에서 게시글마다 미리 보여줄 최신 댓글 수
+    private final int previewSize;
+
+    public CommentService(CommentRepository commentRepository,
+                          CommentPreviewRepository commentPreviewRepository,
+                          BoardRepository boardRepository,
+                          BoardDetailCacheService boardDetailCacheService,
+                          @Value("${comment.preview-size:3}") int previewSize) {
+        this.commentRepository = commentRepository;
+        this.commentPreviewRepository = commentPreviewRepository;
+        this.boardRepository = boardRepository;
+        this.boardDetailCacheService = boardDetailCacheService;
+        this.previewSize = previewSize;
+    }
+
+    /**
+     * 게시글에 댓글을 작성하는 메서드
+     *
+     * <p>먼저 게시글의 댓글 수를 증가시켜 게시글 존재 여부를 확인하고 행을 잠근 뒤 댓글을 저장한다.
+     * 게시글 삭제와 동시에 실행되어도 삭제된 게시글에 댓글이 남거나 댓글 수가 어긋나지 않는다.</p>
+     *
+     * @param boardId 댓글을 달 게시글 ID
+     * @param request 댓글 내용
+     * @param user 현재 로그인한 사용자
+     * @return 저장된 댓글
+     */
+    @Transactional
+    public CommentDTO.CommentResponse write(Long boardId, CommentDTO.CommentRequest request, User user) {
+        if (user == null) {
+            throw new NotCommentWriterException("로그인하지 않은 사용자는 댓글을 작성할 수 없습니다.");
+        }
+        if (request == null || !StringUtils.hasText(request.getContent())) {
+            throw new EmptyCommentException("댓글 내용은 필수입니다.");
+        }
+
+        if (boardRepository.addCommentCount(boardId, 1) == 0) {
+            throw new IllegalArgumentException("해당 게시글을 찾을 수 없습니다. id=" + boardId);
+        }
+
+        // 커밋 후 댓글 수가 바뀐 게시글의 상세 캐시 무효화
+        boardDetailCacheService.invalidateAfterCommit(List.of(boardId));
+
+        // 게시글을 조회하지 않고 ID만 가진 참조로 연결
+        Comment comment = new Comment(boardRepository.getReferenceById(boardId), user, request.getContent());
+        return CommentDTO.CommentResponse.from(commentRepository.save(comment));
+    }
+
+    /**
+     * 댓글을 삭제하는 메서드
+     *
+     * @param boardId 댓글이 달린 게시글 ID
+     * @param commentId 삭제할 댓글 ID
+     * @param user 현재 로그인한 사용자
+     */
+    @Transactional
+    public void delete(Long boardId, Long commentId, User user) {
+        Comment comment = commentRepository.findByCommentIdAndBoardBoardId(commentId, boardId)
+                .orElseThrow(() -> new CommentNotFoundException("해당 댓글을 찾을 수 없습니다. id=" + commentId));
+
+        // 댓글 작성자와 현재 로그인한 사용자가 동일한지 확인
+        if (user == null || !Objects.equals(comment.getUser().getUserId(), user.getUserId())) {
+            throw new NotCommentWriterException("댓글을 삭제할 권한이 없습니다.");
+        }
+
+        // 작성과 같은 순서(게시글 → 댓글)로 잠가 교착 상태를 피함
+        boardRepository.addCommentCount(boardId, -1);
+        commentRepository.delete(comment);
+        // 커밋 후 댓글 수가 바뀐 게시글의 상세 캐시 무효화
+        boardDetailCacheService.invalidateAfterCommit(List.of(boardId));
+    }
+
+    /**
+     * 게시글의 댓글을 작성 순으로 한 페이지씩 불러오는 메서드
+     *
+     * <p>(created_at, comment_id)를 기준으로 하는 keyset 페이지네이션을 사용한다.
+     * 다음 페이지 존재 여부를 알기 위해 size + 1건을 조회한 뒤 초과분이 있으면 잘라낸다.</p>
+     *
+     * @param boardId 게시글 ID
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지라면 null)
+     * @param size 조회할 댓글 수 (1 ~ MAX_PAGE_SIZE 범위로 보정)
+     * @return 댓글 목록과 다음 커서를 담은 CursorPage
+     */
+    @Transactional(readOnly = true)
+    public BoardDTO.CursorPage<CommentDTO.CommentResponse> getComments(Long boardId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<CommentDTO.CommentResponse> comments;
+        if (!StringUtils.hasText(cursor)) {
+            comments = commentRepository.findFirstPage(boardId, limit);
+        } else {
+            CommentCursor decoded = CommentCursor.decode(cursor);
+            comments = commentRepository.findNextPage(boardId, decoded.getCreatedAt(), decoded.getCommentId(), limit);
+        }
+
+        boolean hasNext = comments.size() > pageSize;
+        if (hasNext) {
+            comments = comments.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentDTO.CommentResponse last = comments.get(comments.size() - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt(), last.getCommentId()).encode();
+        }
+        return new BoardDTO.CursorPage<>(comments, nextCursor, hasNext);
+    }
+
+    /**
+     * 게시글별 최신 댓글을 한 번의 쿼리로 조회하는 메서드
+     * 게시글 목록 한 페이지 분량의 미리보기를 채울 때 사용한다.
+     *
+     * @param boardIds 조회할 게시글 ID 목록
+     * @return 게시글 ID → 최신순 댓글 목록 (댓글이 없는 게시글은 포함되지 않음)
+     */
+    public Map<Long, List<CommentDTO.CommentResponse>> getLatestComments(Collection<Long> boardIds) {
+        if (boardIds.isEmpty() || previewSize <= 0) {
+            return Map.of();
+        }
+        return commentPreviewRepository.findLatestByBoardIds(boardIds, previewSize).stream()
+                .collect(Collectors.groupingBy(CommentDTO.CommentResponse::getBoardId));
+    }
+}
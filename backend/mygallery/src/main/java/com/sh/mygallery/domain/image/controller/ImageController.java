@@ -0,0 +1,48 @@
+package com.sh.mygallery.domain.image.controller;
+
+import com.sh.mygallery.domain.image.dto.ImageDTO;
+import com.sh.mygallery.domain.image.service.ImageService;
+import com.sh.mygallery.domain.user.domain.User;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Images관련된 Service를 찾아 명령하는 Controller
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImageController {
+    // 알맞은 service객체 보유
+    private final ImageService imageService;
+
+    /**
+     * 게시글에 이미지를 업로드하는 메서드
+     *
+     * <p>MultipartFile로 바인딩하지 않고 요청 객체를 그대로 넘겨
+     * 서비스에서 요청 본문을 스트리밍으로 읽도록 한다. (MultipartFile 바인딩 시 본문 전체가 먼저 버퍼링됨)</p>
+     *
+     * @param boardId 이미지를 첨부할 게시글 ID
+     * @param request multipart/form-data 요청
+     * @param user 현재 로그인한 사용자
+     * @return 저장된 이미지 정보 목록과 201(CREATED)
+     * @throws IOException 요청 본문을 읽는 중 발생하는 예외
+     */
+    @PostMapping(value = "/api/boards/{boardId}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<ImageDTO.ImageResponse>> upload(@PathVariable Long boardId,
+                                                               HttpServletRequest request,
+                                                               @AuthenticationPrincipal User user) throws IOException {
+        List<ImageDTO.ImageResponse> images = imageService.upload(boardId, request, user);
+        return new ResponseEntity<>(images, HttpStatus.CREATED);
+    }
+}
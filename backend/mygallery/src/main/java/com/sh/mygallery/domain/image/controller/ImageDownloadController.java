@@ -0,0 +1,356 @@
+package com.sh.mygallery.domain.image.controller;
+
+import com.sh.mygallery.domain.image.dto.ImageDTO;
+import com.sh.mygallery.domain.image.service.ImageArchiveService;
+import com.sh.mygallery.domain.image.service.ImageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 저장소에 있는 이미지 파일을 내려주는 Controller
+ *
+ * <p>이미지 바이트는 JVM 힙을 거치지 않도록 Tomcat의 sendfile 기능으로 전송한다.
+ * 커넥터가 sendfile을 지원하지 않는 경우에는 FileChannel.transferTo로 응답 스트림에 직접 전송한다.
+ * 저장된 파일은 내용이 바뀌지 않으므로(수정 시 새 파일로 저장) 내용 해시를 강한 ETag로 사용하고
+ * 브라우저/CDN이 오래 캐시할 수 있도록 immutable 캐시 헤더를 내려준다.</p>
+ *
+ * <p>게시글 또는 사용자의 이미지 전체는 압축하지 않은 ZIP 파일 하나로 응답에 바로 기록하여 내려준다.
+ * 압축 파일도 같은 Range/If-Range 규칙으로 중단된 위치부터 이어받을 수 있다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImageDownloadController {
+    // 1년간 캐시, 만료 전에는 재검증도 하지 않음
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // 압축 파일은 이미지가 추가/삭제되면 내용이 바뀌므로 캐시하지 않음 (이어받기는 ETag로 검증)
+    private static final String ARCHIVE_CACHE_CONTROL = "private, no-store";
+    private static final String ZIP_CONTENT_TYPE = "application/zip";
+
+    // Tomcat sendfile 관련 요청 속성 (org.apache.catalina.Globals 참고)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // Range 헤더를 해석할 수 없거나 적용하지 않는 경우 (전체 파일 전송)
+    private static final long[] FULL_CONTENT = null;
+    // 요청한 범위가 파일 크기를 벗어난 경우 (416 응답)
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    // 알맞은 service객체 보유
+    private final ImageService imageService;
+    private final ImageArchiveService imageArchiveService;
+
+    /**
+     * 이미지 파일을 내려주는 메서드
+     *
+     * <ul>
+     *   <li>If-None-Match가 현재 ETag와 일치하면 본문 없이 304(NOT_MODIFIED)를 반환한다.</li>
+     *   <li>Range 헤더가 있으면 단일 범위에 한해 206(PARTIAL_CONTENT)으로 일부만 전송한다.
+     *       If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 전송한다.</li>
+     *   <li>HEAD 요청은 헤더만 반환한다.</li>
+     * </ul>
+     *
+     * @param imageId 내려받을 이미지 ID
+     * @param variant 파생 이미지 이름(thumbnail, medium, large), 생략하면 원본
+     * @param request 클라이언트가 보낸 요청
+     * @param response 클라이언트에게 보내는 응답객체
+     * @throws IOException 파일 전송 중 발생하는 예외
+     */
+    @GetMapping("/api/images/{imageId}")
+    public void download(@PathVariable Long imageId,
+                         @RequestParam(required = false) String variant,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        ImageDTO.ImageFile file = imageService.getImageFile(imageId, variant);
+        String etag = file.getContentHash() != null ? "\"" + file.getContentHash() + "\"" : null;
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+
+        // 조건부 요청: 클라이언트가 이미 같은 내용을 가지고 있으면 304
+        if (etag != null && matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = file.getSize();
+        long start = 0;
+        long end = length - 1;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && isIfRangeSatisfied(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            long[] range = parseRange(rangeHeader, length);
+            if (range == UNSATISFIABLE) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (range != FULL_CONTENT) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(file.getContentType());
+        response.setContentLengthLong(count);
+
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // Tomcat이 서블릿 처리 후 sendfile 시스템 콜로 파일 → 소켓을 직접 전송
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.getPath().toRealPath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1); // end는 배타적(exclusive) 위치
+            return;
+        }
+
+        // sendfile을 사용할 수 없는 환경: transferTo로 파일 채널에서 응답 채널로 전송
+        try (FileChannel source = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = source.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    // 전송 도중 파일이 잘린 경우 무한 루프 방지
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * 게시글에 첨부된 이미지 전체를 ZIP 파일로 내려주는 메서드
+     *
+     * @param boardId 게시글 ID
+     * @param request 클라이언트가 보낸 요청
+     * @param response 클라이언트에게 보내는 응답객체
+     * @throws IOException 파일 전송 중 발생하는 예외
+     * @since 2026-10-18
+     */
+    @GetMapping("/api/boards/{boardId}/images/archive")
+    public void downloadBoardArchive(@PathVariable Long boardId,
+                                     HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        imageArchiveService.acquireSlot();
+        try {
+            sendArchive(imageArchiveService.getBoardArchive(boardId), request, response);
+        } finally {
+            imageArchiveService.releaseSlot();
+        }
+    }
+
+    /**
+     * 사용자가 작성한 모든 게시글의 이미지 전체를 게시글별 디렉토리로 나눈 ZIP 파일로 내려주는 메서드
+     *
+     * @param userId 작성자 ID
+     * @param request 클라이언트가 보낸 요청
+     * @param response 클라이언트에게 보내는 응답객체
+     * @throws IOException 파일 전송 중 발생하는 예외
+     * @since 2026-10-18
+     */
+    @GetMapping("/api/boards/user/{userId}/images/archive")
+    public void downloadUserArchive(@PathVariable Long userId,
+                                    HttpServletRequest request,
+                                    HttpServletResponse response) throws IOException {
+        imageArchiveService.acquireSlot();
+        try {
+            sendArchive(imageArchiveService.getUserArchive(userId), request, response);
+        } finally {
+            imageArchiveService.releaseSlot();
+        }
+    }
+
+    /**
+     * 압축 파일 전체 또는 Range로 요청한 일부를 응답으로 기록하는 메서드
+     *
+     * <p>압축 파일은 요청마다 새로 만들지만 이미지 구성이 같으면 같은 바이트가 만들어진다.
+     * 클라이언트는 받은 ETag를 If-Range에 담아 중단된 위치부터 다시 요청할 수 있으며,
+     * 그사이 이미지가 바뀌었다면 Range를 무시하고 처음부터 전송한다.
+     * 응답은 요청 스레드에서 직접 기록하므로 클라이언트가 느리면 쓰기에서 기다리게 된다.</p>
+     *
+     * @param archive 압축 파일 배치 정보
+     * @param request 클라이언트가 보낸 요청
+     * @param response 클라이언트에게 보내는 응답객체
+     * @throws IOException 파일 전송 중 발생하는 예외
+     */
+    private void sendArchive(ImageDTO.ImageArchive archive,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        String etag = archive.getEtag();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, ARCHIVE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(archive.getFileName())
+                .build()
+                .toString());
+
+        long length = archive.getLength();
+        long start = 0;
+        long end = length - 1;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && isIfRangeSatisfied(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            long[] range = parseRange(rangeHeader, length);
+            if (range == UNSATISFIABLE) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (range != FULL_CONTENT) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        response.setContentType(ZIP_CONTENT_TYPE);
+        response.setContentLengthLong(end - start + 1);
+
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+        imageArchiveService.write(archive, start, end, response.getOutputStream());
+    }
+
+    /**
+     * If-None-Match 헤더 값에 현재 ETag가 포함되어 있는지 확인하는 메서드
+     *
+     * @param header If-None-Match 헤더 값 (콤마로 구분된 ETag 목록 또는 *)
+     * @param etag 현재 ETag
+     * @return 일치하는 ETag가 있으면 true
+     */
+    private boolean matchesAny(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            // If-None-Match는 약한 비교를 사용하므로 W/ 접두사를 제거하고 비교
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Range 조건을 만족하여 Range 요청을 적용해도 되는지 확인하는 메서드
+     * If-Range는 강한 비교를 사용하므로 ETag가 정확히 같을 때만 부분 전송한다.
+     *
+     * @param header If-Range 헤더 값
+     * @param etag 현재 ETag
+     * @return Range를 적용해도 되면 true
+     */
+    private boolean isIfRangeSatisfied(String header, String etag) {
+        if (header == null) {
+            return true;
+        }
+        return etag != null && etag.equals(header.trim());
+    }
+
+    /**
+     * Range 헤더를 해석하는 메서드
+     * 단일 범위(bytes=시작-끝, bytes=시작-, bytes=-마지막N바이트)만 지원하며
+     * 다중 범위나 해석할 수 없는 형식(시작이 끝보다 큰 범위 포함)은 RFC 9110에 따라 무시하고 전체를 전송한다.
+     * 형식은 올바르지만 파일 크기를 벗어난 범위만 416으로 응답한다.
+     *
+     * @param header Range 헤더 값
+     * @param length 파일 크기
+     * @return {시작, 끝(포함)} 배열, FULL_CONTENT 또는 UNSATISFIABLE
+     */
+    private long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return FULL_CONTENT;
+        }
+
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return FULL_CONTENT;
+        }
+
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        // 부호나 공백이 섞인 값은 Long.parseLong이 받아들여도 올바른 형식이 아님
+        if ((first.isEmpty() && last.isEmpty())
+                || (!first.isEmpty() && !isDigits(first))
+                || (!last.isEmpty() && !isDigits(last))) {
+            return FULL_CONTENT;
+        }
+
+        if (first.isEmpty()) {
+            // bytes=-N : 마지막 N바이트 (N이 0이면 만족할 수 없는 범위)
+            long suffix = parsePosition(last);
+            if (suffix == 0 || length == 0) {
+                return UNSATISFIABLE;
+            }
+            return new long[]{Math.max(length - suffix, 0), length - 1};
+        }
+
+        long start = parsePosition(first);
+        if (!last.isEmpty() && start > parsePosition(last)) {
+            return FULL_CONTENT;
+        }
+        if (start >= length) {
+            return UNSATISFIABLE;
+        }
+        long end = last.isEmpty() ? length - 1 : Math.min(parsePosition(last), length - 1);
+        return new long[]{start, end};
+    }
+
+    // 숫자로만 이루어진 위치 값을 읽는 메서드 (long 범위를 넘으면 어떤 파일보다도 크므로 최댓값으로 취급)
+    private static long parsePosition(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static boolean isDigits(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -4,6 +4,9 @@ import com.sh.mygallery.domain.board.domain.Board;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 게시글(Board)에 첨부되는 이미지 정보를 관리하는 JPA 엔티티.
  * <p>실제 파일 자체가 아닌, 파일 메타데이터(원본명, 저장명, 경로)를 저장한다.</p>
@@ -28,7 +31,7 @@ public class Image {
     @Column(nullable = false, name = "origin_name")
     private String originalFileName;
 
-    // 서버에 실제로 저장된 파일명(중복 방지를 위한 UUID사용)
+    // 서버에 실제로 저장된 파일명(내용의 SHA-256 해시, 같은 내용이면 같은 파일을 공유)
     @Column(nullable = false, name = "saved_name")
     private String savedFileName;
 
@@ -36,6 +39,32 @@ public class Image {
     @Column(nullable = false, name = "image_url")
     private String filePath;
 
+    // 파일 크기(byte)
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    // 파일 내용의 SHA-256 해시(16진수 문자열), 업로드 스트림을 통과하면서 계산
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 파일 내용의 CRC-32, 업로드 스트림을 통과하면서 계산 (압축 파일의 로컬 헤더에 미리 기록하기 위해 사용)
+    // 가져오기로 등록되었거나 이전에 업로드된 이미지는 null
+    @Column(name = "crc32")
+    private Long crc32;
+
+    // 업로드 시 전달된 MIME 타입 (예: image/jpeg)
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // 파생 이미지(썸네일 등) 생성 작업이 끝났는지 여부
+    // 원본이 작아 만들 파생 이미지가 없거나 디코딩할 수 없는 형식인 경우에도 true로 표시하여 재시도하지 않음
+    @Column(name = "derivatives_ready", nullable = false)
+    private boolean derivativesReady;
+
+    // 원본으로부터 생성된 파생 이미지 목록
+    @OneToMany(mappedBy = "image", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ImageVariant> variants = new ArrayList<>();
+
     // 이미지가 소속된 게시글
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id")
@@ -46,9 +75,20 @@ public class Image {
      * 파일 업로드 시점에 필요한 메타데이터만 초기화한다.
      */
     @Builder
-    public Image(String originalFileName, String storedFileName, String filePath) {
+    public Image(String originalFileName, String storedFileName, String filePath,
+                 Long fileSize, String contentHash, Long crc32, String contentType) {
         this.originalFileName = originalFileName;
         this.savedFileName = storedFileName;
         this.filePath = filePath;
+        this.fileSize = fileSize;
+        this.contentHash = contentHash;
+        this.crc32 = crc32;
+        this.contentType = contentType;
+    }
+
+    // 연관관계 편의 메소드
+    public void addVariant(ImageVariant variant) {
+        variants.add(variant);
+        variant.setImage(this);
     }
 }
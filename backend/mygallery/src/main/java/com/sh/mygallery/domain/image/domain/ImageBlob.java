@@ -0,0 +1,48 @@
+package com.sh.mygallery.domain.image.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시(SHA-256)를 키로 저장소의 실제 파일(blob)을 관리하는 JPA 엔티티.
+ * <p>같은 내용의 사진이 여러 번 업로드되어도 파일은 한 번만 저장하고,
+ * 이 파일을 참조하는 board_images 행의 수를 refCount로 관리한다.
+ * refCount가 0이 된 blob은 주기적인 정리 작업에서 파일과 함께 삭제된다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_blobs")
+public class ImageBlob {
+    // 파일 내용의 SHA-256 해시 (PK)
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 저장소 안의 파일 경로 (해시 앞자리로 디렉토리를 나눈 경로)
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    // 파일 크기(byte)
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    // 최초 업로드 시 전달된 MIME 타입
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // 이 blob을 참조하는 이미지 수
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    // 최초 저장 날짜
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,71 @@
+package com.sh.mygallery.domain.image.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 원본 이미지(Image)로부터 생성된 파생 이미지 정보를 관리하는 JPA 엔티티.
+ * <p>원본과 같은 저장소 디렉토리에 저장된 리사이즈본의 메타데이터를 저장한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "board_image_variants",
+        uniqueConstraints = @UniqueConstraint(name = "uk_board_image_variants_image_variant",
+                columnNames = {"image_id", "variant"}))
+public class ImageVariant {
+    // 파생 이미지 식별자 (PK)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "variant_id")
+    private Long id;
+
+    // 원본 이미지
+    @Setter
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "image_id", nullable = false)
+    private Image image;
+
+    // 파생 이미지 종류
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant", nullable = false, length = 20)
+    private ImageVariantType variant;
+
+    // 실제 가로/세로 크기(px)
+    @Column(name = "width", nullable = false)
+    private int width;
+
+    @Column(name = "height", nullable = false)
+    private int height;
+
+    // 파일이 저장된 경로
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    // 파일 크기(byte)
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    // 파일 내용의 SHA-256 해시
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    // MIME 타입
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Builder
+    public ImageVariant(ImageVariantType variant, int width, int height, String filePath,
+                        long fileSize, String contentHash, String contentType) {
+        this.variant = variant;
+        this.width = width;
+        this.height = height;
+        this.filePath = filePath;
+        this.fileSize = fileSize;
+        this.contentHash = contentHash;
+        this.contentType = contentType;
+    }
+}
@@ -0,0 +1,71 @@
+package com.sh.mygallery.domain.image.domain;
+
+import com.sh.mygallery.domain.image.exception.InvalidImageException;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * 원본 이미지로부터 생성하는 파생 이미지(리사이즈본)의 종류
+ *
+ * <p>모든 파생 이미지는 지정된 가로 폭으로 비율을 유지하여 축소한 progressive JPEG로 저장한다.
+ * 원본이 지정된 폭보다 작으면 해당 파생 이미지는 만들지 않는다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public enum ImageVariantType {
+    // 목록 화면용 미리보기
+    THUMBNAIL(320),
+    // 상세 화면용
+    MEDIUM(1024),
+    // 확대 보기용
+    LARGE(2048);
+
+    // 파생 이미지의 가로 폭(px)
+    private final int width;
+
+    ImageVariantType(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    // URL 파라미터 등에 사용하는 소문자 이름
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * URL 파라미터로 전달된 이름을 ImageVariantType으로 변환하는 메서드
+     *
+     * @param name 파생 이미지 이름 (대소문자 무관)
+     * @return 일치하는 ImageVariantType
+     * @throws InvalidImageException 일치하는 종류가 없는 경우
+     */
+    public static ImageVariantType from(String name) {
+        for (ImageVariantType type : values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new InvalidImageException("지원하지 않는 이미지 크기입니다: " + name);
+    }
+
+    /**
+     * 생성되어 있는 파생 이미지 중 요청 폭 이상인 가장 작은 것을 고르는 메서드
+     *
+     * @param available 생성되어 있는 파생 이미지 목록
+     * @param targetWidth 화면에 필요한 최소 가로 폭(px)
+     * @return 조건을 만족하는 가장 작은 파생 이미지, 없으면 null (원본 사용)
+     */
+    public static ImageVariantType smallestAdequate(Collection<ImageVariantType> available, int targetWidth) {
+        return available.stream()
+                .filter(type -> type.width >= targetWidth)
+                .min(Comparator.comparingInt(ImageVariantType::getWidth))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,221 @@
+package com.sh.mygallery.domain.image.dto;
+
+import com.sh.mygallery.domain.image.domain.Image;
+import com.sh.mygallery.domain.image.domain.ImageVariantType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Image 엔티티를 직접 노출하지 않고 필요한 데이터만 다룰때 사용할 DTO
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class ImageDTO {
+    // 이미지 다운로드 URL의 공통 경로
+    public static final String IMAGE_URL_PREFIX = "/api/images/";
+
+    /**
+     * 게시글 한 건에 대한 이미지 요약 정보
+     *
+     * <p>목록 화면에서 게시글마다 이미지 컬렉션을 지연 로딩하지 않도록
+     * 한 페이지 분량의 게시글에 대해 한 번의 쿼리로 조회한다.</p>
+     */
+    @Getter
+    public static class BoardImageSummary {
+        // 이미지가 소속된 게시글 ID
+        private final Long boardId;
+        // 대표 이미지(가장 먼저 등록된 이미지)의 ID
+        private final Long thumbnailImageId;
+        // 게시글에 첨부된 이미지 수
+        private final Long imageCount;
+        // 목록에 사용할 대표 이미지의 파생 이미지 종류 (null이면 원본 사용)
+        private ImageVariantType thumbnailVariant;
+
+        // JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+        public BoardImageSummary(Long boardId, Long thumbnailImageId, Long imageCount) {
+            this.boardId = boardId;
+            this.thumbnailImageId = thumbnailImageId;
+            this.imageCount = imageCount;
+        }
+
+        // 목록에 사용할 파생 이미지를 지정하는 메서드
+        public void applyVariant(ImageVariantType thumbnailVariant) {
+            this.thumbnailVariant = thumbnailVariant;
+        }
+
+        // 대표 이미지를 내려받을 수 있는 URL
+        public String getThumbnailUrl() {
+            if (thumbnailVariant == null) {
+                return IMAGE_URL_PREFIX + thumbnailImageId;
+            }
+            return IMAGE_URL_PREFIX + thumbnailImageId + "?variant=" + thumbnailVariant.getName();
+        }
+    }
+
+    /**
+     * 원본 이미지별로 생성되어 있는 파생 이미지 종류
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class VariantSummary {
+        // 원본 이미지 ID
+        private Long imageId;
+        // 파생 이미지 종류
+        private ImageVariantType variant;
+    }
+
+    /**
+     * 저장소의 이미지 파일을 응답으로 내보낼 때 필요한 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ImageFile {
+        // 저장소에 있는 실제 파일 경로
+        private Path path;
+        // 실제 파일 크기(byte)
+        private long size;
+        // MIME 타입
+        private String contentType;
+        // 파일 내용의 SHA-256 해시 (ETag로 사용)
+        private String contentHash;
+    }
+
+    /**
+     * 이미지 업로드 결과로 반환할 응답 DTO
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ImageResponse {
+        // 이미지 ID
+        private Long imageId;
+        // 업로드 당시의 원본 파일명
+        private String originalFileName;
+        // 파일 크기(byte)
+        private Long fileSize;
+        // 파일 내용의 SHA-256 해시
+        private String contentHash;
+        // MIME 타입
+        private String contentType;
+
+        // 엔티티를 응답 DTO로 변환하는 정적 팩토리 메서드
+        public static ImageResponse from(Image image) {
+            return new ImageResponse(
+                    image.getId(),
+                    image.getOriginalFileName(),
+                    image.getFileSize(),
+                    image.getContentHash(),
+                    image.getContentType()
+            );
+        }
+    }
+
+    /**
+     * 이관/가져오기 작업에서 게시글과 함께 등록할 이미지 한 건
+     *
+     * <p>파일은 가져오기 작업이 미리 ImageBlobStore.resolve(contentHash) 경로에 복사해 두어야 하며,
+     * 여기에는 메타데이터만 담는다.</p>
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImageImport {
+        // 원본 파일명
+        private String originalFileName;
+        // 파일 내용의 SHA-256 해시(16진수 문자열)
+        private String contentHash;
+        // 파일 크기(byte)
+        private long fileSize;
+        // MIME 타입
+        private String contentType;
+    }
+
+    /**
+     * 압축 파일(ZIP)에 담을 이미지 한 건
+     *
+     * <p>JPQL 생성자 표현식으로 메타데이터만 조회한 뒤,
+     * ImageArchiveService가 실제 파일을 확인하여 압축 파일 안의 이름, 크기, 위치를 채운다.</p>
+     */
+    @Getter
+    public static class ArchiveEntry {
+        // 이미지 ID
+        private final Long imageId;
+        // 이미지가 소속된 게시글 ID
+        private final Long boardId;
+        // 업로드 당시의 원본 파일명
+        private final String originalFileName;
+        // 파일이 저장된 경로
+        private final String filePath;
+        // 파일 내용의 SHA-256 해시
+        private final String contentHash;
+        // 업로드 시 계산한 CRC-32 (없으면 null)
+        private final Long crc32;
+        // 게시글 작성 날짜 (압축 파일 안의 수정 시각으로 사용)
+        private final LocalDateTime createdAt;
+
+        // 저장소에 있는 실제 파일 경로
+        private Path path;
+        // 압축 파일 안의 파일명 (UTF-8)
+        private byte[] entryName;
+        // 실제 파일 크기(byte)
+        private long size;
+        // 압축 파일 안에서 로컬 헤더가 시작하는 위치
+        private long localHeaderOffset;
+
+        // JPQL 생성자 표현식(select new ...)에서 사용하는 생성자
+        public ArchiveEntry(Long imageId, Long boardId, String originalFileName, String filePath,
+                            String contentHash, Long crc32, LocalDateTime createdAt) {
+            this.imageId = imageId;
+            this.boardId = boardId;
+            this.originalFileName = originalFileName;
+            this.filePath = filePath;
+            this.contentHash = contentHash;
+            this.crc32 = crc32;
+            this.createdAt = createdAt;
+        }
+
+        // 실제 파일과 압축 파일 안의 이름을 지정하는 메서드
+        public void applyFile(Path path, byte[] entryName, long size) {
+            this.path = path;
+            this.entryName = entryName;
+            this.size = size;
+        }
+
+        // 압축 파일 안의 위치를 지정하는 메서드
+        public void applyOffset(long localHeaderOffset) {
+            this.localHeaderOffset = localHeaderOffset;
+        }
+    }
+
+    /**
+     * 내려받을 압축 파일(ZIP)의 배치 정보
+     *
+     * <p>항목의 순서, 이름, 크기만으로 모든 바이트의 위치가 정해지므로 전체 크기를 미리 알 수 있고,
+     * 같은 이미지 구성이면 몇 번을 요청해도 같은 바이트가 만들어져 중단된 위치부터 이어받을(Range) 수 있다.</p>
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ImageArchive {
+        // 내려받을 파일명
+        private String fileName;
+        // 압축 파일에 담을 이미지 목록 (압축 파일 안의 순서)
+        private List<ArchiveEntry> entries;
+        // 4GB 또는 65535개를 넘어 ZIP64 형식을 사용하는지 여부
+        private boolean zip64;
+        // 중앙 디렉토리가 시작하는 위치
+        private long centralDirectoryOffset;
+        // 중앙 디렉토리 크기(byte)
+        private long centralDirectorySize;
+        // 압축 파일 전체 크기(byte)
+        private long length;
+        // 이미지 구성으로 계산한 강한 ETag (이어받기 시 If-Range로 비교)
+        private String etag;
+    }
+}
@@ -0,0 +1,22 @@
+package com.sh.mygallery.domain.image.exception;
+
+/**
+ * 서버에서 동시에 만들 수 있는 압축 파일 수를 넘어 압축 파일 다운로드를 처리할 수 없을 때 발생하는 예외
+ * 잠시 후 다시 시도하면 처리될 수 있으므로 503(SERVICE_UNAVAILABLE)으로 응답한다.
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class ImageArchiveBusyException extends ImageException {
+    public ImageArchiveBusyException(String message) {
+        super(message);
+    }
+
+    public ImageArchiveBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ImageArchiveBusyException(Throwable cause) {
+        super(cause);
+    }
+}
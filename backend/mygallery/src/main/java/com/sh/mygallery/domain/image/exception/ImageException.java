@@ -0,0 +1,25 @@
+package com.sh.mygallery.domain.image.exception;
+
+/**
+ * Image와 관련된 모든 예외(Exception)을 처리해 줄 객체
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class ImageException extends RuntimeException {
+    public ImageException() {
+        super();
+    }
+
+    public ImageException(String message) {
+        super(message);
+    }
+
+    public ImageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ImageException(Throwable cause) {
+        super(cause);
+    }
+}
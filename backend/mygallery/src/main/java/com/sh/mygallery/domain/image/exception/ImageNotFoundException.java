@@ -0,0 +1,21 @@
+package com.sh.mygallery.domain.image.exception;
+
+/**
+ * 요청한 이미지의 메타데이터나 실제 파일이 존재하지 않는 경우 반환할 Exception
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class ImageNotFoundException extends ImageException {
+    public ImageNotFoundException(String message) {
+        super(message);
+    }
+
+    public ImageNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ImageNotFoundException(Throwable cause) {
+        super(cause);
+    }
+}
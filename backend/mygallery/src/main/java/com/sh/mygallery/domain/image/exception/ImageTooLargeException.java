@@ -0,0 +1,21 @@
+package com.sh.mygallery.domain.image.exception;
+
+/**
+ * 업로드 중인 파일이 허용된 크기를 초과한 경우 반환할 Exception
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class ImageTooLargeException extends ImageException {
+    public ImageTooLargeException(String message) {
+        super(message);
+    }
+
+    public ImageTooLargeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ImageTooLargeException(Throwable cause) {
+        super(cause);
+    }
+}
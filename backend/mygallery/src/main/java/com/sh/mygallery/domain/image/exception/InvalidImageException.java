@@ -0,0 +1,21 @@
+package com.sh.mygallery.domain.image.exception;
+
+/**
+ * 업로드된 파일이 허용되지 않는 형식이거나 요청이 올바르지 않은 경우 반환할 Exception
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class InvalidImageException extends ImageException {
+    public InvalidImageException(String message) {
+        super(message);
+    }
+
+    public InvalidImageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidImageException(Throwable cause) {
+        super(cause);
+    }
+}
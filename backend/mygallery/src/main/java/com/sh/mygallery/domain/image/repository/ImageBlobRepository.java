@@ -0,0 +1,66 @@
+package com.sh.mygallery.domain.image.repository;
+
+import com.sh.mygallery.domain.image.domain.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 직접 image_blobs Table에 접근하여 database를 다룰 객체
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    /**
+     * blob을 새로 등록하거나 이미 있으면 참조 수를 1 늘리는 메서드
+     *
+     * <p>MySQL의 INSERT ... ON DUPLICATE KEY UPDATE로 한 번에 처리하며,
+     * 실행과 동시에 해당 행의 잠금을 얻으므로 같은 해시를 정리(삭제) 중인 트랜잭션이 끝날 때까지 기다린다.</p>
+     *
+     * @param contentHash 파일 내용의 SHA-256 해시
+     * @param filePath 저장소 안의 파일 경로
+     * @param fileSize 파일 크기(byte)
+     * @param contentType MIME 타입
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO image_blobs (content_hash, file_path, file_size, content_type, ref_count, created_at) " +
+            "VALUES (:contentHash, :filePath, :fileSize, :contentType, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1",
+            nativeQuery = true)
+    void acquire(@Param("contentHash") String contentHash,
+                 @Param("filePath") String filePath,
+                 @Param("fileSize") long fileSize,
+                 @Param("contentType") String contentType);
+
+    /**
+     * blob의 참조 수를 줄이는 메서드
+     *
+     * @param contentHash 파일 내용의 SHA-256 해시
+     * @param count 줄일 참조 수
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update ImageBlob b set b.refCount = b.refCount - :count where b.contentHash = :contentHash")
+    int release(@Param("contentHash") String contentHash, @Param("count") int count);
+
+    // 더 이상 참조되지 않는 blob의 해시 목록 조회
+    @Query("select b.contentHash from ImageBlob b where b.refCount <= 0")
+    List<String> findUnreferencedHashes(Pageable pageable);
+
+    // 정리 직전에 참조되지 않는 blob을 잠금과 함께 다시 확인 (그 사이 새로 참조되었으면 empty)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from ImageBlob b where b.contentHash = :contentHash and b.refCount <= 0")
+    Optional<ImageBlob> findUnreferencedForUpdate(@Param("contentHash") String contentHash);
+}
@@ -0,0 +1,112 @@
+package com.sh.mygallery.domain.image.repository;
+
+import com.sh.mygallery.domain.image.domain.Image;
+import com.sh.mygallery.util.GeneratedKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 이미지 메타데이터와 blob 참조 수를 JDBC 배치로 대량 등록하는 저장소
+ *
+ * <p>board_images의 ID는 IDENTITY이므로 JPA로 저장하면 이미지마다 INSERT가 따로 실행된다.
+ * 이 저장소는 {@value #BATCH_SIZE}건씩 배치로 실행하고 생성된 ID를 엔티티에 채워 넣는다.
+ * 여기서 저장한 엔티티는 영속성 컨텍스트에 올라가지 않으므로 게시글의 이미지 컬렉션에 추가하면 안 된다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImageBulkRepository {
+    // 한 번에 전송할 최대 행 수
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO board_images (origin_name, saved_name, image_url, file_size, content_hash, crc32, content_type, derivatives_ready, board_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, ?)";
+    // ImageBlobRepository.acquire와 같지만 참조 수를 한 번에 여러 개 늘림 (VALUES() 대신 MySQL 8.0.19부터 지원하는 행 별칭으로 새 값 참조)
+    private static final String ACQUIRE_BLOB_SQL =
+            "INSERT INTO image_blobs (content_hash, file_path, file_size, content_type, ref_count, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, NOW()) AS new " +
+            "ON DUPLICATE KEY UPDATE ref_count = image_blobs.ref_count + new.ref_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미지들을 배치 INSERT로 등록하고 생성된 ID를 각 엔티티에 채우는 메서드 (트랜잭션 내부에서 호출)
+     *
+     * @param images 게시글(board)이 지정된 저장 전 이미지 목록
+     */
+    public void insertAll(List<Image> images) {
+        long[] ids = new long[images.size()];
+        for (int from = 0; from < images.size(); from += BATCH_SIZE) {
+            List<Image> chunk = images.subList(from, Math.min(from + BATCH_SIZE, images.size()));
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_IMAGE_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Image image = chunk.get(i);
+                            ps.setString(1, image.getOriginalFileName());
+                            ps.setString(2, image.getSavedFileName());
+                            ps.setString(3, image.getFilePath());
+                            ps.setLong(4, image.getFileSize());
+                            ps.setString(5, image.getContentHash());
+                            ps.setObject(6, image.getCrc32(), Types.BIGINT);
+                            ps.setString(7, image.getContentType());
+                            ps.setLong(8, image.getBoard().getBoardId());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+            GeneratedKeys.copy(keyHolder, ids, from, chunk.size());
+        }
+        for (int i = 0; i < images.size(); i++) {
+            images.get(i).setId(ids[i]);
+        }
+    }
+
+    /**
+     * blob들을 새로 등록하거나 참조 수를 늘리는 메서드 (트랜잭션 내부에서 호출)
+     *
+     * <p>동시에 실행되는 다른 가져오기 작업과 행 잠금 순서가 엇갈려 교착 상태가 되지 않도록
+     * 호출하는 쪽에서 해시 순으로 정렬해 전달해야 한다.</p>
+     *
+     * @param blobs 해시 순으로 정렬된 blob별 등록 정보
+     */
+    public void acquireBlobs(List<BlobReference> blobs) {
+        jdbcTemplate.batchUpdate(ACQUIRE_BLOB_SQL, blobs, BATCH_SIZE, (ps, blob) -> {
+            ps.setString(1, blob.contentHash());
+            ps.setString(2, blob.filePath());
+            ps.setLong(3, blob.fileSize());
+            ps.setString(4, blob.contentType());
+            ps.setInt(5, blob.count());
+        });
+    }
+
+    /**
+     * blob 한 개에 대해 늘릴 참조 수
+     *
+     * @param contentHash 파일 내용의 SHA-256 해시
+     * @param filePath 저장소 안의 파일 경로
+     * @param fileSize 파일 크기(byte)
+     * @param contentType MIME 타입
+     * @param count 늘릴 참조 수
+     */
+    public record BlobReference(String contentHash, String filePath, long fileSize, String contentType, int count) {
+    }
+}
@@ -1,7 +1,99 @@
 package com.sh.mygallery.domain.image.repository;
 
 import com.sh.mygallery.domain.image.domain.Image;
+import com.sh.mygallery.domain.image.dto.ImageDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface ImageRepository extends JpaRepository<Image, Long> {
+
+    /**
+     * 여러 게시글의 대표 이미지와 이미지 수를 한 번에 조회하는 메서드
+     *
+     * <p>게시글마다 가장 먼저 등록된(image_id가 가장 작은) 이미지 한 건만 남기고,
+     * 같은 행에서 해당 게시글의 전체 이미지 수를 함께 계산한다.
+     * 이미지가 없는 게시글은 결과에 포함되지 않는다.</p>
+     *
+     * @param boardIds 조회할 게시글 ID 목록
+     * @return 게시글별 이미지 요약 목록
+     * @since 2026-10-18
+     */
+    @Query("select new com.sh.mygallery.domain.image.dto.ImageDTO$BoardImageSummary(" +
+            "i.board.boardId, i.id, " +
+            "(select count(i2) from Image i2 where i2.board = i.board)) " +
+            "from Image i " +
+            "where i.board.boardId in :boardIds " +
+            "and i.id = (select min(i3.id) from Image i3 where i3.board = i.board)")
+    List<ImageDTO.BoardImageSummary> findSummariesByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
+    /**
+     * 파생 이미지 생성이 끝나지 않은 이미지 ID를 오래된 순으로 조회하는 메서드
+     * 작업 큐가 가득 차 거절되었거나 서버 재시작으로 유실된 작업을 다시 등록할 때 사용한다.
+     *
+     * @param pageable 조회할 최대 건수
+     * @return 이미지 ID 목록
+     * @since 2026-10-18
+     */
+    @Query("select i.id from Image i where i.derivativesReady = false order by i.id")
+    List<Long> findIdsWithoutDerivatives(Pageable pageable);
+
+    /**
+     * 같은 내용(해시)의 다른 이미지 중 파생 이미지 생성이 끝난 이미지 한 건을 조회하는 메서드
+     * 같은 사진이 다시 업로드되었을 때 파생 이미지를 다시 만들지 않고 재사용하기 위해 사용한다.
+     *
+     * @param contentHash 파일 내용의 SHA-256 해시
+     * @param id 제외할 이미지 ID (자기 자신)
+     * @return 파생 이미지 생성이 끝난 이미지
+     * @since 2026-10-18
+     */
+    Optional<Image> findFirstByContentHashAndDerivativesReadyTrueAndIdNot(String contentHash, Long id);
+
+    /**
+     * 게시글에 첨부된 이미지 ID를 등록 순으로 조회하는 메서드
+     * 게시글 상세 화면에서 이미지 컬렉션을 지연 로딩하지 않고 경로만 만들 때 사용한다.
+     *
+     * @param boardId 게시글 ID
+     * @return 이미지 ID 목록
+     * @since 2026-10-18
+     */
+    @Query("select i.id from Image i where i.board.boardId = :boardId order by i.id")
+    List<Long> findIdsByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 게시글의 이미지를 압축 파일에 담기 위해 등록 순으로 조회하는 메서드
+     * 엔티티 대신 필요한 컬럼만 DTO로 조회한다.
+     *
+     * @param boardId 게시글 ID
+     * @return 압축 파일에 담을 이미지 목록
+     * @since 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.sh.mygallery.domain.image.dto.ImageDTO$ArchiveEntry(" +
+            "i.id, b.boardId, i.originalFileName, i.filePath, i.contentHash, i.crc32, b.createdAt) " +
+            "from Image i join i.board b " +
+            "where b.boardId = :boardId " +
+            "order by i.id")
+    List<ImageDTO.ArchiveEntry> findArchiveEntriesByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 사용자가 작성한 모든 게시글의 이미지를 압축 파일에 담기 위해 게시글 순, 등록 순으로 조회하는 메서드
+     *
+     * @param userId 작성자 ID
+     * @return 압축 파일에 담을 이미지 목록
+     * @since 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.sh.mygallery.domain.image.dto.ImageDTO$ArchiveEntry(" +
+            "i.id, b.boardId, i.originalFileName, i.filePath, i.contentHash, i.crc32, b.createdAt) " +
+            "from Image i join i.board b " +
+            "where b.user.userId = :userId " +
+            "order by b.boardId, i.id")
+    List<ImageDTO.ArchiveEntry> findArchiveEntriesByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,34 @@
+package com.sh.mygallery.domain.image.repository;
+
+import com.sh.mygallery.domain.image.domain.ImageVariant;
+import com.sh.mygallery.domain.image.domain.ImageVariantType;
+import com.sh.mygallery.domain.image.dto.ImageDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 직접 board_image_variants Table에 접근하여 database를 다룰 객체
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, Long> {
+
+    // 원본 이미지의 특정 파생 이미지를 조회하는 메서드
+    Optional<ImageVariant> findByImageIdAndVariant(Long imageId, ImageVariantType variant);
+
+    /**
+     * 여러 원본 이미지에 대해 생성되어 있는 파생 이미지 종류를 한 번에 조회하는 메서드
+     *
+     * @param imageIds 원본 이미지 ID 목록
+     * @return 원본 이미지 ID와 파생 이미지 종류 목록
+     */
+    @Query("select new com.sh.mygallery.domain.image.dto.ImageDTO$VariantSummary(v.image.id, v.variant) " +
+            "from ImageVariant v where v.image.id in :imageIds")
+    List<ImageDTO.VariantSummary> findSummariesByImageIds(@Param("imageIds") Collection<Long> imageIds);
+}
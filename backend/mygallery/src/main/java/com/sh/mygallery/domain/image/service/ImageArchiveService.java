@@ -0,0 +1,598 @@
+package com.sh.mygallery.domain.image.service;
+
+import com.sh.mygallery.domain.image.dto.ImageDTO;
+import com.sh.mygallery.domain.image.exception.ImageArchiveBusyException;
+import com.sh.mygallery.domain.image.exception.ImageNotFoundException;
+import com.sh.mygallery.domain.image.repository.ImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * 게시글 또는 사용자의 이미지 전체를 하나의 압축 파일(ZIP)로 응답 스트림에 바로 기록하는 서비스 객체
+ *
+ * <p>JPEG 등 이미지는 다시 압축해도 거의 줄지 않으므로 모든 항목을 압축하지 않고(STORED) 담는다.
+ * 덕분에 항목의 크기만으로 압축 파일의 모든 바이트 위치가 미리 정해지고,</p>
+ * <ul>
+ *   <li>Content-Length를 미리 알려줄 수 있으며</li>
+ *   <li>중단된 다운로드를 Range 요청으로 이어받을 수 있다. (앞부분은 기록하지 않고 위치만 건너뜀)</li>
+ * </ul>
+ *
+ * <p>파일은 FileChannel.transferTo로 응답에 바로 전송하므로 이미지 수와 관계없이 메모리 사용량이 일정하고,
+ * 클라이언트가 느리면 응답 쓰기에서 기다리게 되어 그 이상 파일을 읽지 않는다.
+ * 항목의 CRC-32와 크기는 로컬 헤더에 미리 기록하며(data descriptor를 쓰지 않음),
+ * 이 덕분에 ZipInputStream처럼 앞에서부터 읽는 압축 해제 도구도 항목을 읽을 수 있다.
+ * CRC는 업로드할 때 계산하여 저장해 둔 값을 사용하고, 값이 없는 이전 이미지만 파일을 한 번 더 읽어 계산한다.
+ * 저장소의 파일은 내용이 바뀌지 않으므로 이렇게 계산한 CRC는 내용 해시별로 기억해 두고 다시 사용한다.</p>
+ *
+ * <p>압축 파일 하나를 보내는 동안 요청 스레드와 디스크 대역폭을 오래 사용하므로
+ * 서버마다 동시에 보낼 수 있는 압축 파일 수를 제한하고, 넘치는 요청은 기다리게 하지 않고 바로 거절한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Service
+@Slf4j
+public class ImageArchiveService {
+    // CRC를 계산하기 위해 파일을 읽을 때 사용할 버퍼 크기
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 압축 파일 안의 파일명 최대 길이 (원본 파일명 기준, 확장자가 남도록 앞부분을 자름)
+    private static final int MAX_NAME_LENGTH = 200;
+
+    // ZIP 레코드 시그니처
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    // ZIP 레코드 고정 길이 (파일명, 확장 필드 제외)
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int ZIP64_LOCAL_EXTRA_SIZE = 20;
+    private static final int ZIP64_CENTRAL_EXTRA_SIZE = 28;
+    private static final int ZIP64_END_SIZE = 56;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int END_SIZE = 22;
+
+    // 일반 ZIP 형식으로 기록할 수 있는 최대 크기/위치와 항목 수 (이 값 이상이면 ZIP64 형식 사용)
+    private static final long ZIP32_LIMIT = 0xFFFFFFFFL;
+    private static final int ZIP32_MAX_ENTRIES = 0xFFFF;
+
+    // 압축 해제에 필요한 버전 (2.0: 기본, 4.5: ZIP64)
+    private static final int VERSION = 20;
+    private static final int ZIP64_VERSION = 45;
+    // 작성 환경 (상위 바이트 3 = UNIX, 외부 속성의 파일 권한을 사용)
+    private static final int VERSION_MADE_BY_UNIX = 3 << 8;
+    // 일반 파일, 권한 rw-r--r--
+    private static final int EXTERNAL_ATTRIBUTES = 0100644 << 16;
+    // 범용 플래그: 파일명은 UTF-8(bit 11)
+    private static final int FLAGS = 0x0800;
+    // 압축 방식: 압축하지 않음(STORED)
+    private static final int METHOD_STORED = 0;
+
+    private final ImageRepository imageRepository;
+    private final ImageBlobStore imageBlobStore;
+
+    // 서버에서 동시에 보낼 수 있는 압축 파일 수
+    private final int maxConcurrent;
+    private final Semaphore slots;
+
+    // 업로드 시 CRC를 저장하지 않은 이미지의 내용 해시(또는 파일 경로) → CRC-32
+    private final Map<String, Long> crcCache = new ConcurrentHashMap<>();
+    // 기억해 둘 CRC 최대 수
+    private final int crcCacheMaxSize;
+
+    // 동시 처리 한도를 넘어 거절한 요청 수
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public ImageArchiveService(ImageRepository imageRepository,
+                               ImageBlobStore imageBlobStore,
+                               @Value("${image.archive.max-concurrent:4}") int maxConcurrent,
+                               @Value("${image.archive.crc-cache.max-size:100000}") int crcCacheMaxSize) {
+        this.imageRepository = imageRepository;
+        this.imageBlobStore = imageBlobStore;
+        this.maxConcurrent = maxConcurrent;
+        this.slots = new Semaphore(maxConcurrent);
+        this.crcCacheMaxSize = crcCacheMaxSize;
+    }
+
+    /**
+     * 압축 파일을 보낼 자리를 하나 차지하는 메서드
+     * 사용이 끝나면 반드시 releaseSlot()을 호출해야 한다.
+     *
+     * @throws ImageArchiveBusyException 동시에 보낼 수 있는 압축 파일 수를 넘은 경우
+     */
+    public void acquireSlot() {
+        if (!slots.tryAcquire()) {
+            rejectedCount.increment();
+            throw new ImageArchiveBusyException("압축 파일 다운로드 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // acquireSlot()으로 차지한 자리를 반환
+    public void releaseSlot() {
+        slots.release();
+    }
+
+    /**
+     * 게시글에 첨부된 이미지 전체의 압축 파일 배치 정보를 만드는 메서드
+     *
+     * @param boardId 게시글 ID
+     * @return 압축 파일 배치 정보 (파일명: 이미지ID_원본파일명)
+     * @throws ImageNotFoundException 압축 파일에 담을 이미지가 없는 경우
+     */
+    public ImageDTO.ImageArchive getBoardArchive(Long boardId) {
+        return layout("board-" + boardId + "-images.zip",
+                imageRepository.findArchiveEntriesByBoardId(boardId), false);
+    }
+
+    /**
+     * 사용자가 작성한 모든 게시글의 이미지 전체의 압축 파일 배치 정보를 만드는 메서드
+     *
+     * @param userId 작성자 ID
+     * @return 압축 파일 배치 정보 (파일명: 게시글ID/이미지ID_원본파일명)
+     * @throws ImageNotFoundException 압축 파일에 담을 이미지가 없는 경우
+     */
+    public ImageDTO.ImageArchive getUserArchive(Long userId) {
+        return layout("user-" + userId + "-images.zip",
+                imageRepository.findArchiveEntriesByUserId(userId), true);
+    }
+
+    /**
+     * 압축 파일의 start ~ end 구간을 응답 스트림에 기록하는 메서드
+     *
+     * <p>압축 파일을 처음부터 차례로 만들어 가며 요청한 구간에 해당하는 바이트만 기록한다.
+     * 구간 앞의 파일 데이터는 읽지 않고 건너뛰며, 기록할 헤더에 필요한 CRC 중 모르는 값만 파일을 읽어 계산한다.</p>
+     *
+     * @param archive 압축 파일 배치 정보
+     * @param start 기록할 첫 바이트 위치
+     * @param end 기록할 마지막 바이트 위치 (포함)
+     * @param out 응답 스트림 (닫지 않음)
+     * @throws IOException 파일을 읽거나 응답에 기록하지 못한 경우 (클라이언트 연결 종료, 파일 삭제 등)
+     */
+    public void write(ImageDTO.ImageArchive archive, long start, long end, OutputStream out) throws IOException {
+        RangeOutput output = new RangeOutput(Channels.newChannel(out), start, end);
+        List<ImageDTO.ArchiveEntry> entries = archive.getEntries();
+        boolean zip64 = archive.isZip64();
+
+        long[] crcs = new long[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            ImageDTO.ArchiveEntry entry = entries.get(i);
+            crcs[i] = entry.getCrc32() != null ? entry.getCrc32() : crcCache.getOrDefault(crcKey(entry), -1L);
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            if (output.isDone()) {
+                return;
+            }
+            ImageDTO.ArchiveEntry entry = entries.get(i);
+            int index = i;
+            output.write(localHeaderSize(entry, zip64),
+                    () -> localHeader(entry, crc(entries, crcs, index), zip64));
+            writeData(entry, output);
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            if (output.isDone()) {
+                return;
+            }
+            ImageDTO.ArchiveEntry entry = entries.get(i);
+            int index = i;
+            output.write(centralHeaderSize(entry, zip64),
+                    () -> centralHeader(entry, crc(entries, crcs, index), zip64));
+        }
+
+        if (zip64) {
+            output.write(ZIP64_END_SIZE, () -> zip64End(archive));
+            output.write(ZIP64_LOCATOR_SIZE, () -> zip64Locator(archive));
+        }
+        output.write(END_SIZE, () -> end(archive));
+    }
+
+    // 현재 압축 파일을 보내고 있는 요청 수
+    public int getActiveCount() {
+        return maxConcurrent - slots.availablePermits();
+    }
+
+    // 동시 처리 한도를 넘어 거절한 요청 수
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 조회한 이미지 목록으로 압축 파일의 배치를 계산하는 메서드
+     * 저장소에 파일이 없는 이미지는 제외한다.
+     *
+     * @param fileName 내려받을 파일명
+     * @param rows 조회한 이미지 목록
+     * @param byBoard 게시글별 디렉토리로 나눌지 여부
+     * @return 압축 파일 배치 정보
+     */
+    private ImageDTO.ImageArchive layout(String fileName, List<ImageDTO.ArchiveEntry> rows, boolean byBoard) {
+        List<ImageDTO.ArchiveEntry> entries = new ArrayList<>(rows.size());
+        for (ImageDTO.ArchiveEntry row : rows) {
+            Path path = resolvePath(row);
+            if (path == null) {
+                continue;
+            }
+            try {
+                String name = (byBoard ? row.getBoardId() + "/" : "") + row.getImageId() + "_" + sanitize(row.getOriginalFileName());
+                row.applyFile(path, name.getBytes(StandardCharsets.UTF_8), Files.size(path));
+                entries.add(row);
+            } catch (IOException e) {
+                log.warn("압축 파일에 담을 이미지 파일을 찾을 수 없어 제외합니다. imageId={}", row.getImageId(), e);
+            }
+        }
+        if (entries.isEmpty()) {
+            throw new ImageNotFoundException("내려받을 이미지가 없습니다.");
+        }
+
+        // 일반 ZIP 형식으로 배치해 보고 크기나 항목 수가 한도를 넘으면 ZIP64 형식으로 다시 배치
+        boolean zip64 = false;
+        long centralDirectoryOffset = placeEntries(entries, false);
+        long centralDirectorySize = centralDirectorySize(entries, false);
+        if (entries.size() >= ZIP32_MAX_ENTRIES
+                || centralDirectoryOffset >= ZIP32_LIMIT
+                || centralDirectorySize >= ZIP32_LIMIT) {
+            zip64 = true;
+            centralDirectoryOffset = placeEntries(entries, true);
+            centralDirectorySize = centralDirectorySize(entries, true);
+        }
+
+        long length = centralDirectoryOffset + centralDirectorySize
+                + (zip64 ? ZIP64_END_SIZE + ZIP64_LOCATOR_SIZE : 0) + END_SIZE;
+        return new ImageDTO.ImageArchive(fileName, entries, zip64, centralDirectoryOffset, centralDirectorySize,
+                length, etag(entries));
+    }
+
+    // 항목마다 로컬 헤더 위치를 지정하고 중앙 디렉토리가 시작할 위치를 반환
+    private long placeEntries(List<ImageDTO.ArchiveEntry> entries, boolean zip64) {
+        long offset = 0;
+        for (ImageDTO.ArchiveEntry entry : entries) {
+            entry.applyOffset(offset);
+            offset += localHeaderSize(entry, zip64) + entry.getSize();
+        }
+        return offset;
+    }
+
+    private long centralDirectorySize(List<ImageDTO.ArchiveEntry> entries, boolean zip64) {
+        long size = 0;
+        for (ImageDTO.ArchiveEntry entry : entries) {
+            size += centralHeaderSize(entry, zip64);
+        }
+        return size;
+    }
+
+    private int localHeaderSize(ImageDTO.ArchiveEntry entry, boolean zip64) {
+        return LOCAL_HEADER_SIZE + entry.getEntryName().length + (zip64 ? ZIP64_LOCAL_EXTRA_SIZE : 0);
+    }
+
+    private int centralHeaderSize(ImageDTO.ArchiveEntry entry, boolean zip64) {
+        return CENTRAL_HEADER_SIZE + entry.getEntryName().length + (zip64 ? ZIP64_CENTRAL_EXTRA_SIZE : 0);
+    }
+
+    /**
+     * 항목의 파일 데이터 중 요청 구간에 해당하는 부분만 transferTo로 전송하는 메서드
+     * 구간 밖이면 파일을 열지 않고 건너뛴다.
+     *
+     * @param entry 기록할 항목
+     * @param output 요청 구간 출력
+     * @throws IOException 파일을 읽거나 응답에 기록하지 못한 경우
+     */
+    private void writeData(ImageDTO.ArchiveEntry entry, RangeOutput output) throws IOException {
+        long size = entry.getSize();
+        if (!output.overlaps(size)) {
+            output.skip(size);
+            return;
+        }
+        try (FileChannel source = FileChannel.open(entry.getPath(), StandardOpenOption.READ)) {
+            output.transferFrom(source, size);
+        }
+    }
+
+    // 항목의 CRC (업로드 시 저장한 값도, 기억해 둔 값도 없으면 파일을 읽어 계산)
+    private long crc(List<ImageDTO.ArchiveEntry> entries, long[] crcs, int index) throws IOException {
+        if (crcs[index] >= 0) {
+            return crcs[index];
+        }
+        ImageDTO.ArchiveEntry entry = entries.get(index);
+        CRC32 checksum = new CRC32();
+        try (FileChannel source = FileChannel.open(entry.getPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long read = 0;
+            while (read < entry.getSize()) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), entry.getSize() - read));
+                int n = source.read(buffer);
+                if (n < 0) {
+                    throw new IOException("압축 파일을 만드는 도중 이미지 파일 크기가 바뀌었습니다: " + entry.getPath());
+                }
+                buffer.flip();
+                checksum.update(buffer);
+                read += n;
+            }
+        }
+        crcs[index] = checksum.getValue();
+        rememberCrc(entry, crcs[index]);
+        return crcs[index];
+    }
+
+    // 계산한 CRC를 기억 (가득 차면 모두 비우고 다시 채움)
+    private void rememberCrc(ImageDTO.ArchiveEntry entry, long crc) {
+        if (crcCache.size() >= crcCacheMaxSize) {
+            crcCache.clear();
+        }
+        crcCache.put(crcKey(entry), crc);
+    }
+
+    // 내용이 같으면 CRC도 같으므로 내용 해시를 키로 사용 (해시가 없는 이전 데이터는 파일 경로)
+    private String crcKey(ImageDTO.ArchiveEntry entry) {
+        return entry.getContentHash() != null ? entry.getContentHash() : entry.getPath().toString();
+    }
+
+    // DB에 기록된 경로가 저장소 디렉토리 밖을 가리키면 제외
+    private Path resolvePath(ImageDTO.ArchiveEntry row) {
+        Path path = Paths.get(row.getFilePath()).toAbsolutePath().normalize();
+        if (!path.startsWith(imageBlobStore.getStorageDir())) {
+            log.warn("저장소 밖을 가리키는 이미지는 압축 파일에서 제외합니다. imageId={}", row.getImageId());
+            return null;
+        }
+        return path;
+    }
+
+    // 압축 해제 시 디렉토리를 벗어나거나 파일을 만들 수 없는 문자를 치환
+    private String sanitize(String originalFileName) {
+        if (originalFileName == null || originalFileName.isBlank()) {
+            return "image";
+        }
+        String name = originalFileName.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_");
+        if (name.length() > MAX_NAME_LENGTH) {
+            name = name.substring(name.length() - MAX_NAME_LENGTH);
+        }
+        return name;
+    }
+
+    /**
+     * 압축 파일 구성으로 ETag를 계산하는 메서드
+     * 항목의 이름, 내용, 크기, 시각이 같으면 압축 파일의 바이트도 같으므로 이어받기 검증에 사용할 수 있다.
+     */
+    private String etag(List<ImageDTO.ArchiveEntry> entries) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (ImageDTO.ArchiveEntry entry : entries) {
+            digest.update(entry.getEntryName());
+            digest.update((byte) 0);
+            digest.update(crcKey(entry).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update((entry.getSize() + ":" + dosTime(entry.getCreatedAt()) + ":" + dosDate(entry.getCreatedAt()))
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest.digest(), 16)) + "\"";
+    }
+
+    // 로컬 파일 헤더 (CRC와 크기를 미리 기록하여 앞에서부터 읽는 도구도 항목의 끝을 알 수 있음)
+    private ByteBuffer localHeader(ImageDTO.ArchiveEntry entry, long crc, boolean zip64) {
+        ByteBuffer buffer = ByteBuffer.allocate(localHeaderSize(entry, zip64)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(LOCAL_HEADER_SIGNATURE);
+        buffer.putShort((short) (zip64 ? ZIP64_VERSION : VERSION));
+        buffer.putShort((short) FLAGS);
+        buffer.putShort((short) METHOD_STORED);
+        buffer.putShort((short) dosTime(entry.getCreatedAt()));
+        buffer.putShort((short) dosDate(entry.getCreatedAt()));
+        buffer.putInt((int) crc);
+        buffer.putInt(zip64 ? -1 : (int) entry.getSize());
+        buffer.putInt(zip64 ? -1 : (int) entry.getSize());
+        buffer.putShort((short) entry.getEntryName().length);
+        buffer.putShort((short) (zip64 ? ZIP64_LOCAL_EXTRA_SIZE : 0));
+        buffer.put(entry.getEntryName());
+        if (zip64) {
+            buffer.putShort((short) 0x0001);
+            buffer.putShort((short) 16);
+            buffer.putLong(entry.getSize());
+            buffer.putLong(entry.getSize());
+        }
+        return buffer.flip();
+    }
+
+    // 중앙 디렉토리의 항목 헤더
+    private ByteBuffer centralHeader(ImageDTO.ArchiveEntry entry, long crc, boolean zip64) {
+        int version = zip64 ? ZIP64_VERSION : VERSION;
+        ByteBuffer buffer = ByteBuffer.allocate(centralHeaderSize(entry, zip64)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(CENTRAL_HEADER_SIGNATURE);
+        buffer.putShort((short) (VERSION_MADE_BY_UNIX | version));
+        buffer.putShort((short) version);
+        buffer.putShort((short) FLAGS);
+        buffer.putShort((short) METHOD_STORED);
+        buffer.putShort((short) dosTime(entry.getCreatedAt()));
+        buffer.putShort((short) dosDate(entry.getCreatedAt()));
+        buffer.putInt((int) crc);
+        buffer.putInt(zip64 ? -1 : (int) entry.getSize());
+        buffer.putInt(zip64 ? -1 : (int) entry.getSize());
+        buffer.putShort((short) entry.getEntryName().length);
+        buffer.putShort((short) (zip64 ? ZIP64_CENTRAL_EXTRA_SIZE : 0));
+        buffer.putShort((short) 0);
+        buffer.putShort((short) 0);
+        buffer.putShort((short) 0);
+        buffer.putInt(EXTERNAL_ATTRIBUTES);
+        buffer.putInt(zip64 ? -1 : (int) entry.getLocalHeaderOffset());
+        buffer.put(entry.getEntryName());
+        if (zip64) {
+            buffer.putShort((short) 0x0001);
+            buffer.putShort((short) 24);
+            buffer.putLong(entry.getSize());
+            buffer.putLong(entry.getSize());
+            buffer.putLong(entry.getLocalHeaderOffset());
+        }
+        return buffer.flip();
+    }
+
+    // ZIP64 중앙 디렉토리 끝 레코드
+    private ByteBuffer zip64End(ImageDTO.ImageArchive archive) {
+        ByteBuffer buffer = ByteBuffer.allocate(ZIP64_END_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(ZIP64_END_SIGNATURE);
+        // 이 필드 뒤의 레코드 크기
+        buffer.putLong(ZIP64_END_SIZE - 12);
+        buffer.putShort((short) (VERSION_MADE_BY_UNIX | ZIP64_VERSION));
+        buffer.putShort((short) ZIP64_VERSION);
+        buffer.putInt(0);
+        buffer.putInt(0);
+        buffer.putLong(archive.getEntries().size());
+        buffer.putLong(archive.getEntries().size());
+        buffer.putLong(archive.getCentralDirectorySize());
+        buffer.putLong(archive.getCentralDirectoryOffset());
+        return buffer.flip();
+    }
+
+    // ZIP64 중앙 디렉토리 끝 레코드의 위치
+    private ByteBuffer zip64Locator(ImageDTO.ImageArchive archive) {
+        ByteBuffer buffer = ByteBuffer.allocate(ZIP64_LOCATOR_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(ZIP64_LOCATOR_SIGNATURE);
+        buffer.putInt(0);
+        buffer.putLong(archive.getCentralDirectoryOffset() + archive.getCentralDirectorySize());
+        buffer.putInt(1);
+        return buffer.flip();
+    }
+
+    // 중앙 디렉토리 끝 레코드 (ZIP64 형식이면 값은 ZIP64 레코드에 있음)
+    private ByteBuffer end(ImageDTO.ImageArchive archive) {
+        boolean zip64 = archive.isZip64();
+        ByteBuffer buffer = ByteBuffer.allocate(END_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(END_SIGNATURE);
+        buffer.putShort((short) 0);
+        buffer.putShort((short) 0);
+        buffer.putShort((short) (zip64 ? -1 : archive.getEntries().size()));
+        buffer.putShort((short) (zip64 ? -1 : archive.getEntries().size()));
+        buffer.putInt(zip64 ? -1 : (int) archive.getCentralDirectorySize());
+        buffer.putInt(zip64 ? -1 : (int) archive.getCentralDirectoryOffset());
+        buffer.putShort((short) 0);
+        return buffer.flip();
+    }
+
+    // MS-DOS 형식 시각 (2초 단위, 1980년 이전은 0시)
+    private int dosTime(LocalDateTime time) {
+        if (time == null || time.getYear() < 1980) {
+            return 0;
+        }
+        return time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+    }
+
+    // MS-DOS 형식 날짜 (1980년 이전은 1980-01-01)
+    private int dosDate(LocalDateTime time) {
+        if (time == null || time.getYear() < 1980) {
+            return 1 << 5 | 1;
+        }
+        return (time.getYear() - 1980) << 9 | time.getMonthValue() << 5 | time.getDayOfMonth();
+    }
+
+    /**
+     * 압축 파일을 처음부터 만들어 가며 요청 구간(start ~ end)에 해당하는 바이트만 응답 채널에 쓰는 출력
+     */
+    private static class RangeOutput {
+        private final WritableByteChannel channel;
+        private final long start;
+        private final long end;
+        // 압축 파일 안에서 다음에 만들 바이트의 위치
+        private long position;
+
+        RangeOutput(WritableByteChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        // 지금 위치부터 length 바이트가 요청 구간과 겹치는지
+        boolean overlaps(long length) {
+            return position + length > start && position <= end;
+        }
+
+        // 요청 구간을 모두 기록했는지
+        boolean isDone() {
+            return position > end;
+        }
+
+        // 기록하지 않고 위치만 이동
+        void skip(long length) {
+            position += length;
+        }
+
+        // 크기가 정해진 레코드를 기록 (구간과 겹칠 때만 내용을 만듦)
+        void write(long length, RecordSupplier record) throws IOException {
+            if (overlaps(length)) {
+                write(record.get());
+            } else {
+                skip(length);
+            }
+        }
+
+        // 버퍼의 남은 바이트 중 요청 구간에 해당하는 부분만 기록하고 버퍼 길이만큼 위치를 이동
+        void write(ByteBuffer buffer) throws IOException {
+            int length = buffer.remaining();
+            long from = Math.max(start, position);
+            long to = Math.min(end + 1, position + length);
+            if (from < to) {
+                ByteBuffer part = buffer.duplicate();
+                part.position(buffer.position() + (int) (from - position));
+                part.limit(buffer.position() + (int) (to - position));
+                while (part.hasRemaining()) {
+                    channel.write(part);
+                }
+            }
+            buffer.position(buffer.limit());
+            position += length;
+        }
+
+        // 파일에서 요청 구간에 해당하는 부분만 읽지 않고 전송하고 파일 크기만큼 위치를 이동
+        void transferFrom(FileChannel source, long size) throws IOException {
+            long from = Math.max(start - position, 0);
+            long to = Math.min(end + 1 - position, size);
+            long transferPosition = from;
+            while (transferPosition < to) {
+                long transferred = source.transferTo(transferPosition, to - transferPosition, channel);
+                if (transferred <= 0) {
+                    throw new IOException("압축 파일을 만드는 도중 이미지 파일 크기가 바뀌었습니다.");
+                }
+                transferPosition += transferred;
+            }
+            position += size;
+        }
+    }
+
+    /**
+     * 요청 구간과 겹칠 때만 만드는 레코드
+     */
+    @FunctionalInterface
+    private interface RecordSupplier {
+        ByteBuffer get() throws IOException;
+    }
+}
@@ -0,0 +1,312 @@
+package com.sh.mygallery.domain.image.service;
+
+import com.sh.mygallery.domain.image.domain.Image;
+import com.sh.mygallery.domain.image.exception.ImageTooLargeException;
+import com.sh.mygallery.domain.image.exception.InvalidImageException;
+import com.sh.mygallery.domain.image.repository.ImageBlobRepository;
+import com.sh.mygallery.domain.image.repository.ImageBulkRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * 이미지 파일을 내용 해시(SHA-256) 기준으로 저장하는 저장소 Component
+ *
+ * <p>파일은 "저장소/해시 앞 2자리/다음 2자리/해시" 경로에 저장되어 한 디렉토리에 파일이 몰리지 않으며,
+ * 같은 내용의 사진은 몇 번을 업로드해도 한 번만 저장된다.
+ * image_blobs 테이블이 각 파일을 참조하는 이미지 수를 관리하고,
+ * 참조가 모두 사라진 파일은 주기적인 정리 작업에서 파생 이미지와 함께 삭제된다.</p>
+ *
+ * <p>등록(acquire)과 정리는 모두 blob 행의 잠금을 잡은 상태에서 파일을 다루므로,
+ * 정리 중인 파일을 다른 업로드가 동시에 재사용하여 파일이 사라지는 일이 없다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Component
+@Slf4j
+public class ImageBlobStore {
+    // 스트림 복사에 사용할 버퍼 크기 (업로드 한 건당 메모리 사용량의 상한)
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 기록 중인 파일을 두는 하위 디렉토리
+    private static final String TEMP_DIR = "tmp";
+    // 한 번의 정리 주기에 삭제할 최대 blob 수
+    private static final int GC_BATCH_SIZE = 100;
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageBulkRepository imageBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 이미지 파일이 저장되는 디렉토리
+    @Getter
+    private final Path storageDir;
+    // 기록 중인 파일이 저장되는 디렉토리
+    private final Path tempDir;
+
+    public ImageBlobStore(ImageBlobRepository imageBlobRepository,
+                          ImageBulkRepository imageBulkRepository,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${image.storage.dir:uploads}") String storageDir) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageBulkRepository = imageBulkRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.storageDir = Paths.get(storageDir).toAbsolutePath().normalize();
+        this.tempDir = this.storageDir.resolve(TEMP_DIR);
+
+        try {
+            Files.createDirectories(this.tempDir);
+        } catch (IOException e) {
+            throw new IllegalStateException("이미지 저장 디렉토리를 생성할 수 없습니다: " + this.storageDir, e);
+        }
+    }
+
+    /**
+     * 업로드 스트림을 임시 파일로 기록하면서 크기 제한 검사와 해시(SHA-256, CRC-32) 계산을 하는 메서드
+     *
+     * <p>입력 스트림을 채널로 감싸 고정 크기 버퍼로 읽고, 읽은 바이트를 해시에 반영한 뒤 파일 채널에 쓴다.
+     * 누적 크기가 제한을 넘는 순간 즉시 중단하므로 제한을 넘는 파일을 끝까지 받지 않는다.</p>
+     *
+     * @param in 업로드 파일 스트림
+     * @param fileName 오류 메시지에 사용할 원본 파일명
+     * @param maxFileSize 허용하는 최대 크기(byte)
+     * @return 기록된 임시 파일 정보
+     * @throws IOException 스트림 읽기 또는 파일 기록 중 발생하는 예외
+     */
+    public StagedBlob stage(InputStream in, String fileName, long maxFileSize) throws IOException {
+        Path temp = tempDir.resolve(UUID.randomUUID() + ".part");
+        MessageDigest digest = newSha256();
+        CRC32 crc = new CRC32();
+        long size = 0;
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel sink = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                size += read;
+                if (size > maxFileSize) {
+                    throw new ImageTooLargeException("이미지 한 개의 크기는 " + maxFileSize + " byte를 넘을 수 없습니다: " + fileName);
+                }
+                buffer.flip();
+                // 버퍼에 읽힌 구간만 해시에 반영
+                digest.update(buffer.array(), 0, buffer.limit());
+                crc.update(buffer.array(), 0, buffer.limit());
+                while (buffer.hasRemaining()) {
+                    sink.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        if (size == 0) {
+            Files.deleteIfExists(temp);
+            throw new InvalidImageException("빈 파일은 업로드할 수 없습니다: " + fileName);
+        }
+        return new StagedBlob(temp, size, HexFormat.of().formatHex(digest.digest()), crc.getValue());
+    }
+
+    /**
+     * 임시 파일을 내용 해시 경로의 blob으로 등록하는 메서드 (트랜잭션 내부에서 호출)
+     *
+     * <p>blob 행을 등록하거나 참조 수를 늘려 행 잠금을 얻은 뒤, 같은 내용의 파일이 이미 있으면
+     * 임시 파일을 버리고, 없으면 트랜잭션이 커밋된 뒤에 임시 파일을 해시 경로로 옮긴다.
+     * 트랜잭션이 롤백되면 파일은 임시 파일로 남아 호출한 쪽이 discard()로 정리하므로,
+     * 행 없이 해시 경로에 남아 정리 작업(collectGarbage)이 찾지 못하는 파일이 생기지 않는다.</p>
+     *
+     * @param staged stage()로 기록된 임시 파일
+     * @param contentType MIME 타입
+     * @return blob 파일 경로 (트랜잭션 안에서 호출하면 커밋된 뒤에 파일이 생김)
+     * @throws IOException 파일 이동 중 발생하는 예외
+     */
+    public Path acquire(StagedBlob staged, String contentType) throws IOException {
+        Path target = resolve(staged.getContentHash());
+        imageBlobRepository.acquire(staged.getContentHash(), target.toString(), staged.getSize(), contentType);
+
+        if (Files.exists(target)) {
+            // 이미 저장된 내용 → 중복 저장하지 않음
+            Files.deleteIfExists(staged.getTempPath());
+            return target;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            moveIntoPlace(staged, target);
+            return target;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    moveIntoPlace(staged, target);
+                } catch (IOException e) {
+                    // 이미 커밋되었으므로 요청을 실패시키지 않음 (같은 내용이 다시 업로드되면 채워짐)
+                    log.error("blob 파일을 저장소로 옮기지 못했습니다. temp={}, target={}", staged.getTempPath(), target, e);
+                }
+            }
+        });
+        return target;
+    }
+
+    // 임시 파일을 해시 경로로 옮김 (동시에 같은 내용을 옮긴 다른 요청이 있으면 임시 파일만 삭제)
+    private void moveIntoPlace(StagedBlob staged, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(staged.getTempPath(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(staged.getTempPath());
+        }
+    }
+
+    /**
+     * 가져오기 작업이 저장소에 미리 복사해 둔 파일들을 blob으로 등록하는 메서드 (이미지 등록과 같은 트랜잭션에서 호출)
+     *
+     * <p>이미지마다 행을 갱신하지 않고 해시별 참조 수를 모아 배치 한 번으로 등록한다.
+     * 파일은 resolve(contentHash) 경로에 있어야 하며, 없으면 등록하지 않고 예외를 던진다.</p>
+     *
+     * @param images 등록할 이미지 목록
+     * @throws InvalidImageException 저장소에 파일이 없는 이미지가 있는 경우
+     * @since 2026-10-18
+     */
+    public void acquireExisting(Collection<Image> images) {
+        Map<String, List<Image>> byHash = images.stream()
+                .collect(Collectors.groupingBy(Image::getContentHash));
+
+        List<ImageBulkRepository.BlobReference> blobs = byHash.entrySet().stream()
+                // 동시에 실행되는 다른 등록과 같은 순서로 행을 잠그도록 해시 순으로 정렬
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> {
+                    Image image = entry.getValue().get(0);
+                    Path path = resolve(entry.getKey());
+                    if (!Files.isRegularFile(path)) {
+                        throw new InvalidImageException("저장소에 이미지 파일이 없습니다: " + image.getOriginalFileName());
+                    }
+                    return new ImageBulkRepository.BlobReference(entry.getKey(), path.toString(),
+                            image.getFileSize(), image.getContentType(), entry.getValue().size());
+                })
+                .toList();
+        imageBulkRepository.acquireBlobs(blobs);
+    }
+
+    /**
+     * 삭제되는 이미지들이 참조하던 blob의 참조 수를 줄이는 메서드 (이미지 삭제와 같은 트랜잭션에서 호출)
+     * 실제 파일 삭제는 정리 작업(collectGarbage)에서 이루어진다.
+     *
+     * @param images 삭제되는 이미지 목록
+     */
+    public void release(Collection<Image> images) {
+        Map<String, Long> counts = images.stream()
+                .map(Image::getContentHash)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        counts.forEach((hash, count) -> imageBlobRepository.release(hash, count.intValue()));
+    }
+
+    // 업로드 실패 시 기록된 임시 파일을 정리
+    public void discard(StagedBlob staged) {
+        try {
+            Files.deleteIfExists(staged.getTempPath());
+        } catch (IOException e) {
+            log.warn("임시 파일 정리에 실패했습니다. path={}", staged.getTempPath(), e);
+        }
+    }
+
+    /**
+     * 더 이상 참조되지 않는 blob과 그 파생 이미지 파일을 삭제하는 메서드
+     *
+     * <p>blob마다 짧은 트랜잭션에서 행을 잠금과 함께 다시 확인하고, 여전히 참조가 없을 때만
+     * 파일을 지우고 행을 삭제한다. 그 사이 같은 내용이 다시 업로드되었다면 건너뛴다.</p>
+     */
+    @Scheduled(fixedDelayString = "${image.blob.gc-interval-ms:300000}")
+    public void collectGarbage() {
+        for (String hash : imageBlobRepository.findUnreferencedHashes(PageRequest.ofSize(GC_BATCH_SIZE))) {
+            transactionTemplate.executeWithoutResult(status ->
+                    imageBlobRepository.findUnreferencedForUpdate(hash).ifPresent(blob -> {
+                        deleteFiles(Paths.get(blob.getFilePath()));
+                        imageBlobRepository.delete(blob);
+                    }));
+        }
+    }
+
+    /**
+     * 내용 해시에 해당하는 blob 파일 경로를 계산하는 메서드
+     *
+     * @param contentHash SHA-256 해시(16진수 문자열)
+     * @return 저장소/앞 2자리/다음 2자리/해시 경로
+     */
+    public Path resolve(String contentHash) {
+        return storageDir
+                .resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
+
+    // blob 파일과 같은 이름으로 시작하는 파생 이미지 파일(해시_종류.jpg)을 삭제
+    private void deleteFiles(Path blobPath) {
+        String prefix = blobPath.getFileName().toString();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(blobPath.getParent(), prefix + "*")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("blob 파일 삭제에 실패했습니다. path={}", blobPath, e);
+        }
+    }
+
+    // SHA-256 MessageDigest 생성 (모든 JVM이 지원해야 하는 알고리즘)
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 기록이 끝났지만 아직 blob으로 등록되지 않은 임시 파일 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class StagedBlob {
+        // 임시 파일 경로
+        private final Path tempPath;
+        // 파일 크기(byte)
+        private final long size;
+        // 파일 내용의 SHA-256 해시
+        private final String contentHash;
+        // 파일 내용의 CRC-32
+        private final long crc32;
+    }
+}
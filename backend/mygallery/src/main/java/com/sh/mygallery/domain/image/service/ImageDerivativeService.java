@@ -0,0 +1,336 @@
+package com.sh.mygallery.domain.image.service;
+
+import com.sh.mygallery.domain.image.domain.Image;
+import com.sh.mygallery.domain.image.domain.ImageVariant;
+import com.sh.mygallery.domain.image.domain.ImageVariantType;
+import com.sh.mygallery.domain.image.repository.ImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드된 원본 이미지로부터 파생 이미지(썸네일/중간/대형)를 백그라운드에서 생성하는 Service Component
+ *
+ * <p>업로드가 커밋된 뒤 작업이 전용 Executor에 등록되며, 요청 스레드는 생성 완료를 기다리지 않는다.
+ * Executor의 대기열이 가득 차면 작업은 거절되고, 주기적인 재등록 작업이 생성되지 않은 이미지를 찾아 다시 등록한다.</p>
+ *
+ * <p>원본은 필요한 가장 큰 폭 이상이 되는 범위에서 서브샘플링하여 디코딩하므로
+ * 수천만 화소의 사진도 전체 해상도로 메모리에 올리지 않는다.
+ * 파생 이미지는 큰 것부터 차례로 축소하여 만들고, 점진적으로 표시되는 progressive JPEG로 저장한다.
+ * 같은 내용의 사진이 이미 처리되어 있으면 디코딩 없이 그 파생 이미지 파일을 그대로 재사용한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+    // 파생 이미지 저장 형식
+    private static final String VARIANT_FORMAT = "jpeg";
+    private static final String VARIANT_EXTENSION = "jpg";
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+    // JPEG 압축 품질 (0.0 ~ 1.0)
+    private static final float JPEG_QUALITY = 0.85f;
+    // 한 번의 재등록 주기에 다시 등록할 최대 이미지 수
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final ImageRepository imageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    // 대기 중이거나 처리 중인 이미지 ID (같은 이미지가 중복 등록되지 않도록 관리)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ImageDerivativeService(ImageRepository imageRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Qualifier("imageDerivativeExecutor") ThreadPoolTaskExecutor executor) {
+        this.imageRepository = imageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    /**
+     * 파생 이미지 생성 작업을 등록하는 메서드
+     * 대기열이 가득 차 있으면 기다리지 않고 포기하며, 재등록 주기에 다시 시도된다.
+     *
+     * @param imageId 원본 이미지 ID
+     */
+    public void submit(Long imageId) {
+        if (!inFlight.add(imageId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(imageId);
+                } catch (Exception e) {
+                    log.warn("파생 이미지 생성에 실패했습니다. imageId={}", imageId, e);
+                } finally {
+                    inFlight.remove(imageId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(imageId);
+            log.info("파생 이미지 작업 대기열이 가득 차 다음 주기에 다시 등록합니다. imageId={}", imageId);
+        }
+    }
+
+    /**
+     * 파생 이미지가 아직 생성되지 않은 이미지를 찾아 작업을 다시 등록하는 메서드
+     * 대기열에 여유가 있을 때만 조회하여 거절될 작업을 미리 만들지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${image.derivative.sweep-interval-ms:60000}")
+    public void sweep() {
+        int capacity = executor.getThreadPoolExecutor().getQueue().remainingCapacity();
+        if (capacity <= 0) {
+            return;
+        }
+
+        int limit = Math.min(capacity, SWEEP_BATCH_SIZE);
+        for (Long imageId : imageRepository.findIdsWithoutDerivatives(PageRequest.ofSize(limit))) {
+            submit(imageId);
+        }
+    }
+
+    /**
+     * 원본 이미지 한 건의 파생 이미지를 생성하고 메타데이터를 저장하는 메서드
+     *
+     * @param imageId 원본 이미지 ID
+     * @throws IOException 원본 읽기 또는 파생 이미지 기록 중 발생하는 예외
+     */
+    private void generate(Long imageId) throws IOException {
+        Image image = imageRepository.findById(imageId).orElse(null);
+        if (image == null || image.isDerivativesReady()) {
+            return;
+        }
+        if (image.getContentHash() != null && reuseDerivatives(imageId, image.getContentHash())) {
+            log.debug("같은 내용의 파생 이미지를 재사용합니다. imageId={}", imageId);
+            return;
+        }
+
+        Path original = Paths.get(image.getFilePath());
+        List<ImageVariant> variants = new ArrayList<>();
+        BufferedImage source;
+        try {
+            source = decode(original);
+        } catch (IOException e) {
+            // 손상된 파일은 재시도해도 같은 결과이므로 원본만 사용하도록 완료 처리
+            log.warn("원본 이미지를 디코딩할 수 없습니다. imageId={}", imageId, e);
+            source = null;
+        }
+        if (source == null) {
+            // ImageIO가 디코딩할 수 없는 형식(webp 등)은 원본만 사용
+            log.info("파생 이미지를 만들 수 없어 원본만 사용합니다. imageId={}", imageId);
+        } else {
+            // 큰 것부터 차례로 축소하여 다음 단계의 원본으로 사용 (한 번에 크게 줄일 때보다 품질이 좋음)
+            List<ImageVariantType> types = new ArrayList<>(Arrays.asList(ImageVariantType.values()));
+            types.sort(Comparator.comparingInt(ImageVariantType::getWidth).reversed());
+            for (ImageVariantType type : types) {
+                if (source.getWidth() <= type.getWidth()) {
+                    // 원본이 이미 충분히 작으면 만들지 않음
+                    continue;
+                }
+                source = resize(source, type.getWidth());
+                variants.add(write(source, original, type));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Image managed = imageRepository.findById(imageId).orElse(null);
+            if (managed == null) {
+                // 생성 도중 게시글이 삭제된 경우
+                return;
+            }
+            for (ImageVariant variant : variants) {
+                managed.addVariant(variant);
+            }
+            managed.setDerivativesReady(true);
+        });
+        log.debug("파생 이미지 생성 완료. imageId={}, variants={}", imageId, variants.size());
+    }
+
+    /**
+     * 같은 내용의 다른 이미지가 이미 가진 파생 이미지 정보를 복사하여 완료 처리하는 메서드
+     * 파생 이미지 파일은 blob 파일 옆에 해시 기준 이름으로 저장되므로 파일은 공유하고 메타데이터만 새로 만든다.
+     *
+     * @param imageId 원본 이미지 ID
+     * @param contentHash 원본 파일 내용의 SHA-256 해시
+     * @return 재사용했으면 true, 재사용할 이미지가 없으면 false
+     */
+    private boolean reuseDerivatives(Long imageId, String contentHash) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Image donor = imageRepository.findFirstByContentHashAndDerivativesReadyTrueAndIdNot(contentHash, imageId)
+                    .orElse(null);
+            Image managed = imageRepository.findById(imageId).orElse(null);
+            if (donor == null || managed == null) {
+                return false;
+            }
+            for (ImageVariant variant : donor.getVariants()) {
+                managed.addVariant(ImageVariant.builder()
+                        .variant(variant.getVariant())
+                        .width(variant.getWidth())
+                        .height(variant.getHeight())
+                        .filePath(variant.getFilePath())
+                        .fileSize(variant.getFileSize())
+                        .contentHash(variant.getContentHash())
+                        .contentType(variant.getContentType())
+                        .build());
+            }
+            managed.setDerivativesReady(true);
+            return true;
+        }));
+    }
+
+    /**
+     * 원본 이미지를 필요한 해상도까지만 서브샘플링하여 디코딩하는 메서드
+     *
+     * @param path 원본 파일 경로
+     * @return 디코딩된 이미지, 지원하지 않는 형식이면 null
+     * @throws IOException 파일 읽기 중 발생하는 예외
+     */
+    private BufferedImage decode(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+
+                // 가장 큰 파생 이미지 폭 이상을 유지하는 범위에서 최대한 건너뛰며 읽음
+                int largestWidth = Arrays.stream(ImageVariantType.values())
+                        .mapToInt(ImageVariantType::getWidth)
+                        .max()
+                        .orElse(width);
+                int subsampling = Math.max(1, width / largestWidth);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 비율을 유지하여 지정한 폭으로 축소하는 메서드
+     * JPEG는 투명도를 지원하지 않으므로 흰 배경 위에 그린다.
+     *
+     * @param source 원본 이미지
+     * @param targetWidth 목표 가로 폭(px)
+     * @return 축소된 이미지
+     */
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage result = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    /**
+     * 파생 이미지를 progressive JPEG로 원본과 같은 디렉토리에 기록하는 메서드
+     * 파일명은 "원본 파일명_종류.jpg"이며, 원본 blob이 정리될 때 함께 삭제된다.
+     *
+     * @param image 기록할 이미지
+     * @param original 원본 파일 경로 (파일명 생성 기준)
+     * @param type 파생 이미지 종류
+     * @return 저장할 파생 이미지 엔티티
+     * @throws IOException 파일 기록 중 발생하는 예외
+     */
+    private ImageVariant write(BufferedImage image, Path original, ImageVariantType type) throws IOException {
+        String baseName = StringUtils.stripFilenameExtension(original.getFileName().toString());
+        Path target = original.resolveSibling(baseName + "_" + type.getName() + "." + VARIANT_EXTENSION);
+        Path temp = original.resolveSibling(target.getFileName() + ".part");
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(VARIANT_FORMAT).next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        MessageDigest digest = newSha256();
+        try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest);
+             ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return ImageVariant.builder()
+                .variant(type)
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .filePath(target.toString())
+                .fileSize(Files.size(target))
+                .contentHash(HexFormat.of().formatHex(digest.digest()))
+                .contentType(VARIANT_CONTENT_TYPE)
+                .build();
+    }
+
+    // SHA-256 MessageDigest 생성 (모든 JVM이 지원해야 하는 알고리즘)
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
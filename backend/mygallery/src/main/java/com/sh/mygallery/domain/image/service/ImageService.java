@@ -1,13 +1,354 @@
 package com.sh.mygallery.domain.image.service;
 
+import com.sh.mygallery.domain.board.domain.Board;
+import com.sh.mygallery.domain.board.exception.NotUserException;
+import com.sh.mygallery.domain.board.repository.BoardRepository;
+import com.sh.mygallery.domain.board.service.BoardDetailCacheService;
+import com.sh.mygallery.domain.image.domain.Image;
+import com.sh.mygallery.domain.image.domain.ImageVariant;
+import com.sh.mygallery.domain.image.domain.ImageVariantType;
+import com.sh.mygallery.domain.image.dto.ImageDTO;
+import com.sh.mygallery.domain.image.exception.ImageNotFoundException;
+import com.sh.mygallery.domain.image.exception.InvalidImageException;
+import com.sh.mygallery.domain.image.repository.ImageBulkRepository;
+import com.sh.mygallery.domain.image.repository.ImageRepository;
+import com.sh.mygallery.domain.image.repository.ImageVariantRepository;
+import com.sh.mygallery.domain.user.domain.User;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 이미지 저장 삭제등의 비즈니스로직을 담당하는 Component
  *
+ * <p>업로드는 multipart 요청 본문을 파트 단위로 읽으면서 고정 크기 버퍼 하나로
+ * 저장소 디렉토리의 파일 채널에 바로 기록한다. 파일 전체를 힙이나 컨테이너 임시파일에 담지 않으므로
+ * 동시에 여러 장의 고해상도 사진이 올라와도 업로드 한 건당 메모리 사용량은 버퍼 크기로 고정된다.
+ * 실제 파일은 ImageBlobStore가 내용 해시 기준으로 저장하므로 같은 사진은 한 번만 저장된다.</p>
+ *
  * @author 이세형
  * @since 2025-12-13
  */
 @Service
+@Timed(value = "mygallery.service", histogram = true)
+@Slf4j
 public class ImageService {
+    // 업로드를 허용하는 확장자 목록
+    private static final Set<String> ALLOWED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp");
+    // 목록 화면의 대표 이미지에 필요한 최소 가로 폭(px)
+    private static final int LIST_THUMBNAIL_WIDTH = ImageVariantType.THUMBNAIL.getWidth();
+
+    private final ImageRepository imageRepository;
+    private final ImageBulkRepository imageBulkRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final BoardRepository boardRepository;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageBlobStore imageBlobStore;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardDetailCacheService boardDetailCacheService;
+    private final EntityManager entityManager;
+
+    // 파일 한 개의 최대 크기(byte)
+    private final long maxFileSize;
+    // 요청 한 번에 업로드할 수 있는 최대 파일 수
+    private final int maxFileCount;
+
+    public ImageService(ImageRepository imageRepository,
+                        ImageBulkRepository imageBulkRepository,
+                        ImageVariantRepository imageVariantRepository,
+                        BoardRepository boardRepository,
+                        ImageDerivativeService imageDerivativeService,
+                        ImageBlobStore imageBlobStore,
+                        TransactionTemplate transactionTemplate,
+                        BoardDetailCacheService boardDetailCacheService,
+                        EntityManager entityManager,
+                        @Value("${image.upload.max-file-size:20971520}") long maxFileSize,
+                        @Value("${image.upload.max-files:30}") int maxFileCount) {
+        this.imageRepository = imageRepository;
+        this.imageBulkRepository = imageBulkRepository;
+        this.imageVariantRepository = imageVariantRepository;
+        this.boardRepository = boardRepository;
+        this.imageDerivativeService = imageDerivativeService;
+        this.imageBlobStore = imageBlobStore;
+        this.transactionTemplate = transactionTemplate;
+        this.boardDetailCacheService = boardDetailCacheService;
+        this.entityManager = entityManager;
+        this.maxFileSize = maxFileSize;
+        this.maxFileCount = maxFileCount;
+    }
+
+    /**
+     * multipart 요청에 담긴 이미지들을 게시글에 업로드하는 메서드
+     *
+     * <p>파일은 요청 본문을 읽는 즉시 저장소에 기록되며, 기록과 동시에 크기 제한 검사와
+     * SHA-256 해시 계산이 이루어진다. 모든 파일 기록이 끝난 뒤에만 트랜잭션을 열어 메타데이터를 저장하므로
+     * 느린 클라이언트의 업로드 동안 DB 커넥션을 점유하지 않는다.
+     * 도중에 실패하면 이번 요청에서 기록한 임시 파일을 모두 삭제한다.
+     * 저장이 커밋된 뒤 파생 이미지(썸네일 등) 생성 작업을 백그라운드에 등록하고 바로 응답한다.</p>
+     *
+     * @param boardId 이미지를 첨부할 게시글 ID
+     * @param request multipart/form-data 요청
+     * @param user 현재 로그인한 사용자
+     * @return 저장된 이미지 정보 목록
+     * @throws IOException 요청 본문을 읽거나 파일을 기록하는 중 발생하는 예외
+     * @since 2026-10-18
+     */
+    public List<ImageDTO.ImageResponse> upload(Long boardId, HttpServletRequest request, User user) throws IOException {
+        // 게시글 존재 여부와 작성자 검증 (본문을 읽기 전에 먼저 거절)
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시글을 찾을 수 없습니다. id=" + boardId));
+        if (user == null || !Objects.equals(board.getUser().getUserId(), user.getUserId())) {
+            throw new NotUserException("게시글에 이미지를 업로드할 권한이 없습니다.");
+        }
+
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new InvalidImageException("multipart/form-data 요청이 아닙니다.");
+        }
+
+        List<StoredFile> storedFiles = new ArrayList<>();
+        try {
+            // 파일 아이템 팩토리 없이 생성하면 파트를 임시파일로 받지 않고 스트림으로만 제공
+            JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+            FileItemInputIterator iterator = upload.getItemIterator(request);
+            while (iterator.hasNext()) {
+                FileItemInput item = iterator.next();
+                // 일반 폼 필드는 무시 (다음 파트로 넘어갈 때 남은 내용은 자동으로 건너뜀)
+                if (item.isFormField()) {
+                    continue;
+                }
+                if (storedFiles.size() >= maxFileCount) {
+                    throw new InvalidImageException("한 번에 업로드할 수 있는 이미지는 최대 " + maxFileCount + "개입니다.");
+                }
+                try (InputStream in = item.getInputStream()) {
+                    storedFiles.add(stage(item.getName(), item.getContentType(), in));
+                }
+            }
+
+            if (storedFiles.isEmpty()) {
+                throw new InvalidImageException("업로드할 이미지가 없습니다.");
+            }
+
+            List<Image> images = transactionTemplate.execute(status -> saveImages(boardId, storedFiles));
+            // 이미지 목록이 바뀐 게시글의 상세 캐시 무효화 (커밋이 끝난 뒤이므로 바로 무효화됨)
+            boardDetailCacheService.invalidateAfterCommit(List.of(boardId));
+            for (Image image : images) {
+                imageDerivativeService.submit(image.getId());
+            }
+            return images.stream()
+                    .map(ImageDTO.ImageResponse::from)
+                    .toList();
+        } catch (FileUploadException e) {
+            discardStagedFiles(storedFiles);
+            throw new InvalidImageException("multipart 요청을 해석할 수 없습니다.", e);
+        } catch (IOException | RuntimeException e) {
+            discardStagedFiles(storedFiles);
+            throw e;
+        }
+    }
+
+    /**
+     * 이미지를 응답으로 내보내기 위해 저장소의 실제 파일 정보를 조회하는 메서드
+     *
+     * @param imageId 조회할 이미지 ID
+     * @param variant 파생 이미지 이름 (null이면 원본)
+     * @return 파일 경로, 크기, MIME 타입, 내용 해시
+     * @throws ImageNotFoundException 이미지가 없거나 저장소 밖을 가리키거나 파일이 없는 경우
+     * @since 2026-10-18
+     */
+    public ImageDTO.ImageFile getImageFile(Long imageId, String variant) {
+        if (variant != null) {
+            ImageVariant imageVariant = imageVariantRepository.findByImageIdAndVariant(imageId, ImageVariantType.from(variant))
+                    .orElseThrow(() -> new ImageNotFoundException("이미지를 찾을 수 없습니다. id=" + imageId + ", variant=" + variant));
+            return toImageFile(imageId, imageVariant.getFilePath(), imageVariant.getContentType(), imageVariant.getContentHash());
+        }
+
+        Image image = imageRepository.findById(imageId)
+                .orElseThrow(() -> new ImageNotFoundException("이미지를 찾을 수 없습니다. id=" + imageId));
+        return toImageFile(imageId, image.getFilePath(), image.getContentType(), image.getContentHash());
+    }
+
+    /**
+     * 여러 게시글의 대표 이미지와 이미지 수를 조회하는 메서드
+     *
+     * <p>게시글 수와 관계없이 대표 이미지 조회 1회, 파생 이미지 조회 1회로 처리한다.
+     * 대표 이미지는 목록 화면에 필요한 폭 이상인 가장 작은 파생 이미지를 사용하고,
+     * 아직 생성되지 않았거나 원본이 충분히 작으면 원본을 사용한다.</p>
+     *
+     * @param boardIds 조회할 게시글 ID 목록
+     * @return 게시글 ID별 이미지 요약 (이미지가 없는 게시글은 포함되지 않음)
+     * @since 2026-10-18
+     */
+    public Map<Long, ImageDTO.BoardImageSummary> getBoardImageSummaries(Collection<Long> boardIds) {
+        Map<Long, ImageDTO.BoardImageSummary> summaries = new HashMap<>();
+        if (boardIds.isEmpty()) {
+            return summaries;
+        }
+
+        for (ImageDTO.BoardImageSummary summary : imageRepository.findSummariesByBoardIds(boardIds)) {
+            summaries.put(summary.getBoardId(), summary);
+        }
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        List<Long> imageIds = summaries.values().stream()
+                .map(ImageDTO.BoardImageSummary::getThumbnailImageId)
+                .toList();
+        Map<Long, List<ImageVariantType>> variants = imageVariantRepository.findSummariesByImageIds(imageIds).stream()
+                .collect(Collectors.groupingBy(ImageDTO.VariantSummary::getImageId,
+                        Collectors.mapping(ImageDTO.VariantSummary::getVariant, Collectors.toList())));
+
+        for (ImageDTO.BoardImageSummary summary : summaries.values()) {
+            List<ImageVariantType> available = variants.getOrDefault(summary.getThumbnailImageId(), List.of());
+            summary.applyVariant(ImageVariantType.smallestAdequate(available, LIST_THUMBNAIL_WIDTH));
+        }
+        return summaries;
+    }
+
+    // DB에 기록된 파일 정보를 실제 파일과 대조하여 응답용 정보로 변환
+    private ImageDTO.ImageFile toImageFile(Long imageId, String filePath, String contentType, String contentHash) {
+        // DB에 기록된 경로가 저장소 디렉토리 밖을 가리키지 않는지 확인
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        if (!path.startsWith(imageBlobStore.getStorageDir())) {
+            throw new ImageNotFoundException("이미지를 찾을 수 없습니다. id=" + imageId);
+        }
+
+        try {
+            long size = Files.size(path);
+            String type = contentType != null ? contentType : "application/octet-stream";
+            return new ImageDTO.ImageFile(path, size, type, contentHash);
+        } catch (IOException e) {
+            throw new ImageNotFoundException("이미지 파일을 찾을 수 없습니다. id=" + imageId, e);
+        }
+    }
+
+    /**
+     * 파일 한 개를 저장소의 임시 파일로 스트리밍 기록하는 메서드
+     * 형식 검사 후 ImageBlobStore가 크기 제한 검사와 해시 계산을 하며 기록한다.
+     *
+     * @param originalFileName 업로드 당시의 원본 파일명
+     * @param contentType 파트의 MIME 타입
+     * @param in 파트 본문 스트림
+     * @return 기록된 파일 정보
+     * @throws IOException 스트림 읽기 또는 파일 기록 중 발생하는 예외
+     */
+    private StoredFile stage(String originalFileName, String contentType, InputStream in) throws IOException {
+        extractExtension(originalFileName);
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("image/")) {
+            throw new InvalidImageException("이미지 파일만 업로드할 수 있습니다: " + originalFileName);
+        }
+
+        ImageBlobStore.StagedBlob staged = imageBlobStore.stage(in, originalFileName, maxFileSize);
+        return new StoredFile(originalFileName, contentType, staged);
+    }
+
+    /**
+     * 기록이 끝난 파일들을 blob으로 등록하고 메타데이터를 게시글에 연결하여 저장하는 메서드 (트랜잭션 내부에서 호출)
+     * 같은 내용의 blob이 이미 있으면 파일을 새로 저장하지 않고 참조 수만 늘린다.
+     * 이미지 행은 IDENTITY 키 때문에 JPA로는 한 건씩 INSERT되므로 JDBC 배치로 한 번에 저장한다.
+     *
+     * @param boardId 이미지를 첨부할 게시글 ID
+     * @param storedFiles 기록된 파일 목록
+     * @return 저장된 이미지 엔티티 목록
+     */
+    private List<Image> saveImages(Long boardId, List<StoredFile> storedFiles) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시글을 찾을 수 없습니다. id=" + boardId));
+
+        List<Image> images = new ArrayList<>(storedFiles.size());
+        for (StoredFile storedFile : storedFiles) {
+            ImageBlobStore.StagedBlob staged = storedFile.getStaged();
+            Path blobPath;
+            try {
+                blobPath = imageBlobStore.acquire(staged, storedFile.getContentType());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            Image image = Image.builder()
+                    .originalFileName(storedFile.getOriginalFileName())
+                    .storedFileName(staged.getContentHash())
+                    .filePath(blobPath.toString())
+                    .fileSize(staged.getSize())
+                    .contentHash(staged.getContentHash())
+                    .crc32(staged.getCrc32())
+                    .contentType(storedFile.getContentType())
+                    .build();
+            // 영속성 컨텍스트 밖에서 저장하므로 게시글의 이미지 컬렉션(cascade)에는 추가하지 않음
+            image.setBoard(board);
+            images.add(image);
+        }
+        imageBulkRepository.insertAll(images);
+        // JDBC로 추가한 이미지는 영속 상태의 게시글 이미지 컬렉션에 반영되지 않으므로,
+        // 같은 요청(OSIV)에서 이후에 게시글을 다시 조회할 때 DB에서 새로 읽도록 영속성 컨텍스트에서 분리
+        entityManager.detach(board);
+        return images;
+    }
+
+    /**
+     * 게시글 삭제 시 함께 삭제되는 이미지들의 blob 참조를 해제하는 메서드 (게시글 삭제와 같은 트랜잭션에서 호출)
+     * 참조가 모두 사라진 파일은 ImageBlobStore의 정리 작업에서 삭제된다.
+     *
+     * @param images 삭제되는 이미지 목록
+     * @since 2026-10-18
+     */
+    public void releaseImages(Collection<Image> images) {
+        imageBlobStore.release(images);
+    }
+
+    // 실패한 업로드에서 아직 blob으로 등록되지 않은 임시 파일들을 정리
+    private void discardStagedFiles(List<StoredFile> storedFiles) {
+        for (StoredFile storedFile : storedFiles) {
+            imageBlobStore.discard(storedFile.getStaged());
+        }
+    }
+
+    // 원본 파일명에서 확장자를 추출하고 허용 여부를 검사
+    private String extractExtension(String originalFileName) {
+        String extension = StringUtils.getFilenameExtension(originalFileName);
+        if (extension == null || !ALLOWED_EXTENSIONS.contains(extension.toLowerCase(Locale.ROOT))) {
+            throw new InvalidImageException("허용되지 않는 파일 형식입니다: " + originalFileName);
+        }
+        return extension.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 임시 파일로 기록이 끝난 업로드 파일 한 개의 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class StoredFile {
+        private final String originalFileName;
+        private final String contentType;
+        private final ImageBlobStore.StagedBlob staged;
+    }
 }
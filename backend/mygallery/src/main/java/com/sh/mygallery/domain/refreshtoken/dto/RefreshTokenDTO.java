@@ -0,0 +1,26 @@
+package com.sh.mygallery.domain.refreshtoken.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * refreshToken 재발급 결과를 다룰때 사용할 DTO
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class RefreshTokenDTO {
+
+    /**
+     * refreshToken 교체 시 함께 발급되는 토큰 묶음
+     * refreshToken은 Controller에서 HttpOnly 쿠키로, accessToken은 응답 body로 전달한다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class TokenPair {
+        // 새로 발급된 accessToken
+        private String accessToken;
+        // 기존 토큰을 대체하는 새 refreshToken
+        private String refreshToken;
+    }
+}
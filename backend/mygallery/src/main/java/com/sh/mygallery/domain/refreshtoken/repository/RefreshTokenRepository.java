@@ -1,12 +1,177 @@
 package com.sh.mygallery.domain.refreshtoken.repository;
 
-import com.sh.mygallery.domain.refreshtoken.entity.RefreshToken;
-import org.springframework.data.repository.CrudRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.List;
 
+/**
+ * refreshToken의 상태를 토큰 고유 ID(jti) 기준으로 Redis에 보관하는 저장소
+ *
+ * <p>발급, 교체(rotate), 폐기를 각각 Lua 스크립트 한 번으로 처리하므로 Redis 왕복은 작업당 한 번이며
+ * 보조 인덱스를 만들지 않는다.</p>
+ *
+ * <ul>
+ *   <li>{@value #TOKEN_PREFIX}{jti} : 토큰 Hash (user = 사용자, family = 로그인 세션 ID, status = active/rotated)</li>
+ *   <li>{@value #FAMILY_PREFIX}{family} : 해당 로그인 세션에서 현재 유효한 토큰의 jti</li>
+ *   <li>{@value #GRACE_PREFIX}{jti} : 교체 직후 짧은 유예 시간 동안만 남는 후속 토큰의 jti</li>
+ * </ul>
+ *
+ * <p>교체된(rotated) 토큰은 만료될 때까지 남겨두며, 이 토큰이 다시 사용되면 탈취된 것으로 보고
+ * 같은 로그인 세션의 현재 토큰까지 모두 폐기한다.
+ * 다만 여러 탭이나 재시도로 같은 토큰의 갱신 요청이 동시에 오는 경우를 위해 교체 직후 유예 시간 동안은
+ * 재사용으로 보지 않고 이미 등록된 후속 토큰을 다시 발급한다.
+ * 세션 키는 토큰 Hash에 저장된 세션 ID로 스크립트 안에서 계산하므로 단일 Redis(Sentinel) 구성을 전제로 한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
 @Repository
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
-    Optional<RefreshToken> findByToken(String token);
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
+    // 토큰 Hash 키 접두사
+    private static final String TOKEN_PREFIX = "refresh:token:";
+    // 로그인 세션 키 접두사
+    private static final String FAMILY_PREFIX = "refresh:family:";
+    // 교체 직후 유예 키 접두사
+    private static final String GRACE_PREFIX = "refresh:grace:";
+
+    /*
+     * 새 로그인 세션의 토큰을 등록하는 스크립트
+     * KEYS[1] = 토큰 Hash, KEYS[2] = 세션 키, ARGV[1] = 사용자, ARGV[2] = 세션 ID, ARGV[3] = jti, ARGV[4] = TTL(초)
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], 'user', ARGV[1], 'family', ARGV[2], 'status', 'active') " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('SET', KEYS[2], ARGV[3], 'EX', ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    /*
+     * 토큰을 교체하는 스크립트
+     * 1. 토큰이 없거나 다른 사용자의 토큰이면 NOT_FOUND
+     * 2. 이미 교체된 토큰이면
+     *    - 교체 직후 유예 시간 안이고 후속 토큰이 세션의 현재 토큰이면(동시 요청) 후속 토큰으로 ROTATED
+     *    - 유예 시간 안이지만 후속 토큰도 이미 교체/폐기되었으면 NOT_FOUND
+     *    - 유예 시간이 지났으면(재사용) 같은 세션의 현재 토큰과 세션 키를 삭제하고 REUSED
+     * 3. 세션의 현재 토큰이 아니면(이미 폐기된 세션) NOT_FOUND
+     * 4. 기존 토큰을 rotated로 표시하고 새 토큰을 같은 세션으로 등록한 뒤 ROTATED
+     * KEYS[1] = 기존 토큰 Hash, KEYS[2] = 새 토큰 Hash, KEYS[3] = 기존 토큰의 유예 키,
+     * ARGV[1] = 사용자, ARGV[2] = 기존 jti, ARGV[3] = 새 jti, ARGV[4] = TTL(초), ARGV[5] = 토큰 키 접두사,
+     * ARGV[6] = 세션 키 접두사, ARGV[7] = 유예 시간(밀리초)
+     * 반환값 = {결과, 발급할 토큰의 jti}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local t = redis.call('HMGET', KEYS[1], 'user', 'family', 'status') " +
+            "if not t[1] or t[1] ~= ARGV[1] then return {'NOT_FOUND'} end " +
+            "local familyKey = ARGV[6] .. t[2] " +
+            "local current = redis.call('GET', familyKey) " +
+            "if t[3] ~= 'active' then " +
+            "  local successor = redis.call('GET', KEYS[3]) " +
+            "  if successor then " +
+            "    if successor == current then return {'ROTATED', successor} end " +
+            "    return {'NOT_FOUND'} " +
+            "  end " +
+            "  if current then redis.call('DEL', ARGV[5] .. current, familyKey) end " +
+            "  return {'REUSED'} " +
+            "end " +
+            "if current ~= ARGV[2] then return {'NOT_FOUND'} end " +
+            "redis.call('HSET', KEYS[1], 'status', 'rotated') " +
+            "redis.call('HSET', KEYS[2], 'user', ARGV[1], 'family', t[2], 'status', 'active') " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+            "redis.call('SET', familyKey, ARGV[3], 'EX', ARGV[4]) " +
+            "if tonumber(ARGV[7]) > 0 then redis.call('SET', KEYS[3], ARGV[3], 'PX', ARGV[7]) end " +
+            "return {'ROTATED', ARGV[3]}",
+            List.class);
+
+    /*
+     * 토큰이 속한 로그인 세션을 폐기하는 스크립트 (로그아웃)
+     * KEYS[1] = 토큰 Hash, ARGV[1] = 토큰 키 접두사, ARGV[2] = 세션 키 접두사
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+            "local family = redis.call('HGET', KEYS[1], 'family') " +
+            "if not family then return 0 end " +
+            "local familyKey = ARGV[2] .. family " +
+            "local current = redis.call('GET', familyKey) " +
+            "if current then redis.call('DEL', ARGV[1] .. current) end " +
+            "redis.call('DEL', KEYS[1], familyKey) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 새 로그인 세션의 refreshToken을 등록하는 메서드
+     * 세션 ID는 첫 토큰의 jti를 사용한다.
+     *
+     * @param jti 토큰 고유 ID
+     * @param userId 사용자 ID (email)
+     * @param ttl 보관 시간 (토큰 유효 기간)
+     */
+    public void issue(String jti, String userId, Duration ttl) {
+        redisTemplate.execute(ISSUE_SCRIPT, List.of(TOKEN_PREFIX + jti, FAMILY_PREFIX + jti),
+                userId, jti, jti, Long.toString(ttl.toSeconds()));
+    }
+
+    /**
+     * 기존 refreshToken을 무효화하고 같은 세션의 새 토큰을 등록하는 메서드
+     * 교체 직후 유예 시간 안에 같은 기존 토큰으로 다시 요청하면(동시 갱신) 재사용으로 보지 않고
+     * 먼저 등록된 후속 토큰의 jti를 돌려준다.
+     *
+     * @param oldJti 기존 토큰 고유 ID
+     * @param newJti 새 토큰 고유 ID
+     * @param userId 토큰의 사용자 ID
+     * @param ttl 새 토큰의 보관 시간
+     * @param reuseGrace 교체된 토큰을 재사용으로 보지 않는 시간 (0이면 유예 없음)
+     * @return 교체 결과 (ROTATED, REUSED, NOT_FOUND)와 ROTATED일 때 발급할 토큰의 jti
+     */
+    public Rotation rotate(String oldJti, String newJti, String userId, Duration ttl, Duration reuseGrace) {
+        List<?> result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_PREFIX + oldJti, TOKEN_PREFIX + newJti, GRACE_PREFIX + oldJti),
+                userId, oldJti, newJti, Long.toString(ttl.toSeconds()), TOKEN_PREFIX, FAMILY_PREFIX,
+                Long.toString(reuseGrace.toMillis()));
+        Result status = Result.valueOf((String) result.get(0));
+        return new Rotation(status, result.size() > 1 ? (String) result.get(1) : null);
+    }
+
+    /**
+     * refreshToken이 속한 로그인 세션을 폐기하는 메서드
+     *
+     * @param jti 토큰 고유 ID
+     * @return 폐기된 세션이 있으면 true
+     */
+    public boolean revoke(String jti) {
+        Long result = redisTemplate.execute(REVOKE_SCRIPT, List.of(TOKEN_PREFIX + jti), TOKEN_PREFIX, FAMILY_PREFIX);
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 토큰 교체 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+        private Result result;
+        // 새로 발급할 refreshToken의 jti (ROTATED가 아니면 null)
+        private String tokenId;
+    }
+
+    /**
+     * 스크립트 실행 결과
+     */
+    public enum Result {
+        // 교체 완료
+        ROTATED,
+        // 이미 교체된 토큰의 재사용 (세션 폐기됨)
+        REUSED,
+        // 존재하지 않거나 폐기된 토큰
+        NOT_FOUND
+    }
 }
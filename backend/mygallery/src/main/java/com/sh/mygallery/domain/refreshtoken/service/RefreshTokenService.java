@@ -1,25 +1,42 @@
 package com.sh.mygallery.domain.refreshtoken.service;
 
-import com.sh.mygallery.domain.refreshtoken.entity.RefreshToken;
+import com.sh.mygallery.domain.refreshtoken.dto.RefreshTokenDTO;
 import com.sh.mygallery.domain.refreshtoken.repository.RefreshTokenRepository;
 import com.sh.mygallery.util.JwtUtil;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.UUID;
 
 /**
  * refreshToken 발급등의 로직을 담고있는 Service Component
  *
+ * <p>refreshToken은 사용할 때마다 새 토큰으로 교체(rotate)된다.
+ * 이미 교체된 토큰이 다시 사용되면 탈취된 것으로 보고 해당 로그인 세션의 토큰을 모두 폐기한다.
+ * 단, 교체 직후 짧은 유예 시간 안에 같은 토큰으로 온 요청(동시 갱신)에는 먼저 교체된 후속 토큰을 다시 발급한다.</p>
+ *
  * @author 이세형
  * @since 2025-12-12
  */
 @Service
-@RequiredArgsConstructor
+@Timed(value = "mygallery.service", histogram = true)
+@Slf4j
 public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtUtil jwtUtil;
+    // 교체된 토큰으로 다시 요청해도 재사용으로 보지 않는 시간
+    private final Duration reuseGrace;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JwtUtil jwtUtil,
+                               @Value("${jwt.refresh.reuse-grace-ms:10000}") long reuseGraceMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.reuseGrace = Duration.ofMillis(reuseGraceMillis);
+    }
 
     /**
      * Refresh Token을 발급하고 Redis에 저장합니다.
@@ -27,44 +44,57 @@ public class RefreshTokenService {
      * @param userId 사용자 ID (email)
      * @return 생성된 Refresh Token 문자열
      */
-    @Transactional
     public String issueRefreshToken(String userId) {
-        String token = jwtUtil.createRefreshToken(userId);
-        RefreshToken refreshToken = new RefreshToken(userId, token);
-        refreshTokenRepository.save(refreshToken);
+        String tokenId = UUID.randomUUID().toString();
+        String token = jwtUtil.createRefreshToken(userId, tokenId);
+        refreshTokenRepository.issue(tokenId, userId, JwtUtil.REFRESH_TOKEN_TTL);
         return token;
     }
 
     /**
-     * 제공된 Refresh Token으로 새로운 Access Token을 발급합니다.
+     * 제공된 Refresh Token으로 새로운 Access Token을 발급하고 Refresh Token을 교체합니다.
      *
      * @param token 검증할 Refresh Token
-     * @return 새로 발급된 Access Token
-     * @throws IllegalArgumentException Refresh Token이 유효하지 않거나 저장소에 없을 경우
+     * @return 새로 발급된 Access Token과 Refresh Token
+     * @throws IllegalArgumentException Refresh Token이 유효하지 않거나 저장소에 없거나 재사용된 경우
      */
-    @Transactional(readOnly = true)
-    public String refreshAccessToken(String token) {
+    public RefreshTokenDTO.TokenPair refreshAccessToken(String token) {
         // 1. JWT 유효성(서명, 만료) 검사 및 사용자 정보 추출
-        String userId = jwtUtil.getEmailFromToken(token);
-        if (userId == null) {
+        JwtUtil.JwtVerification verification = jwtUtil.verify(token);
+        if (!verification.isValid() || verification.getTokenId() == null) {
             throw new IllegalArgumentException("Invalid or expired refresh token.");
         }
+        String userId = verification.getSubject();
 
-        // 2. 저장소에서 토큰 확인
-        refreshTokenRepository.findByToken(token)
-                .orElseThrow(() -> new IllegalArgumentException("Refresh token not found. It may have been revoked."));
+        // 2. 저장소에서 기존 토큰을 무효화하고 새 토큰 등록
+        String newTokenId = UUID.randomUUID().toString();
+        RefreshTokenRepository.Rotation rotation = refreshTokenRepository.rotate(
+                verification.getTokenId(), newTokenId, userId, JwtUtil.REFRESH_TOKEN_TTL, reuseGrace);
+        RefreshTokenRepository.Result result = rotation.getResult();
+        if (result == RefreshTokenRepository.Result.REUSED) {
+            log.warn("이미 교체된 refreshToken이 다시 사용되어 로그인 세션을 폐기합니다. userId={}", userId);
+            throw new IllegalArgumentException("Refresh token reuse detected. The session has been revoked.");
+        }
+        if (result != RefreshTokenRepository.Result.ROTATED) {
+            throw new IllegalArgumentException("Refresh token not found. It may have been revoked.");
+        }
 
-        // 3. 새로운 Access Token 생성
-        return jwtUtil.createAccessToken(userId);
+        // 3. 새로운 Access Token, Refresh Token 생성 (유예 시간 안의 동시 요청이면 먼저 등록된 후속 토큰의 jti)
+        return new RefreshTokenDTO.TokenPair(
+                jwtUtil.createAccessToken(userId),
+                jwtUtil.createRefreshToken(userId, rotation.getTokenId()));
     }
 
     /**
-     * Refresh Token을 삭제합니다. (로그아웃 시 사용)
+     * Refresh Token이 속한 로그인 세션을 폐기합니다. (로그아웃 시 사용)
      *
-     * @param userId 사용자 ID
+     * @param token 폐기할 Refresh Token
      */
-    @Transactional
-    public void deleteRefreshTokenByUserId(String userId) {
-        refreshTokenRepository.deleteById(userId);
+    public void revokeRefreshToken(String token) {
+        JwtUtil.JwtVerification verification = jwtUtil.verify(token);
+        // 만료된 토큰은 저장소에서도 이미 만료되었으므로 유효한 토큰만 폐기
+        if (verification.isValid() && verification.getTokenId() != null) {
+            refreshTokenRepository.revoke(verification.getTokenId());
+        }
     }
-}
\ No newline at end of file
+}
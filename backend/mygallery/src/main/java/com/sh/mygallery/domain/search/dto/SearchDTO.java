@@ -0,0 +1,65 @@
+package com.sh.mygallery.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 검색과 검색 색인에서 사용할 DTO
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class SearchDTO {
+
+    /**
+     * 검색 색인에 넣을 게시글 한 건
+     * 엔티티 대신 색인에 필요한 컬럼만 JPQL 생성자 표현식으로 조회한다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class IndexDocument {
+        private Long boardId;
+        private String title;
+        private String content;
+        // 색인 스냅샷 이후 변경분을 찾는 기준
+        private LocalDateTime updatedAt;
+    }
+
+    /**
+     * 색인에서 찾은 검색 결과 (점수 순 게시글 ID)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SearchHits {
+        // 검색어와 일치하는 전체 게시글 수
+        private int totalHits;
+        // 요청한 범위의 게시글 ID (점수 내림차순)
+        private List<Long> boardIds;
+    }
+
+    /**
+     * 페이지 번호 기반 검색 결과 응답 DTO
+     *
+     * <p>검색 결과는 점수 순이므로 목록 조회와 달리 커서 대신 페이지 번호를 사용한다.
+     * 순위 계산은 메모리의 색인에서 이루어지므로 페이지가 깊어져도 DB 비용은 늘지 않는다.</p>
+     *
+     * @param <T> 페이지에 담기는 항목 타입
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SearchPage<T> {
+        // 현재 페이지의 항목 목록 (점수 내림차순)
+        private List<T> items;
+        // 현재 페이지 번호 (0부터 시작)
+        private int page;
+        // 페이지 크기
+        private int size;
+        // 검색어와 일치하는 전체 게시글 수
+        private long totalHits;
+        // 다음 페이지 존재 여부
+        private boolean hasNext;
+    }
+}
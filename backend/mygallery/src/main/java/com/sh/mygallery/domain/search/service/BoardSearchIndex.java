@@ -0,0 +1,395 @@
+package com.sh.mygallery.domain.search.service;
+
+import com.sh.mygallery.domain.search.dto.SearchDTO;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/내용에 대한 메모리 역색인(inverted index)
+ *
+ * <p>토큰 → (게시글 ID → 등장 횟수)의 역색인과, 게시글을 수정/삭제할 때 기존 토큰을 지우기 위한
+ * 게시글 → 토큰 목록의 정방향 색인을 함께 가진다. 제목에 나온 토큰은 TITLE_WEIGHT배로 센다.
+ * 점수는 BM25(k1 = 1.2, b = 0.75)로 계산하며, 요청한 범위까지만 크기가 제한된 힙으로 상위 결과를 고른다.</p>
+ *
+ * <p>검색은 읽기 잠금, 색인 변경은 쓰기 잠금으로 보호한다.
+ * 스냅샷은 메모리 매핑한 파일에 기록한 뒤 원자적으로 교체하며, 재시작 시 매핑한 파일을 한 번 읽어 복원한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class BoardSearchIndex {
+    // 스냅샷 파일 식별값 ("MGSI")과 형식 버전 (2: 한글 unigram 색인 추가, 이전 버전 스냅샷은 전체 재색인)
+    private static final int SNAPSHOT_MAGIC = 0x4D475349;
+    private static final int SNAPSHOT_VERSION = 2;
+    // 스냅샷에 변경 기준 시각이 없을 때의 값
+    private static final long NO_WATERMARK = Long.MIN_VALUE;
+
+    // BM25 파라미터 (등장 횟수 포화 정도, 문서 길이 보정 정도)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목 토큰 가중치
+    private static final int TITLE_WEIGHT = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 → (게시글 ID → 가중 등장 횟수)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 게시글 ID → 색인된 토큰 목록
+    private final Map<Long, Document> documents = new HashMap<>();
+    // 모든 게시글의 길이 합 (평균 길이 계산용)
+    private long totalLength;
+    // 색인에 반영된 게시글 중 가장 늦은 수정 시각 (재시작 시 이후 변경분만 다시 색인)
+    private LocalDateTime watermark;
+
+    // 마지막 스냅샷 이후 변경 여부
+    private volatile boolean dirty;
+
+    /**
+     * 게시글을 색인에 추가하거나 기존 색인을 교체하는 메서드
+     *
+     * @param document 색인할 게시글
+     */
+    public void upsert(SearchDTO.IndexDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : SearchTokenizer.tokenizeForIndex(document.getTitle())) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : SearchTokenizer.tokenizeForIndex(document.getContent())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        String[] terms = new String[frequencies.size()];
+        int[] freqs = new int[frequencies.size()];
+        int length = 0;
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms[i] = entry.getKey();
+            freqs[i] = entry.getValue();
+            length += entry.getValue();
+            i++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getBoardId());
+            put(document.getBoardId(), new Document(length, terms, freqs));
+            if (document.getUpdatedAt() != null
+                    && (watermark == null || document.getUpdatedAt().isAfter(watermark))) {
+                watermark = document.getUpdatedAt();
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인에서 제거하는 메서드
+     *
+     * @param boardId 제거할 게시글 ID
+     */
+    public void remove(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            if (removeInternal(boardId)) {
+                dirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 관련된 게시글을 BM25 점수 순으로 찾는 메서드
+     * 점수가 같으면 최근 게시글(ID가 큰 순)을 먼저 반환한다.
+     *
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 전체 일치 수와 요청 범위의 게시글 ID
+     */
+    public SearchDTO.SearchHits search(String query, int offset, int limit) {
+        // 같은 토큰이 여러 번 나와도 한 번만 점수에 반영
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchDTO.SearchHits(0, List.of());
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return new SearchDTO.SearchHits(0, List.of());
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                int df = posting.size();
+                double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int tf = entry.getValue();
+                    int length = documents.get(entry.getKey()).length;
+                    double norm = K1 * (1 - B + B * length / averageLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // offset + limit개만 유지하는 최소 힙 (가장 낮은 순위가 먼저 빠짐)
+        Comparator<Map.Entry<Long, Double>> rank = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        int keep = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(rank);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (top.size() < keep) {
+                top.add(entry);
+            } else if (rank.compare(entry, top.peek()) > 0) {
+                top.poll();
+                top.add(entry);
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().getKey());
+        }
+        // 힙에서 낮은 순위부터 꺼냈으므로 뒤집어서 높은 순위부터
+        List<Long> boardIds = new ArrayList<>();
+        for (int i = ranked.size() - 1 - offset; i >= 0 && boardIds.size() < limit; i--) {
+            boardIds.add(ranked.get(i));
+        }
+        return new SearchDTO.SearchHits(scores.size(), boardIds);
+    }
+
+    // 색인된 게시글 수
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인에 반영된 가장 늦은 수정 시각 (없으면 null)
+    public LocalDateTime getWatermark() {
+        lock.readLock().lock();
+        try {
+            return watermark;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 마지막 스냅샷 이후 변경 여부
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * 색인 전체를 스냅샷 파일로 저장하는 메서드
+     *
+     * <p>같은 디렉토리의 임시 파일을 필요한 크기만큼 메모리 매핑하여 기록하고 디스크에 반영한 뒤
+     * 원자적으로 이름을 바꾸므로, 저장 중 종료되어도 기존 스냅샷은 손상되지 않는다.
+     * 기록하는 동안 읽기 잠금을 유지하므로 검색은 계속되고 색인 변경만 잠시 대기한다.</p>
+     *
+     * <pre>
+     * int magic, int version, long watermark(UTC epoch ms)
+     * int termCount, (int byteLength, byte[] utf8) * termCount
+     * int documentCount, (long boardId, int length, int termCount, (int termId, int freq) * termCount) * documentCount
+     * </pre>
+     *
+     * @param file 저장할 스냅샷 파일 경로
+     * @throws IOException 파일 기록에 실패한 경우
+     */
+    public void writeSnapshot(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> termIds = new HashMap<>(postings.size() * 2);
+            List<byte[]> termBytes = new ArrayList<>(postings.size());
+            long size = 4 + 4 + 8 + 4 + 4;
+            for (String term : postings.keySet()) {
+                byte[] bytes = term.getBytes(StandardCharsets.UTF_8);
+                termIds.put(term, termBytes.size());
+                termBytes.add(bytes);
+                size += 4 + bytes.length;
+            }
+            for (Document document : documents.values()) {
+                size += 8 + 4 + 4 + 8L * document.terms.length;
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("검색 색인 스냅샷이 2GB를 넘어 저장할 수 없습니다. size=" + size);
+            }
+
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(SNAPSHOT_MAGIC);
+                buffer.putInt(SNAPSHOT_VERSION);
+                buffer.putLong(watermark != null ? watermark.toInstant(ZoneOffset.UTC).toEpochMilli() : NO_WATERMARK);
+
+                buffer.putInt(termBytes.size());
+                for (byte[] bytes : termBytes) {
+                    buffer.putInt(bytes.length);
+                    buffer.put(bytes);
+                }
+
+                buffer.putInt(documents.size());
+                for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+                    Document document = entry.getValue();
+                    buffer.putLong(entry.getKey());
+                    buffer.putInt(document.length);
+                    buffer.putInt(document.terms.length);
+                    for (int i = 0; i < document.terms.length; i++) {
+                        buffer.putInt(termIds.get(document.terms[i]));
+                        buffer.putInt(document.freqs[i]);
+                    }
+                }
+                buffer.force();
+            }
+            // 읽기 잠금 중에는 색인이 바뀌지 않으므로 지금까지의 변경은 모두 스냅샷에 포함됨
+            dirty = false;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            dirty = true;
+            throw e;
+        }
+    }
+
+    /**
+     * 스냅샷 파일을 읽어 색인을 교체하는 메서드
+     *
+     * @param file 스냅샷 파일 경로
+     * @throws IOException 파일이 없거나 형식이 올바르지 않은 경우 (색인은 바뀌지 않음)
+     */
+    public void loadSnapshot(Path file) throws IOException {
+        Map<String, Map<Long, Integer>> loadedPostings = new HashMap<>();
+        Map<Long, Document> loadedDocuments = new HashMap<>();
+        long loadedTotalLength = 0;
+        LocalDateTime loadedWatermark;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("검색 색인 스냅샷 크기가 올바르지 않습니다. size=" + channel.size());
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                throw new IOException("검색 색인 스냅샷 형식이 올바르지 않습니다. file=" + file);
+            }
+            long watermarkMillis = buffer.getLong();
+            loadedWatermark = watermarkMillis == NO_WATERMARK ? null
+                    : LocalDateTime.ofEpochSecond(Math.floorDiv(watermarkMillis, 1000L),
+                    (int) Math.floorMod(watermarkMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+
+            String[] terms = new String[buffer.getInt()];
+            for (int i = 0; i < terms.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                terms[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int documentCount = buffer.getInt();
+            for (int i = 0; i < documentCount; i++) {
+                long boardId = buffer.getLong();
+                int length = buffer.getInt();
+                int termCount = buffer.getInt();
+                String[] documentTerms = new String[termCount];
+                int[] freqs = new int[termCount];
+                for (int j = 0; j < termCount; j++) {
+                    documentTerms[j] = terms[buffer.getInt()];
+                    freqs[j] = buffer.getInt();
+                    loadedPostings.computeIfAbsent(documentTerms[j], key -> new HashMap<>()).put(boardId, freqs[j]);
+                }
+                loadedDocuments.put(boardId, new Document(length, documentTerms, freqs));
+                loadedTotalLength += length;
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("검색 색인 스냅샷이 손상되었습니다. file=" + file, e);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            postings.putAll(loadedPostings);
+            documents.clear();
+            documents.putAll(loadedDocuments);
+            totalLength = loadedTotalLength;
+            watermark = loadedWatermark;
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출: 게시글과 토큰 등록
+    private void put(Long boardId, Document document) {
+        documents.put(boardId, document);
+        totalLength += document.length;
+        for (int i = 0; i < document.terms.length; i++) {
+            postings.computeIfAbsent(document.terms[i], key -> new HashMap<>()).put(boardId, document.freqs[i]);
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출: 게시글과 토큰 제거 (색인에 있었으면 true)
+    private boolean removeInternal(Long boardId) {
+        Document document = documents.remove(boardId);
+        if (document == null) {
+            return false;
+        }
+        totalLength -= document.length;
+        for (String term : document.terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(boardId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        return true;
+    }
+
+    // 게시글 한 건의 색인 정보 (길이 = 가중 토큰 수)
+    private record Document(int length, String[] terms, int[] freqs) {
+    }
+}
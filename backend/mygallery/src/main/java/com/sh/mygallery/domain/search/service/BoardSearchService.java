@@ -0,0 +1,258 @@
+package com.sh.mygallery.domain.search.service;
+
+import com.sh.mygallery.domain.board.repository.BoardRepository;
+import com.sh.mygallery.domain.search.dto.SearchDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 색인(BoardSearchIndex)을 관리하고 검색을 수행하는 Service Component
+ *
+ * <p>시작 시 스냅샷 파일을 읽고 스냅샷 이후 수정된 게시글만 DB에서 다시 색인한다.
+ * 스냅샷이 없거나 손상되었으면 전체 게시글을 board_id 순서의 keyset 페이지로 읽어 색인을 새로 만든다.
+ * 이후 변경분은 주기적으로, 그리고 종료 시 스냅샷으로 저장한다.</p>
+ *
+ * <p>게시글이 작성/수정/삭제되면 커밋 후 변경된 게시글 ID를 Redis pub/sub으로 알리고,
+ * 알림을 받은 모든 서버(자신 포함)가 DB에서 게시글을 다시 읽어 색인을 갱신한다.
+ * Redis에 알리지 못하면 자신의 색인만 바로 갱신한다.
+ * 알림을 놓쳐 색인에 남은 삭제된 게시글은 검색 결과를 만들 때 발견되어 다시 색인(제거)된다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Service
+@Slf4j
+public class BoardSearchService implements MessageListener {
+    // 게시글 변경을 알리는 Redis pub/sub 채널 (메시지: 쉼표로 구분한 게시글 ID)
+    public static final String CHANGE_CHANNEL = "search:board:changed";
+    // 스냅샷 파일 이름
+    private static final String SNAPSHOT_FILE = "board-index.bin";
+    // 색인 생성/따라잡기 시 한 번에 읽는 게시글 수
+    private static final int LOAD_BATCH_SIZE = 500;
+    // 알림 메시지 하나에 담는 최대 게시글 수
+    private static final int MAX_IDS_PER_MESSAGE = 500;
+
+    private final BoardRepository boardRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final BoardSearchIndex index = new BoardSearchIndex();
+    // 스냅샷 파일 경로
+    private final Path snapshotFile;
+    // 스냅샷 기준 시각보다 이만큼 앞선 수정분부터 다시 색인 (늦게 커밋된 트랜잭션 보정)
+    private final long catchUpMarginSeconds;
+
+    // 시작 시 색인 준비 완료 여부 (완료 전에는 스냅샷을 저장하지 않음)
+    private volatile boolean ready;
+
+    public BoardSearchService(BoardRepository boardRepository,
+                              StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              @Value("${search.index.dir:search-index}") String indexDir,
+                              @Value("${search.index.catch-up-margin-seconds:60}") long catchUpMarginSeconds) {
+        this.boardRepository = boardRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.snapshotFile = Path.of(indexDir).resolve(SNAPSHOT_FILE);
+        this.catchUpMarginSeconds = catchUpMarginSeconds;
+    }
+
+    // 다른 서버(또는 자신)에서 보낸 게시글 변경 알림 구독
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    /**
+     * 애플리케이션 시작 후 색인을 준비하는 메서드
+     * 스냅샷이 있으면 이후 변경분만, 없으면 전체 게시글을 색인한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long startedAt = System.currentTimeMillis();
+        boolean restored = false;
+        if (Files.exists(snapshotFile)) {
+            try {
+                index.loadSnapshot(snapshotFile);
+                restored = true;
+            } catch (IOException e) {
+                log.warn("검색 색인 스냅샷을 읽지 못해 색인을 새로 만듭니다. file={}", snapshotFile, e);
+            }
+        }
+
+        LocalDateTime watermark = index.getWatermark();
+        int loaded;
+        if (restored && watermark != null) {
+            loaded = load(watermark.minusSeconds(catchUpMarginSeconds));
+            log.info("검색 색인 스냅샷을 복원했습니다. documents={}, caughtUp={}, elapsed={}ms",
+                    index.size(), loaded, System.currentTimeMillis() - startedAt);
+        } else {
+            loaded = load(null);
+            log.info("검색 색인을 새로 만들었습니다. documents={}, elapsed={}ms",
+                    loaded, System.currentTimeMillis() - startedAt);
+        }
+
+        ready = true;
+        if (index.isDirty()) {
+            writeSnapshot();
+        }
+    }
+
+    // board_id 순서로 게시글을 나누어 읽어 색인 (since가 null이면 전체, 아니면 since 이후 수정분)
+    private int load(LocalDateTime since) {
+        int loaded = 0;
+        long afterId = 0;
+        PageRequest limit = PageRequest.ofSize(LOAD_BATCH_SIZE);
+        while (true) {
+            List<SearchDTO.IndexDocument> documents = since == null
+                    ? boardRepository.findIndexDocuments(afterId, limit)
+                    : boardRepository.findIndexDocumentsUpdatedSince(since, afterId, limit);
+            for (SearchDTO.IndexDocument document : documents) {
+                index.upsert(document);
+            }
+            loaded += documents.size();
+            if (documents.size() < LOAD_BATCH_SIZE) {
+                return loaded;
+            }
+            afterId = documents.get(documents.size() - 1).getBoardId();
+        }
+    }
+
+    /**
+     * 검색어와 관련된 게시글 ID를 점수 순으로 찾는 메서드
+     *
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 전체 일치 수와 요청 범위의 게시글 ID
+     */
+    public SearchDTO.SearchHits search(String query, int offset, int limit) {
+        return index.search(query, offset, limit);
+    }
+
+    /**
+     * 게시글 변경을 커밋 후 모든 서버의 색인에 반영하도록 예약하는 메서드
+     * 트랜잭션 밖에서 호출하면 바로 알린다.
+     *
+     * @param boardIds 작성/수정/삭제된 게시글 ID 목록
+     */
+    public void reindexAfterCommit(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(boardIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(ids);
+                }
+            });
+        } else {
+            publish(ids);
+        }
+    }
+
+    // 변경된 게시글 ID를 나누어 알림 (Redis 장애 시 자신의 색인만 갱신)
+    private void publish(List<Long> boardIds) {
+        for (int from = 0; from < boardIds.size(); from += MAX_IDS_PER_MESSAGE) {
+            List<Long> chunk = boardIds.subList(from, Math.min(from + MAX_IDS_PER_MESSAGE, boardIds.size()));
+            String message = chunk.stream().map(String::valueOf).collect(Collectors.joining(","));
+            try {
+                redisTemplate.convertAndSend(CHANGE_CHANNEL, message);
+            } catch (DataAccessException e) {
+                log.warn("게시글 변경을 다른 서버에 알리지 못해 이 서버의 색인만 갱신합니다. boardIds={}", message, e);
+                reindex(chunk);
+            }
+        }
+    }
+
+    /**
+     * 게시글 변경 알림을 처리하는 메서드
+     *
+     * @param message 쉼표로 구분한 게시글 ID가 담긴 메시지
+     * @param pattern 구독 패턴 (사용하지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<Long> boardIds = new ArrayList<>();
+        for (String id : body.split(",")) {
+            try {
+                boardIds.add(Long.parseLong(id.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 게시글 변경 알림을 무시합니다. message={}", body);
+                return;
+            }
+        }
+        try {
+            reindex(boardIds);
+        } catch (DataAccessException e) {
+            log.warn("게시글 변경을 색인에 반영하지 못했습니다. boardIds={}", body, e);
+        }
+    }
+
+    // DB의 현재 상태로 게시글을 다시 색인 (DB에 없으면 삭제된 것으로 보고 색인에서 제거)
+    private void reindex(List<Long> boardIds) {
+        Set<Long> missing = new HashSet<>(boardIds);
+        for (SearchDTO.IndexDocument document : boardRepository.findIndexDocumentsByIds(boardIds)) {
+            index.upsert(document);
+            missing.remove(document.getBoardId());
+        }
+        missing.forEach(index::remove);
+    }
+
+    /**
+     * 마지막 스냅샷 이후 색인이 바뀌었으면 스냅샷을 저장하는 메서드
+     */
+    @Scheduled(fixedDelayString = "${search.index.snapshot-interval-ms:60000}")
+    public void snapshotIfDirty() {
+        if (ready && index.isDirty()) {
+            writeSnapshot();
+        }
+    }
+
+    // 종료 시 마지막 변경분 저장
+    @PreDestroy
+    void close() {
+        snapshotIfDirty();
+    }
+
+    private void writeSnapshot() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            index.writeSnapshot(snapshotFile);
+            log.debug("검색 색인 스냅샷을 저장했습니다. documents={}, elapsed={}ms",
+                    index.size(), System.currentTimeMillis() - startedAt);
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷을 저장하지 못했습니다. file={}", snapshotFile, e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.sh.mygallery.domain.search.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인과 검색어에 공통으로 사용하는 토크나이저
+ *
+ * <p>형태소 분석기 없이 한국어를 다루기 위해 한글(및 한자/가나) 구간은 글자 2개씩 겹쳐 자르는 bigram으로,
+ * 영문/숫자 구간은 단어 하나를 토큰 하나로 만든다.
+ * 예) "제주도 여행사진 2024" → 제주, 주도, 여행, 행사, 사진, 2024
+ * 조사가 붙은 단어("사진을")도 명사 부분의 bigram("사진")이 만들어지므로 검색된다.
+ * 한 글자로만 이루어진 한글 구간은 그 글자를 그대로 토큰으로 사용한다.</p>
+ *
+ * <p>한 글자 검색어("꽃")가 여러 글자 구간("꽃다발")에도 걸리도록 색인할 때는
+ * {@link #tokenizeForIndex(String)}로 bigram에 더해 글자 하나하나(unigram)도 토큰으로 만든다.
+ * 검색어는 {@link #tokenize(String)}로 나누므로 두 글자 이상의 검색어는 지금처럼 bigram으로만 찾는다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public final class SearchTokenizer {
+    // 영문/숫자 토큰의 최대 길이 (URL, 해시 같은 긴 문자열이 색인을 키우지 않도록 자름)
+    private static final int MAX_WORD_LENGTH = 40;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 검색어를 검색 토큰 목록으로 나누는 메서드
+     *
+     * @param text 나눌 문자열 (null이면 빈 목록)
+     * @return 등장 순서대로의 토큰 목록 (중복 포함)
+     */
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    /**
+     * 색인할 문서를 검색 토큰 목록으로 나누는 메서드
+     *
+     * <p>{@link #tokenize(String)}의 토큰에 더해 두 글자 이상인 한글 구간의 각 글자도 토큰으로 만든다.</p>
+     *
+     * @param text 나눌 문자열 (null이면 빈 목록)
+     * @return 등장 순서대로의 토큰 목록 (중복 포함)
+     */
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        // 전각/반각, 호환 문자를 통일하고 대소문자 구분 제거
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder word = new StringBuilder();
+        List<Integer> cjk = new ArrayList<>();
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (isCjk(codePoint)) {
+                flushWord(word, tokens);
+                cjk.add(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                flushBigrams(cjk, unigrams, tokens);
+                word.appendCodePoint(codePoint);
+            } else {
+                flushWord(word, tokens);
+                flushBigrams(cjk, unigrams, tokens);
+            }
+        }
+        flushWord(word, tokens);
+        flushBigrams(cjk, unigrams, tokens);
+        return tokens;
+    }
+
+    // 한글 음절/자모, 한자, 가나는 bigram 대상
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.isEmpty()) {
+            return;
+        }
+        tokens.add(word.length() > MAX_WORD_LENGTH ? word.substring(0, MAX_WORD_LENGTH) : word.toString());
+        word.setLength(0);
+    }
+
+    // unigrams가 true이면 두 글자 이상인 구간에서도 각 글자를 토큰으로 추가 (한 글자 검색어 대응)
+    private static void flushBigrams(List<Integer> cjk, boolean unigrams, List<String> tokens) {
+        if (cjk.isEmpty()) {
+            return;
+        }
+        if (cjk.size() == 1) {
+            tokens.add(Character.toString(cjk.get(0)));
+        } else {
+            for (int i = 0; i < cjk.size(); i++) {
+                if (unigrams) {
+                    tokens.add(Character.toString(cjk.get(i)));
+                }
+                if (i + 1 < cjk.size()) {
+                    tokens.add(new StringBuilder().appendCodePoint(cjk.get(i)).appendCodePoint(cjk.get(i + 1)).toString());
+                }
+            }
+        }
+        cjk.clear();
+    }
+}
@@ -1,5 +1,6 @@
 package com.sh.mygallery.domain.user.controller;
 
+import com.sh.mygallery.domain.refreshtoken.dto.RefreshTokenDTO;
 import com.sh.mygallery.domain.refreshtoken.service.RefreshTokenService;
 import com.sh.mygallery.domain.user.domain.User;
 import com.sh.mygallery.domain.user.dto.UserDTO;
@@ -12,10 +13,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -28,11 +28,12 @@ import java.util.Map;
 @RequiredArgsConstructor //Bean 자동주입
 @RequestMapping("/users") // 유저로 들어가는 모든 요청은 '/user'로 시작되도록 매핑
 public class UserController {
+    // refreshToken을 담는 쿠키 이름
+    private static final String REFRESH_TOKEN_COOKIE = "refreshToken";
+
     // 알맞은 service객체 보유
     private final UserService userService;
     private final RefreshTokenService refreshTokenService;
-    private final AuthenticationManager authenticationManager;
-    private final JwtUtil jwtUtil;
     /**
      * 유저의 회원가입을 담당하는 메서드
      *
@@ -61,27 +62,18 @@ public class UserController {
      */
     @PostMapping("/login") // "/user/login"으로 들어오는 요청을 받아들임
     public ResponseEntity<Map<String, String>> login(@RequestBody UserDTO.UserLoginRequest loginRequest){ // 요청 본문을 UserLoginRequest DTO로 바인딩 (JSON -> 객체)
-        // Spring Security AuthenticationManager를 사용하여 사용자 인증
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword())
-        );
-
-        // 인증 성공 후 토큰 생성
-        String accessToken = jwtUtil.createAccessToken(loginRequest.getUsername()); // DTO에서 username을 추출하여 전달 (이메일)
-        String refreshToken = refreshTokenService.issueRefreshToken(loginRequest.getUsername()); // DTO에서 password(평문)를 추출하여 전달 — 절대 로그에 남기지 말 것
+        // 사용자 인증 후 토큰 생성 (비밀번호 검증은 UserService에서 한 번만 수행)
+        // DTO에서 username(이메일)과 password(평문)를 추출하여 전달 — 절대 로그에 남기지 말 것
+        Map<String, String> tokens = userService.login(loginRequest.getUsername(), loginRequest.getPassword());
+        String accessToken = tokens.get("accessToken");
+        String refreshToken = tokens.get("refreshToken");
 
 
         // refreshToken → HttpOnly 쿠키에 저장
         // 왜 Service가 아닌 Controller에서 쿠키에 저장하는가?
         // Cookie는 HTTP통신을 담당하는 레이어에서 처리해야 하는데,
         // 비즈니스 로직을 처리하는 Service에서 Cookie를 다룰경우 의존성이 높아져 MVC 패턴의 규칙성이 꺠진다고 볼 수 있기 떄문.
-        ResponseCookie refreshCookie = ResponseCookie.from("refreshToken", refreshToken)
-                .httpOnly(true)
-                .secure(true)          // https 환경에서만 사용, 실서비스 필수
-                .path("/")
-                .sameSite("None")      // cross-site 허용 (프론트 localhost 개발 시 필요)
-                .maxAge(7 * 24 * 60 * 60) // 7일
-                .build();
+        ResponseCookie refreshCookie = refreshTokenCookie(refreshToken, JwtUtil.REFRESH_TOKEN_TTL);
 
 //        Map<String, String> response = new HashMap<>(); // 응답으로 반환할 Map 객체 생성 (간단한 키-값 응답 용도)
 //        response.put("accessToken", accessToken); // 발급된 JWT 토큰을 "token" 키로 응답 바디에 추가
@@ -100,40 +92,75 @@ public class UserController {
      * <p>시간이 만료된 accessToken이 존재하는 경우 refreshToken을 재검증하여
      * 자동으로 accessToken을 재발급 해 주는 메서드</p>
      *
+     * <p>refreshToken은 사용할 때마다 교체되므로 새 refreshToken을 쿠키로 다시 내려준다.</p>
+     *
      * @param request HttpServletRequest 객체. 클라이언트가 보낸 쿠키에서 Refresh Token을 추출하는 데 사용됨.
      * @return 새로운 Access Token을 포함한 Map 객체. ("accessToken" 키에 재발급된 토큰이 들어있음)
      * @since 2025-12-11
      */
     @PostMapping("/refresh")
     public ResponseEntity<Map<String, String>> refreshAccessToken(HttpServletRequest request) {
+        String refreshToken = resolveRefreshToken(request);
+        if (refreshToken == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "RefreshToken을 찾을 수 없습니다."));
+        }
+
+        try {
+            RefreshTokenDTO.TokenPair tokens = refreshTokenService.refreshAccessToken(refreshToken);
+            return ResponseEntity.ok()
+                    // 교체된 refreshToken을 쿠키로 다시 저장
+                    .header(HttpHeaders.SET_COOKIE, refreshTokenCookie(tokens.getRefreshToken(), JwtUtil.REFRESH_TOKEN_TTL).toString())
+                    .body(Map.of("accessToken", tokens.getAccessToken()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    // 더 이상 사용할 수 없는 refreshToken 쿠키 삭제
+                    .header(HttpHeaders.SET_COOKIE, refreshTokenCookie("", Duration.ZERO).toString())
+                    .body(Map.of("message", "유효하지 않은 토큰입니다."));
+        }
+    }
+
+    /**
+     * 로그아웃 시 refreshToken이 속한 로그인 세션을 폐기하고 쿠키를 삭제하는 메서드
+     *
+     * @param request HttpServletRequest 객체. 클라이언트가 보낸 쿠키에서 Refresh Token을 추출하는 데 사용됨.
+     * @return 본문 없는 204(NO_CONTENT) 응답
+     * @since 2026-10-18
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest request) {
+        String refreshToken = resolveRefreshToken(request);
+        if (refreshToken != null) {
+            refreshTokenService.revokeRefreshToken(refreshToken);
+        }
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie("", Duration.ZERO).toString())
+                .build();
+    }
+
+    // 클라이언트가 보낸 쿠키에서 refreshToken 값을 찾음
+    private String resolveRefreshToken(HttpServletRequest request) {
         // 클라이언트 요청에 포함된 모든 쿠키를 가져옴
         Cookie[] cookies = request.getCookies();
-        // 쿠키에서 refreshToken 값을 저장할 변수 초기화
-        String refreshToken = null;
-
         // 쿠키가 존재할 경우에만 반복문 실행
         if (cookies != null) {
             for (Cookie cookie : cookies) {
                 // 쿠키 이름이 "refreshToken"인 경우를 찾음
-                if ("refreshToken".equals(cookie.getName())) {
-                    // refreshToken 값을 변수에 저장
-                    refreshToken = cookie.getValue();
-                    //찾은 경우 반복문 종료
-                    break;
+                if (REFRESH_TOKEN_COOKIE.equals(cookie.getName())) {
+                    return cookie.getValue();
                 }
             }
         }
+        return null;
+    }
 
-        if (refreshToken == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "RefreshToken을 찾을 수 없습니다."));
-        }
-
-        try {
-            String newAccessToken = refreshTokenService.refreshAccessToken(refreshToken);
-            return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "유효하지 않은 토큰입니다."));
-        }
+    // refreshToken을 담는 HttpOnly 쿠키 생성 (maxAge가 0이면 쿠키 삭제)
+    private ResponseCookie refreshTokenCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(REFRESH_TOKEN_COOKIE, value)
+                .httpOnly(true)
+                .secure(true)          // https 환경에서만 사용, 실서비스 필수
+                .path("/")
+                .sameSite("None")      // cross-site 허용 (프론트 localhost 개발 시 필요)
+                .maxAge(maxAge)
+                .build();
     }
 }
-
@@ -1,5 +1,6 @@
 package com.sh.mygallery.domain.user.domain;
 
+import com.sh.mygallery.domain.user.service.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +24,7 @@ import java.util.List;
  */
 @Entity // 데이터베이스에 존재하는 엔터티임을 명시(JPA)
 @Table(name="users") // 테이블 명을 직접 입력해 매핑
+@EntityListeners(UserCacheInvalidationListener.class) // 수정/삭제 시 사용자 캐시 무효화
 @Getter
 @Builder // 필드가 많아도 가독성 있게 객체 생성 가능(순서 의존성 제거, 선택적 값 설정에 유리) new 대용
 @NoArgsConstructor
@@ -92,6 +94,16 @@ public class User implements UserDetails {
         return email;
     }
 
+    /**
+     * 화면에 표시할 유저 이름을 반환
+     * getUsername()은 UserDetails 규약에 따라 email을 반환하므로 별도로 제공
+     *
+     * @return username 컬럼 값
+     */
+    public String getDisplayName() {
+        return username;
+    }
+
     @Override
     public boolean isAccountNonExpired() {
         return true;
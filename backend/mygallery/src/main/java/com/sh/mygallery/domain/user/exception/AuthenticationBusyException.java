@@ -0,0 +1,18 @@
+package com.sh.mygallery.domain.user.exception;
+
+/**
+ * 비밀번호 해시 계산 대기열이 가득 차 인증 요청을 처리할 수 없을 때 발생하는 예외
+ * 잠시 후 다시 시도하면 처리될 수 있으므로 503(SERVICE_UNAVAILABLE)으로 응답한다.
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class AuthenticationBusyException extends UserException {
+    public AuthenticationBusyException(String message) {
+        super(message);
+    }
+
+    public AuthenticationBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
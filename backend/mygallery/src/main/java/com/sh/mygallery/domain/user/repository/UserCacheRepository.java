@@ -0,0 +1,132 @@
+package com.sh.mygallery.domain.user.repository;
+
+import com.sh.mygallery.domain.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 인증에 필요한 사용자 정보를 Redis Hash로 보관하는 공유 캐시 저장소
+ *
+ * <ul>
+ *   <li>{@value #KEY_PREFIX}{email} : 사용자 정보 Hash (TTL 적용)</li>
+ *   <li>{@value #KEY_PREFIX}{email}{@value #TOMBSTONE_SUFFIX} : 무효화 직후 잠시 남겨두는 표시 키.
+ *       무효화 이전에 DB에서 읽은 오래된 값이 무효화 이후에 다시 저장되는 것을 막는다.</li>
+ * </ul>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCacheRepository {
+    // 사용자 정보 Hash 키 접두사
+    private static final String KEY_PREFIX = "user:cache:";
+    // 무효화 표시 키 접미사
+    private static final String TOMBSTONE_SUFFIX = ":invalidated";
+
+    /*
+     * 무효화 표시가 없을 때만 사용자 정보를 저장하는 스크립트
+     * KEYS[1] = 사용자 Hash, KEYS[2] = 무효화 표시 키, ARGV[1] = TTL(초), ARGV[2..] = field, value 쌍
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 캐시된 사용자 정보를 조회하는 메서드 (HGETALL)
+     *
+     * @param email 사용자 이메일
+     * @return 캐시된 사용자 정보 (영속성 컨텍스트에 속하지 않은 객체)
+     */
+    public Optional<User> find(String email) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(email));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(User.builder()
+                .userId(Long.parseLong((String) fields.get("userId")))
+                .username((String) fields.get("username"))
+                .password((String) fields.get("password"))
+                .email((String) fields.get("email"))
+                .role((String) fields.get("role"))
+                .accountNonLocked(toBoolean(fields.get("accountNonLocked")))
+                .loginType(toBoolean(fields.get("loginType")))
+                .createdAt(toDateTime(fields.get("createdAt")))
+                .updatedAt(toDateTime(fields.get("updatedAt")))
+                .build());
+    }
+
+    /**
+     * 사용자 정보를 저장하는 메서드
+     * 최근에 무효화된 사용자라면 저장하지 않는다.
+     *
+     * @param user 저장할 사용자
+     * @param ttl 보관 시간
+     */
+    public void save(User user, Duration ttl) {
+        List<String> args = new ArrayList<>();
+        args.add(Long.toString(ttl.toSeconds()));
+        addField(args, "userId", Long.toString(user.getUserId()));
+        addField(args, "username", user.getDisplayName());
+        addField(args, "password", user.getPassword());
+        addField(args, "email", user.getEmail());
+        addField(args, "role", user.getRole());
+        addField(args, "accountNonLocked", user.getAccountNonLocked());
+        addField(args, "loginType", user.getLoginType());
+        addField(args, "createdAt", user.getCreatedAt());
+        addField(args, "updatedAt", user.getUpdatedAt());
+
+        String key = key(user.getEmail());
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key, key + TOMBSTONE_SUFFIX), args.toArray());
+    }
+
+    /**
+     * 캐시된 사용자 정보를 삭제하고 잠시 동안 다시 저장되지 않도록 표시하는 메서드
+     *
+     * @param email 사용자 이메일
+     * @param tombstoneTtl 다시 저장을 막는 시간
+     */
+    public void invalidate(String email, Duration tombstoneTtl) {
+        String key = key(email);
+        redisTemplate.opsForValue().set(key + TOMBSTONE_SUFFIX, "1", tombstoneTtl);
+        redisTemplate.delete(key);
+    }
+
+    private String key(String email) {
+        return KEY_PREFIX + email;
+    }
+
+    // 값이 있는 필드만 field, value 쌍으로 추가
+    private void addField(List<String> args, String field, Object value) {
+        if (value != null) {
+            args.add(field);
+            args.add(value.toString());
+        }
+    }
+
+    private Boolean toBoolean(Object value) {
+        return value != null ? Boolean.valueOf((String) value) : null;
+    }
+
+    private LocalDateTime toDateTime(Object value) {
+        return value != null ? LocalDateTime.parse((String) value) : null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sh.mygallery.domain.user.service;
+
+import com.sh.mygallery.domain.user.domain.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티가 수정/삭제되면 사용자 캐시를 무효화하는 JPA 엔티티 리스너
+ *
+ * <p>트랜잭션 안에서 변경된 경우 커밋이 끝난 뒤에 무효화한다.
+ * 커밋 전에 무효화하면 그 사이 다른 요청이 변경 전 값을 DB에서 읽어 다시 캐시에 채울 수 있기 때문이다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Component
+public class UserCacheInvalidationListener {
+    private final UserCacheService userCacheService;
+
+    // 엔티티 리스너는 EntityManagerFactory 초기화 중에 만들어지므로 지연 주입
+    public UserCacheInvalidationListener(@Lazy UserCacheService userCacheService) {
+        this.userCacheService = userCacheService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        String email = user.getEmail();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCacheService.invalidate(email);
+                }
+            });
+        } else {
+            userCacheService.invalidate(email);
+        }
+    }
+}
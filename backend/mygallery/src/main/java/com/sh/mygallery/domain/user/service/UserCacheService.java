@@ -0,0 +1,180 @@
+package com.sh.mygallery.domain.user.service;
+
+import com.sh.mygallery.domain.user.domain.User;
+import com.sh.mygallery.domain.user.repository.UserCacheRepository;
+import com.sh.mygallery.domain.user.repository.UserRepository;
+import com.sh.mygallery.filter.VerifiedTokenCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 시 사용하는 사용자 정보를 2단계로 캐시하는 Service Component
+ *
+ * <p>조회 순서는 서버 내부 캐시(near cache) → Redis 공유 캐시 → MySQL이며, 하위 단계에서 찾은 값은 상위 단계에 채운다.
+ * 권한, 계정 잠금 여부, 비밀번호가 바뀌면 invalidate()가 Redis 캐시를 지우고 pub/sub으로 모든 서버에 알려
+ * 각 서버의 내부 캐시와 검증된 토큰 캐시에서도 해당 사용자를 제거한다.</p>
+ *
+ * <p>Redis에 장애가 있으면 Redis 단계를 건너뛰고 DB에서 조회한다.
+ * 알림을 받지 못한 서버가 있더라도 내부 캐시의 짧은 보관 시간이 지나면 DB 또는 Redis의 최신 값을 사용한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Service
+@Slf4j
+public class UserCacheService implements MessageListener {
+    // 사용자 캐시 무효화를 알리는 Redis pub/sub 채널
+    public static final String INVALIDATION_CHANNEL = "user:cache:invalidate";
+
+    private final UserRepository userRepository;
+    private final UserCacheRepository userCacheRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 서버 내부 캐시 (email → 항목)
+    private final Map<String, Entry> nearCache = new ConcurrentHashMap<>();
+    // 서버 내부 캐시 최대 항목 수
+    private final int nearMaxSize;
+    // 서버 내부 캐시 보관 시간(ms)
+    private final long nearTtlMillis;
+    // Redis 캐시 보관 시간
+    private final Duration redisTtl;
+    // 무효화 후 Redis 캐시에 다시 저장하지 않는 시간
+    private final Duration tombstoneTtl;
+
+    public UserCacheService(UserRepository userRepository,
+                            UserCacheRepository userCacheRepository,
+                            StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            VerifiedTokenCache verifiedTokenCache,
+                            @Value("${user.cache.near.max-size:5000}") int nearMaxSize,
+                            @Value("${user.cache.near.ttl-ms:30000}") long nearTtlMillis,
+                            @Value("${user.cache.redis.ttl-seconds:600}") long redisTtlSeconds,
+                            @Value("${user.cache.redis.tombstone-seconds:10}") long tombstoneSeconds) {
+        this.userRepository = userRepository;
+        this.userCacheRepository = userCacheRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.nearMaxSize = nearMaxSize;
+        this.nearTtlMillis = nearTtlMillis;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.tombstoneTtl = Duration.ofSeconds(tombstoneSeconds);
+    }
+
+    // 다른 서버에서 보낸 무효화 알림 구독
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * email로 사용자 정보를 조회하는 메서드
+     *
+     * @param email 사용자 이메일
+     * @return 사용자 정보 (캐시에서 가져온 경우 영속성 컨텍스트에 속하지 않은 객체)
+     */
+    public Optional<User> findByEmail(String email) {
+        long now = System.currentTimeMillis();
+        Entry entry = nearCache.get(email);
+        if (entry != null && entry.expiresAt > now) {
+            return Optional.of(entry.user);
+        }
+
+        Optional<User> cached = findInRedis(email);
+        if (cached.isPresent()) {
+            putNear(email, cached.get(), now);
+            return cached;
+        }
+
+        Optional<User> user = userRepository.findByEmail(email);
+        user.ifPresent(found -> {
+            saveToRedis(found);
+            putNear(email, found, now);
+        });
+        return user;
+    }
+
+    /**
+     * 사용자의 캐시를 모든 서버에서 무효화하는 메서드
+     * 권한, 계정 잠금 여부, 비밀번호 등 인증에 영향을 주는 정보가 바뀐 뒤 호출한다.
+     *
+     * @param email 사용자 이메일
+     */
+    public void invalidate(String email) {
+        evictLocal(email);
+        try {
+            userCacheRepository.invalidate(email, tombstoneTtl);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, email);
+        } catch (DataAccessException e) {
+            // Redis 장애 시 다른 서버는 내부 캐시 보관 시간이 지나야 반영됨
+            log.warn("사용자 캐시 무효화를 전파하지 못했습니다. email={}", email, e);
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자신)가 보낸 무효화 알림을 처리하는 메서드
+     *
+     * @param message 무효화할 사용자 이메일이 담긴 메시지
+     * @param pattern 구독 패턴 (사용하지 않음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 서버 내부 캐시와 검증된 토큰 캐시에서 사용자 제거
+    private void evictLocal(String email) {
+        nearCache.remove(email);
+        verifiedTokenCache.invalidateUser(email);
+    }
+
+    private Optional<User> findInRedis(String email) {
+        try {
+            return userCacheRepository.find(email);
+        } catch (DataAccessException e) {
+            log.warn("Redis 사용자 캐시 조회에 실패하여 DB에서 조회합니다. email={}", email, e);
+            return Optional.empty();
+        }
+    }
+
+    private void saveToRedis(User user) {
+        try {
+            userCacheRepository.save(user, redisTtl);
+        } catch (DataAccessException e) {
+            log.warn("Redis 사용자 캐시 저장에 실패했습니다. email={}", user.getEmail(), e);
+        }
+    }
+
+    // 서버 내부 캐시에 저장 (가득 차면 만료된 항목을 정리하고, 그래도 가득 차 있으면 저장하지 않음)
+    private void putNear(String email, User user, long now) {
+        if (nearCache.size() >= nearMaxSize) {
+            nearCache.values().removeIf(e -> e.expiresAt <= now);
+            if (nearCache.size() >= nearMaxSize) {
+                return;
+            }
+        }
+        nearCache.put(email, new Entry(user, now + nearTtlMillis));
+    }
+
+    /**
+     * 서버 내부 캐시 항목 (사용자 정보와 만료 시점)
+     */
+    private record Entry(User user, long expiresAt) {
+    }
+}
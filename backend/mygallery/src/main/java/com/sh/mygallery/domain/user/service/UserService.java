@@ -5,8 +5,10 @@ import com.sh.mygallery.domain.user.dto.UserDTO;
 import com.sh.mygallery.domain.user.exception.UserException;
 import com.sh.mygallery.domain.user.repository.UserRepository;
 import com.sh.mygallery.util.JwtUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * controller의 요청을 받아 올바른 Repository로 요청을 전달해 주기위한 객체
@@ -24,17 +27,26 @@ import java.util.Optional;
  * @since 2025-11-28
  */
 @Service
+@Timed(value = "mygallery.service", histogram = true)
 @RequiredArgsConstructor
 public class UserService implements UserDetailsService {
+    // 로그인 실패 시 사용자 존재 여부와 관계없이 돌려주는 메시지
+    private static final String LOGIN_FAILED_MESSAGE = "이메일 또는 비밀번호가 일치하지 않습니다.";
+
     // 알맞은 repository객체 보유
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final com.sh.mygallery.domain.refreshtoken.service.RefreshTokenService refreshTokenService;
+    private final UserCacheService userCacheService;
+
+    // 없는 이메일로 로그인할 때 비교하는 해시 (실제 사용자와 같은 강도로 계산되도록 같은 Encoder로 처음 한 번 생성)
+    private volatile String dummyHash;
 
+    // 요청마다 인증 필터에서 호출되므로 DB 대신 사용자 캐시를 거쳐 조회
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        return userCacheService.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
     }
 
@@ -74,27 +86,39 @@ public class UserService implements UserDetailsService {
      *
      * <p>전달받은 username으로 DB에서 사용자 정보를 조회한 뒤,
      * 입력한 비밀번호가 저장된 해시와 일치하는지 검증 후
-     * 검증에 성공하면 해당 사용자를 위한 JWT Access Token을 생성하여 반환한다.</p>
+     * 검증에 성공하면 해당 사용자를 위한 JWT Access Token을 생성하여 반환한다.
+     * 비밀번호 검증(BCrypt)은 로그인 한 번에 한 번만 수행되며, 해시 계산 대기열이 가득 차면
+     * AuthenticationBusyException으로 즉시 거절된다.</p>
+     *
+     * <p>응답 시간이나 오류로 가입된 이메일인지 알 수 없도록, 없는 이메일이어도 임의의 해시와 비교하여
+     * 같은 BCrypt 계산을 거친 뒤 비밀번호 불일치와 같은 예외와 메시지로 실패 처리한다.</p>
      *
      * @param email 로그인 시도 중인 사용자의 식별자(이메일)
      * @param password 클라이언트가 전달한 비밀번호(문자 그대로)
      * @return 생성된 JWT accessToken과 refreshToken을 담은 Map<String, String>
-     * @throws UsernameNotFoundException username에 해당하는 사용자가 없을 경우
-     * @throws BadCredentialsException 비밀번호가 저장된 해시와 일치하지 않을 경우
+     * @throws BadCredentialsException username에 해당하는 사용자가 없거나 비밀번호가 저장된 해시와 일치하지 않을 경우
+     * @throws LockedException 잠긴 계정인 경우
      * @author 이세형
      * @since 2025-12-07
      */
     public Map<String,String> login(String email, String password) {
         // email을 기준으로 DB에서 User 엔티티 탐색
-        // 값이 없으면 UserNotFoundException을 발생시켜 로그인 실패 처리
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+        User user = userCacheService.findByEmail(email).orElse(null);
+        if (user == null) {
+            // 없는 이메일이어도 같은 시간이 걸리도록 BCrypt 비교를 수행한 뒤 비밀번호 불일치와 똑같이 실패 처리
+            passwordEncoder.matches(password, dummyHash());
+            throw new BadCredentialsException(LOGIN_FAILED_MESSAGE);
+        }
 
         // 입력된 password(평문)와 DB에 저장된 암호화된 비밀번호가 일치하는지 검증
         // matches()는 BCryptPasswordEncoder에 의해 암호 비교를 수행
         // 일치하지 않으면 BadCredentialsException을 던져 인증 실패 처리
         if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
+            throw new BadCredentialsException(LOGIN_FAILED_MESSAGE);
+        }
+        // 잠긴 계정은 로그인 불가 (AuthenticationManager가 하던 계정 상태 검사)
+        if (!user.isAccountNonLocked()) {
+            throw new LockedException("잠긴 계정입니다.");
         }
 
         // 모든 검증이 통과된 경우, username을 기반으로 JWT Access Token 생성
@@ -108,4 +132,14 @@ public class UserService implements UserDetailsService {
                 "refreshToken", refreshToken
         );
     }
+
+    // 없는 이메일 로그인에 사용할 해시 (동시에 여러 번 생성되어도 어느 것을 써도 무방)
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyHash = hash;
+        }
+        return hash;
+    }
 }
@@ -1,7 +1,15 @@
 package com.sh.mygallery.exception;
 
 import com.sh.mygallery.domain.board.exception.BoardException;
+import com.sh.mygallery.domain.comment.exception.CommentException;
+import com.sh.mygallery.domain.comment.exception.CommentNotFoundException;
+import com.sh.mygallery.domain.image.exception.ImageArchiveBusyException;
+import com.sh.mygallery.domain.image.exception.ImageException;
+import com.sh.mygallery.domain.image.exception.ImageNotFoundException;
+import com.sh.mygallery.domain.image.exception.ImageTooLargeException;
+import com.sh.mygallery.domain.user.exception.AuthenticationBusyException;
 import com.sh.mygallery.domain.user.exception.UserException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -24,6 +32,23 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * AuthenticationBusyException 처리 메서드
+     *
+     * - 비밀번호 해시 계산 대기열이 가득 차 로그인/회원가입을 처리할 수 없는 경우
+     * - 잠시 후 재시도하면 처리될 수 있으므로 503(SERVICE_UNAVAILABLE)과 Retry-After를 반환한다.
+     */
+    @ExceptionHandler(AuthenticationBusyException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationBusyException(AuthenticationBusyException ex) {
+
+        ErrorResponse response =
+                new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     /**
      * UserException 처리 메서드
      * - User 도메인과 관련된 비즈니스 예외를 처리한다.
@@ -65,6 +90,98 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * CommentNotFoundException 처리 메서드
+     *
+     * - 댓글 또는 댓글을 달 게시글이 없는 경우
+     * - 404(NOT_FOUND)로 응답한다.
+     */
+    @ExceptionHandler(CommentNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCommentNotFoundException(CommentNotFoundException ex) {
+
+        ErrorResponse response =
+                new ErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * CommentException 처리 메서드
+     *
+     * - 댓글(Comment) 도메인 관련 비즈니스 예외 처리
+     * - 예: 댓글 내용 누락, 삭제 권한 없음, 잘못된 커서 등
+     */
+    @ExceptionHandler(CommentException.class)
+    public ResponseEntity<ErrorResponse> handleCommentException(CommentException ex) {
+
+        ErrorResponse response =
+                new ErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * ImageTooLargeException 처리 메서드
+     *
+     * - 업로드 중인 이미지가 허용된 크기를 넘어 스트리밍이 중단된 경우
+     * - 요청 자체는 올바르지만 본문이 너무 크므로 413(PAYLOAD_TOO_LARGE)을 반환한다.
+     */
+    @ExceptionHandler(ImageTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleImageTooLargeException(ImageTooLargeException ex) {
+
+        ErrorResponse response =
+                new ErrorResponse(HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    /**
+     * ImageArchiveBusyException 처리 메서드
+     *
+     * - 서버에서 동시에 보낼 수 있는 압축 파일 수를 넘어 압축 파일 다운로드를 처리할 수 없는 경우
+     * - 잠시 후 재시도하면 처리될 수 있으므로 503(SERVICE_UNAVAILABLE)과 Retry-After를 반환한다.
+     */
+    @ExceptionHandler(ImageArchiveBusyException.class)
+    public ResponseEntity<ErrorResponse> handleImageArchiveBusyException(ImageArchiveBusyException ex) {
+
+        ErrorResponse response =
+                new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "10")
+                .body(response);
+    }
+
+    /**
+     * ImageNotFoundException 처리 메서드
+     *
+     * - 요청한 이미지가 없거나 저장소에서 파일을 찾을 수 없는 경우
+     * - 이미지 URL은 브라우저가 직접 요청하므로 404(NOT_FOUND)로 응답한다.
+     */
+    @ExceptionHandler(ImageNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleImageNotFoundException(ImageNotFoundException ex) {
+
+        ErrorResponse response =
+                new ErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * ImageException 처리 메서드
+     *
+     * - 이미지 도메인 관련 비즈니스 예외 처리
+     * - 예: 허용되지 않는 파일 형식, 빈 파일, 업로드 개수 초과 등
+     */
+    @ExceptionHandler(ImageException.class)
+    public ResponseEntity<ErrorResponse> handleImageException(ImageException ex) {
+
+        ErrorResponse response =
+                new ErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * RuntimeException 처리 메서드 (최후의 방어선)
      *
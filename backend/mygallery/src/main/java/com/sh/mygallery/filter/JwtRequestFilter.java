@@ -1,11 +1,22 @@
 package com.sh.mygallery.filter;
 
+import com.sh.mygallery.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -14,6 +25,9 @@ import java.io.IOException;
 /**
  * 들어오는 모든 요청을 가로채서 JWT 검증을 가장먼저 실시하는 Spring Security 필터입니다.
  *
+ * <p>모든 요청에서 실행되므로 최근에 검증한 토큰은 VerifiedTokenCache에서 바로 사용자 정보를 가져와
+ * 서명 검증과 사용자 조회(DB)를 생략합니다.</p>
+ *
  * @author 이세형
  * @since 2025-12-04
  * */
@@ -21,10 +35,20 @@ import java.io.IOException;
 @Slf4j
 @RequiredArgsConstructor
 public class JwtRequestFilter extends OncePerRequestFilter {
+    // Authorization 헤더의 토큰 접두사
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MeterRegistry meterRegistry;
 
     /**
      * HTTP 요청을 가로채 JWT를 검증하고 SecurityContextHolder를 업데이트 해주는 메서드 입니다.
      *
+     * <p>토큰이 없거나 유효하지 않으면 인증 정보 없이 다음 필터로 넘기며,
+     * 인증이 필요한 경로는 Spring Security가 거절합니다.</p>
+     *
      * @param request 클라이언트가 보낸 요청
      * @param response 클라이언트에게 보내는 응답객체
      * @param filterChain 필터체인
@@ -34,7 +58,77 @@ public class JwtRequestFilter extends OncePerRequestFilter {
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails principal = authenticate(token);
+            if (principal != null) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            }
+        }
 
+        filterChain.doFilter(request, response);
     }
-}
 
+    /**
+     * 토큰에 해당하는 사용자 정보를 캐시 또는 검증/조회를 통해 가져오는 메서드
+     *
+     * @param token accessToken
+     * @return 인증된 사용자 정보, 인증할 수 없으면 null
+     */
+    private UserDetails authenticate(String token) {
+        UserDetails cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 캐시에 없는 토큰의 서명 검증 시간을 결과별로 기록
+        Timer.Sample sample = Timer.start(meterRegistry);
+        JwtUtil.JwtVerification verification = jwtUtil.verify(token);
+        sample.stop(Timer.builder("mygallery.jwt.verify")
+                .description("JWT 서명 검증 시간")
+                .tag("status", verification.getStatus().name())
+                .register(meterRegistry));
+
+        if (!verification.isValid()) {
+            log.debug("유효하지 않은 accessToken입니다. status={}", verification.getStatus());
+            return null;
+        }
+        if (verification.getTokenId() != null) {
+            // jti는 refreshToken에만 있으므로 refreshToken을 accessToken으로 사용하는 요청은 거절
+            return null;
+        }
+
+        UserDetails principal;
+        try {
+            principal = userDetailsService.loadUserByUsername(verification.getSubject());
+        } catch (UsernameNotFoundException e) {
+            // 토큰 발급 후 탈퇴한 사용자
+            log.debug("accessToken의 사용자를 찾을 수 없습니다. subject={}", verification.getSubject());
+            return null;
+        }
+        if (!principal.isEnabled() || !principal.isAccountNonLocked()) {
+            return null;
+        }
+
+        // 만료 시간이 없는 토큰은 캐시의 최대 보관 시간만 적용
+        long expiresAt = verification.getExpiration() != null ? verification.getExpiration().getTime() : Long.MAX_VALUE;
+        verifiedTokenCache.put(token, principal, expiresAt);
+        return principal;
+    }
+
+    // Authorization 헤더에서 Bearer 토큰을 추출
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
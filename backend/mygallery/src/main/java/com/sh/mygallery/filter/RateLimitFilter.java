@@ -0,0 +1,200 @@
+package com.sh.mygallery.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sh.mygallery.domain.user.domain.User;
+import com.sh.mygallery.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로그인, 토큰 재발급, 게시글 작성 요청 수를 제한하는 Spring Security 필터
+ *
+ * <p>JwtRequestFilter 바로 뒤에서 실행되어 BCrypt 계산이나 DB 접근 전에 과도한 요청을 거절한다.
+ * 거절한 요청은 429(TOO_MANY_REQUESTS)와 다시 시도할 수 있을 때까지의 초(Retry-After)를 반환한다.
+ * 규칙마다 클라이언트 IP 기준, 로그인 사용자 기준 한도를 따로 둘 수 있으며 한도는 RateLimiter의 토큰 버킷으로 계산한다.</p>
+ *
+ * <p>규칙별 한도는 rate-limit.{규칙}.{ip|user}.capacity(순간 허용 수)와
+ * rate-limit.{규칙}.{ip|user}.refill-per-second(초당 허용 수)로 설정하며, 0으로 설정하면 해당 한도를 적용하지 않는다.
+ * 로그인과 재발급 요청은 인증 정보가 없으므로 IP 기준으로만 제한한다.
+ * 프록시 뒤에서 실행한다면 server.forward-headers-strategy를 설정해야 실제 클라이언트 IP로 제한된다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String METRIC_NAME = "mygallery.ratelimit.requests";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    // 요청 제한 사용 여부
+    private final boolean enabled;
+    // 적용할 규칙 목록 (한도가 0인 규칙은 제외)
+    private final List<Rule> rules;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           Environment environment) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = environment.getProperty("rate-limit.enabled", Boolean.class, true);
+
+        List<Rule> configured = new ArrayList<>();
+        // 로그인: BCrypt 계산이 가장 비싼 요청이므로 가장 엄격하게 제한
+        addRule(configured, environment, "login", "POST", "/users/login", Scope.IP, 10, 0.2);
+        addRule(configured, environment, "refresh", "POST", "/users/refresh", Scope.IP, 30, 0.5);
+        addRule(configured, environment, "board-write", "POST", "/api/boards", Scope.IP, 30, 0.5);
+        addRule(configured, environment, "board-write", "POST", "/api/boards", Scope.USER, 10, 0.1);
+        this.rules = List.copyOf(configured);
+    }
+
+    // 설정값을 읽어 한도가 있는 규칙만 추가
+    private void addRule(List<Rule> rules, Environment environment, String name, String method, String path,
+                         Scope scope, long defaultCapacity, double defaultRefillPerSecond) {
+        String prefix = "rate-limit." + name + "." + scope.getName() + ".";
+        long capacity = environment.getProperty(prefix + "capacity", Long.class, defaultCapacity);
+        double refillPerSecond = environment.getProperty(prefix + "refill-per-second", Double.class, defaultRefillPerSecond);
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            log.info("요청 제한 규칙을 사용하지 않습니다. rule={}, scope={}", name, scope.getName());
+            return;
+        }
+        rules.add(new Rule(name, method, path, scope, capacity, refillPerSecond));
+    }
+
+    // 제한 대상 경로가 아닌 요청은 필터를 건너뜀
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = requestPath(request);
+        for (Rule rule : rules) {
+            if (rule.matches(request.getMethod(), path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 요청에 해당하는 규칙의 토큰을 차례로 사용하고, 하나라도 부족하면 429로 응답하는 메서드
+     *
+     * @param request 클라이언트가 보낸 요청
+     * @param response 클라이언트에게 보내는 응답객체
+     * @param filterChain 필터체인
+     * @throws ServletException 서블릿 처리 관련 예외
+     * @throws IOException I/O 처리 중 발생하는 예외
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = requestPath(request);
+        for (Rule rule : rules) {
+            if (!rule.matches(request.getMethod(), path)) {
+                continue;
+            }
+            String subject = subject(rule.scope(), request);
+            if (subject == null) {
+                // 로그인하지 않은 요청에는 사용자 기준 한도를 적용하지 않음 (IP 기준 한도만 적용)
+                continue;
+            }
+
+            long retryAfterMillis = rateLimiter.tryAcquire(
+                    rule.name() + ":" + rule.scope().getName() + ":" + subject, rule.capacity(), rule.refillPerSecond());
+            if (retryAfterMillis > 0) {
+                count(rule, "rejected");
+                reject(response, retryAfterMillis);
+                return;
+            }
+            count(rule, "allowed");
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 한도 적용 대상 (IP 또는 로그인 사용자 ID, 사용자 기준인데 로그인하지 않았다면 null)
+    private String subject(Scope scope, HttpServletRequest request) {
+        if (scope == Scope.IP) {
+            return request.getRemoteAddr();
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return Long.toString(user.getUserId());
+        }
+        return null;
+    }
+
+    // 429 응답 작성 (Retry-After는 초 단위로 올림)
+    private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        ErrorResponse body = new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS,
+                "요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요.");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private void count(Rule rule, String result) {
+        Counter.builder(METRIC_NAME)
+                .description("요청 제한 규칙별 허용/거절 수")
+                .tag("rule", rule.name())
+                .tag("scope", rule.scope().getName())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 컨텍스트 경로를 제외한 요청 경로
+    private String requestPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * 한도를 적용하는 기준
+     */
+    private enum Scope {
+        IP("ip"),
+        USER("user");
+
+        private final String name;
+
+        Scope(String name) {
+            this.name = name;
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * 요청 제한 규칙 (이름, 대상 메서드와 경로, 적용 기준, 순간 허용 수, 초당 허용 수)
+     */
+    private record Rule(String name, String method, String path, Scope scope, long capacity, double refillPerSecond) {
+        boolean matches(String requestMethod, String requestPath) {
+            return method.equalsIgnoreCase(requestMethod) && path.equals(requestPath);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.sh.mygallery.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 서버가 Redis에 상태를 공유하는 토큰 버킷 방식의 요청 제한 Component
+ *
+ * <p>버킷 하나는 최대 capacity개의 토큰을 가지며 초당 refillPerSecond개씩 다시 채워진다.
+ * 요청마다 토큰 하나를 사용하고, 토큰이 없으면 다음 토큰이 채워질 때까지의 시간을 알려준다.
+ * Redis의 확인과 차감은 스크립트 한 번으로 원자적으로 실행된다.</p>
+ *
+ * <p>Redis에 가기 전에 서버 내부에서 먼저 확인한다.</p>
+ * <ul>
+ *   <li>서버 내부에도 같은 크기의 버킷을 두어, 이 서버 혼자서 이미 한도를 다 쓴 키는 Redis에 묻지 않고 거절한다.
+ *       (전체 사용량은 한 서버의 사용량보다 항상 크므로 내부 버킷이 거절하면 Redis도 거절한다.)</li>
+ *   <li>Redis가 거절한 키는 알려준 대기 시간 동안 서버 내부에서 바로 거절한다.</li>
+ * </ul>
+ * 따라서 한 곳에서 몰려오는 요청은 대부분 Redis까지 가지 않는다.
+ * Redis에 장애가 있으면 서버 내부 버킷만으로 제한한다. (서버 수만큼 한도가 늘어남)
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+    // 버킷 키 접두사
+    private static final String KEY_PREFIX = "rate:";
+
+    /*
+     * 토큰 하나를 사용하는 스크립트
+     * KEYS[1] = 버킷 Hash, ARGV[1] = 최대 토큰 수, ARGV[2] = ms당 채워지는 토큰 수, ARGV[3] = 현재 시각(ms)
+     * 반환값: 0이면 허용, 양수이면 다음 토큰까지 남은 시간(ms)
+     * (서버 시각을 사용하여 TIME 명령 없이도 구버전 Redis에서 스크립트 복제가 가능하도록 함)
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local refill = tonumber(ARGV[2]) " +
+            "local now = tonumber(ARGV[3]) " +
+            "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(bucket[1]) " +
+            "local ts = tonumber(bucket[2]) " +
+            "if tokens == nil or ts == nil then " +
+            "  tokens = capacity " +
+            "  ts = now " +
+            "end " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill) " +
+            "local retry = 0 " +
+            "if tokens >= 1 then " +
+            "  tokens = tokens - 1 " +
+            "else " +
+            "  retry = math.ceil((1 - tokens) / refill) " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens)) " +
+            "redis.call('HSET', KEYS[1], 'ts', tostring(math.max(now, ts))) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / refill) + 1000) " +
+            "return retry",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 서버 내부 버킷 (Redis 키 → 버킷)
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+    // 서버 내부 버킷 최대 수
+    private final int localMaxSize;
+
+    // Redis 장애 여부 (상태가 바뀔 때만 로그를 남기기 위해 사용)
+    private volatile boolean redisUnavailable;
+
+    // 서버 내부에서 거절한 횟수, Redis에서 거절한 횟수, Redis 오류 횟수
+    private final LongAdder localRejectedCount = new LongAdder();
+    private final LongAdder redisRejectedCount = new LongAdder();
+    private final LongAdder redisErrorCount = new LongAdder();
+
+    public RateLimiter(StringRedisTemplate redisTemplate,
+                       @Value("${rate-limit.local.max-size:100000}") int localMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.localMaxSize = localMaxSize;
+    }
+
+    /**
+     * 버킷에서 토큰 하나를 사용하는 메서드
+     *
+     * @param key 버킷 이름 (규칙과 대상 IP/사용자를 포함)
+     * @param capacity 최대 토큰 수 (순간적으로 허용하는 요청 수)
+     * @param refillPerSecond 초당 채워지는 토큰 수 (지속적으로 허용하는 초당 요청 수)
+     * @return 허용되었으면 0, 거절되었으면 다음 요청이 가능해질 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(String key, long capacity, double refillPerSecond) {
+        long now = System.currentTimeMillis();
+        double refillPerMillis = refillPerSecond / 1000.0;
+        String redisKey = KEY_PREFIX + key;
+
+        LocalBucket local = localBucket(redisKey, capacity, now);
+        if (local != null) {
+            long retryAfterMillis = local.tryAcquire(now, capacity, refillPerMillis);
+            if (retryAfterMillis > 0) {
+                localRejectedCount.increment();
+                return retryAfterMillis;
+            }
+        }
+
+        Long retryAfterMillis;
+        try {
+            retryAfterMillis = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(redisKey),
+                    Long.toString(capacity), Double.toString(refillPerMillis), Long.toString(now));
+            if (redisUnavailable) {
+                redisUnavailable = false;
+                log.info("요청 제한 Redis가 복구되었습니다.");
+            }
+        } catch (DataAccessException e) {
+            redisErrorCount.increment();
+            if (!redisUnavailable) {
+                redisUnavailable = true;
+                log.warn("요청 제한 Redis를 사용할 수 없어 서버 내부 한도만 적용합니다.", e);
+            }
+            return 0;
+        }
+
+        if (retryAfterMillis != null && retryAfterMillis > 0) {
+            redisRejectedCount.increment();
+            if (local != null) {
+                local.blockUntil(now + retryAfterMillis);
+            }
+            return retryAfterMillis;
+        }
+        return 0;
+    }
+
+    // 서버 내부 버킷 조회 (가득 차면 다시 가득 찬 버킷을 정리하고, 그래도 가득 차 있으면 내부 확인을 생략)
+    private LocalBucket localBucket(String key, long capacity, long now) {
+        LocalBucket bucket = localBuckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (localBuckets.size() >= localMaxSize) {
+            localBuckets.values().removeIf(b -> b.isIdle(now));
+            if (localBuckets.size() >= localMaxSize) {
+                return null;
+            }
+        }
+        return localBuckets.computeIfAbsent(key, k -> new LocalBucket(capacity, now));
+    }
+
+    // 서버 내부에서 거절한 횟수
+    public long getLocalRejectedCount() {
+        return localRejectedCount.sum();
+    }
+
+    // Redis에서 거절한 횟수
+    public long getRedisRejectedCount() {
+        return redisRejectedCount.sum();
+    }
+
+    // Redis 오류로 내부 한도만 적용한 횟수
+    public long getRedisErrorCount() {
+        return redisErrorCount.sum();
+    }
+
+    // 현재 서버 내부 버킷 수
+    public int getLocalBucketCount() {
+        return localBuckets.size();
+    }
+
+    /**
+     * 서버 내부 토큰 버킷
+     * 잠깐 계산만 하고 I/O가 없으므로 synchronized를 사용한다.
+     */
+    private static class LocalBucket {
+        private double tokens;
+        private long updatedAt;
+        // Redis가 거절하여 이 시각까지는 바로 거절
+        private long blockedUntil;
+        // 다시 가득 차는 시각 (정리 대상 판단용)
+        private long fullAt;
+
+        LocalBucket(long capacity, long now) {
+            this.tokens = capacity;
+            this.updatedAt = now;
+            this.fullAt = now;
+        }
+
+        synchronized long tryAcquire(long now, long capacity, double refillPerMillis) {
+            if (blockedUntil > now) {
+                return blockedUntil - now;
+            }
+            tokens = Math.min(capacity, tokens + Math.max(0, now - updatedAt) * refillPerMillis);
+            updatedAt = Math.max(updatedAt, now);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / refillPerMillis);
+            }
+            tokens -= 1;
+            fullAt = now + (long) Math.ceil((capacity - tokens) / refillPerMillis);
+            return 0;
+        }
+
+        synchronized void blockUntil(long until) {
+            blockedUntil = Math.max(blockedUntil, until);
+        }
+
+        synchronized boolean isIdle(long now) {
+            return fullAt <= now && blockedUntil <= now;
+        }
+    }
+}
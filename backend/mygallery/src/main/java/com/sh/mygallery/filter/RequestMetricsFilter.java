@@ -0,0 +1,72 @@
+package com.sh.mygallery.filter;
+
+import com.sh.mygallery.util.StatementCountInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 한 건에서 실행된 SQL 수를 엔드포인트별로 기록하는 필터
+ *
+ * <p>엔드포인트별 SQL 수 분포(mygallery.hibernate.statements)를 남겨 N+1 쿼리로 SQL 수가 늘어나는 것을
+ * 배포 후 바로 확인할 수 있게 한다. 기준값을 넘는 요청은 경고 로그도 남긴다.
+ * (응답 시간은 Spring Boot가 http.server.requests로 기록한다.)</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    private static final String METRIC_NAME = "mygallery.hibernate.statements";
+    // 매핑된 컨트롤러가 없는 요청(404, 정적 리소스 등)의 uri 태그
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    // 이 수를 넘는 SQL을 실행한 요청은 경고 로그
+    private final int warnThreshold;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                @Value("${metrics.statements.warn-threshold:20}") int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        StatementCountInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = StatementCountInspector.stop();
+            // 경로 변수마다 태그가 늘어나지 않도록 실제 경로가 아닌 매핑 패턴(/boards/{id})을 사용
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("요청 한 건에서 실행된 SQL 수")
+                    .tag("uri", uri)
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .record(statements);
+
+            if (statements > warnThreshold) {
+                log.warn("요청 한 건에서 SQL이 {}번 실행되었습니다. N+1 쿼리를 확인하세요. {} {}",
+                        statements, request.getMethod(), uri);
+            }
+        }
+    }
+}
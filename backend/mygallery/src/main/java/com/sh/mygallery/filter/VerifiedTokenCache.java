@@ -0,0 +1,161 @@
+package com.sh.mygallery.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근에 검증이 끝난 accessToken과 그 사용자 정보를 보관하는 캐시 Component
+ *
+ * <p>같은 SPA 세션은 만료 전까지 같은 토큰을 반복해서 보내므로, 한 번 검증한 토큰은
+ * 서명(HMAC) 검증과 사용자 조회(DB)를 건너뛰고 바로 인증 정보를 만들 수 있다.
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하여 메모리에 토큰 원문을 남기지 않는다.</p>
+ *
+ * <ul>
+ *   <li>항목은 토큰의 만료 시간(exp)과 최대 보관 시간 중 빠른 시점에 만료된다.
+ *       최대 보관 시간은 계정 잠금/권한 변경이 반영되기까지의 최대 지연이다.</li>
+ *   <li>항목 수가 상한에 도달하면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 새 항목을 저장하지 않는다.
+ *       (캐시에 저장되지 않아도 매번 검증할 뿐 인증 결과는 같다.)</li>
+ * </ul>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+    // 토큰 해시 → 캐시 항목
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 최대 항목 수
+    private final int maxSize;
+    // 항목 하나의 최대 보관 시간(ms)
+    private final long maxTtlMillis;
+
+    // 캐시 적중/미적중/제거 횟수 (여러 스레드에서 경합 없이 누적)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.cache.max-ttl-ms:60000}") long maxTtlMillis) {
+        this.maxSize = maxSize;
+        this.maxTtlMillis = maxTtlMillis;
+    }
+
+    /**
+     * 캐시에 저장된 사용자 정보를 조회하는 메서드
+     *
+     * @param token accessToken 원문
+     * @return 만료되지 않은 항목이 있으면 사용자 정보, 없으면 null
+     */
+    public UserDetails get(String token) {
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            // 만료된 항목은 조회 시점에 제거 (다른 스레드가 새로 넣은 항목은 지우지 않음)
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.principal;
+    }
+
+    /**
+     * 검증이 끝난 토큰과 사용자 정보를 저장하는 메서드
+     *
+     * @param token accessToken 원문
+     * @param principal 토큰의 사용자 정보
+     * @param tokenExpiresAt 토큰의 만료 시간(epoch ms)
+     */
+    public void put(String token, UserDetails principal, long tokenExpiresAt) {
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(tokenExpiresAt, now + maxTtlMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            purgeExpired();
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(digest(token), new Entry(principal, expiresAt));
+    }
+
+    /**
+     * 특정 사용자의 항목을 모두 제거하는 메서드
+     * 계정 잠금, 권한 변경 등으로 캐시된 사용자 정보가 더 이상 유효하지 않을 때 사용한다.
+     *
+     * @param username 사용자 식별자(email)
+     */
+    public void invalidateUser(String username) {
+        entries.values().removeIf(entry -> entry.principal.getUsername().equals(username));
+    }
+
+    // 만료된 항목을 주기적으로 정리 (조회되지 않는 토큰이 상한을 차지하지 않도록)
+    @Scheduled(fixedDelayString = "${jwt.cache.purge-interval-ms:30000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> {
+            if (e.getValue().expiresAt <= now) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    // 캐시 적중 횟수
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    // 캐시 미적중 횟수
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // 만료로 제거된 항목 수
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    // 현재 항목 수
+    public int size() {
+        return entries.size();
+    }
+
+    // 토큰 원문을 SHA-256 해시(16진수 문자열)로 변환
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시 항목 (사용자 정보와 만료 시점)
+     */
+    private record Entry(UserDetails principal, long expiresAt) {
+    }
+}
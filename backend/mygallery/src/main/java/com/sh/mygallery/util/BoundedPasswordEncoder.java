@@ -0,0 +1,133 @@
+package com.sh.mygallery.util;
+
+import com.sh.mygallery.domain.user.exception.AuthenticationBusyException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시 계산을 전용 Executor에서 실행하는 PasswordEncoder
+ *
+ * <p>실제 계산은 감싸고 있는 PasswordEncoder(BCrypt)가 하며, 요청 스레드는 결과를 기다리기만 하므로
+ * 동시에 CPU를 사용하는 해시 계산 수는 Executor의 스레드 수로 제한된다.
+ * 대기열이 가득 찼거나 정해진 시간 안에 계산이 끝나지 않으면 AuthenticationBusyException을 던진다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    // 대기와 계산을 합쳐 결과를 기다리는 최대 시간
+    private final Duration timeout;
+
+    // 계산 횟수, 계산 시간 합계(ns), 대기 시간 합계(ns), 거절 횟수
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor, Duration timeout) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 해시 계산을 Executor에 등록하고 결과를 기다리는 메서드
+     *
+     * @param task 해시 계산 작업
+     * @return 계산 결과
+     * @throws AuthenticationBusyException 대기열이 가득 찼거나 시간 안에 끝나지 않은 경우
+     */
+    private <T> T submit(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitNanos.add(startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - startedAt);
+                    hashCount.increment();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejectedCount.increment();
+            throw new AuthenticationBusyException("로그인 요청이 많아 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 남아 있다면 계산하지 않도록 취소
+            future.cancel(false);
+            rejectedCount.increment();
+            throw new AuthenticationBusyException("로그인 요청이 많아 잠시 후 다시 시도해주세요.", e);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationBusyException("비밀번호 확인이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 계산이 끝난 해시 수
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    // 해시 계산에 사용한 시간 합계(ns)
+    public long getHashNanos() {
+        return hashNanos.sum();
+    }
+
+    // 대기열에서 기다린 시간 합계(ns)
+    public long getWaitNanos() {
+        return waitNanos.sum();
+    }
+
+    // 대기열 초과 또는 시간 초과로 거절된 수
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    // 현재 대기열에 쌓여 있는 계산 수
+    public int getQueueDepth() {
+        return executor.getThreadPoolExecutor().getQueue().size();
+    }
+
+    // 현재 계산 중인 스레드 수
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+}
@@ -0,0 +1,118 @@
+package com.sh.mygallery.util;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시에 빌려갈 수 있는 커넥션 수를 제한하는 DataSource
+ *
+ * <p>가상 스레드 모드에서는 요청마다 스레드가 만들어지므로 Tomcat 스레드 수가 더 이상 DB 동시 접근 수를 제한하지 않는다.
+ * 커넥션 풀 크기만큼의 허가(permit)를 가진 세마포어로 입구를 막아, 풀이 가득 찼을 때 수천 개의 스레드가
+ * 풀 내부에서 기다리다 한꺼번에 시간 초과되는 대신 정해진 시간 안에 빠르게 실패하도록 한다.
+ * 허가는 커넥션을 닫을 때(풀에 반납할 때) 돌려받는다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+    // 허가를 기다리는 최대 시간
+    private final Duration acquireTimeout;
+
+    // 허가를 얻지 못해 실패한 횟수
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxConcurrency, Duration acquireTimeout) {
+        super(target);
+        // 먼저 기다린 스레드가 먼저 커넥션을 얻도록 공정 모드 사용
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return wrap(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return wrap(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 정해진 시간 안에 허가를 얻지 못하면 일시적인 오류로 실패
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejectedCount.increment();
+                throw new SQLTransientConnectionException(
+                        "DB 커넥션을 " + acquireTimeout.toMillis() + "ms 안에 얻지 못했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 대기가 중단되었습니다.", e);
+        }
+    }
+
+    // close() 호출 시 한 번만 허가를 돌려주도록 커넥션을 감쌈
+    private Connection wrap(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    // 현재 허가를 기다리는 스레드 수 (근사값)
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    // 현재 남은 허가 수
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    // 허가를 얻지 못해 실패한 횟수
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
@@ -0,0 +1,38 @@
+package com.sh.mygallery.util;
+
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC 배치 INSERT로 생성된 키를 꺼내는 유틸
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public final class GeneratedKeys {
+
+    private GeneratedKeys() {
+    }
+
+    /**
+     * 배치 실행으로 생성된 키를 결과 배열에 순서대로 복사하는 메서드
+     * 드라이버마다 키 컬럼 이름이 다르므로(MySQL은 GENERATED_KEY) 각 행의 첫 번째 값을 사용한다.
+     *
+     * @param keyHolder 배치 실행에 사용한 KeyHolder
+     * @param ids 키를 복사할 배열
+     * @param offset 배열에서 복사를 시작할 위치
+     * @param expected 배치로 INSERT한 행 수
+     * @throws IllegalStateException 생성된 키 수가 INSERT한 행 수와 다른 경우
+     */
+    public static void copy(GeneratedKeyHolder keyHolder, long[] ids, int offset, int expected) {
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != expected) {
+            throw new IllegalStateException("생성된 키 수가 INSERT한 행 수와 다릅니다. expected=" + expected + ", actual=" + keys.size());
+        }
+        for (int i = 0; i < expected; i++) {
+            ids[offset + i] = ((Number) keys.get(i).values().iterator().next()).longValue();
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.sh.mygallery.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 import java.util.UUID;
 
@@ -16,14 +23,25 @@ import java.util.UUID;
  * 토큰생성, 토큰검증 등의 기능을 제공
  * 제공하는 기능은 추 후 추가
  *
+ * <p>토큰 검증은 모든 요청에서 실행되므로 파서는 생성 시 한 번만 만들어 재사용한다(JwtParser는 불변이며 스레드 안전).
+ * 검증과 claim 추출은 verify() 한 번으로 처리하여 서명(HMAC) 계산이 요청당 한 번만 일어나도록 한다.</p>
+ *
  * @author 이세형
  * @since 2025-12-04
  */
 @Component
 public class JwtUtil {
 
+    // refreshToken 유효 기간 (7일)
+    public static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(7);
+
+    // JWT는 "헤더.본문.서명" 형식이므로 점(.)이 정확히 두 개여야 함
+    private static final int JWS_SEPARATOR_COUNT = 2;
+
     // 알고리즘에 사용할 SecretKey (application.properties에서 주입)
     private final SecretKey secretKey;
+    // 서명 검증에 재사용하는 파서 (불변 객체로 여러 스레드에서 공유 가능)
+    private final JwtParser jwtParser;
 
     /**
      * 생성자에서 application.properties의 비밀키 문자열을 받아서
@@ -34,6 +52,7 @@ public class JwtUtil {
     public JwtUtil(@Value("${jwt.signature.secretkey}") String secretKey) {
         // Keys.hmacShaKeyFor(): 문자열을 바이트 배열로 변환하여 HMAC-SHA 알고리즘용 SecretKey 객체 생성
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(this.secretKey).build();
     }
 
     // accessToken을 생성하는 메서드
@@ -49,26 +68,57 @@ public class JwtUtil {
 
     // accessToken 검증로직을 담고있는 메서드
     public Boolean validateAccessToken(String token){
+        return verify(token).isValid();
+    }
+
+    /**
+     * 토큰의 서명과 만료 시간을 검증하고 claim을 함께 추출하는 메서드
+     *
+     * <p>검증 결과를 예외 대신 결과 객체로 반환하므로 호출하는 쪽은 분기만 하면 된다.
+     * 형식이 명백히 잘못된 토큰(null, 빈 문자열, 점 개수가 다른 문자열)은 파싱하지 않고 바로 거절하여
+     * 잘못된 토큰이 많이 들어와도 예외 생성 비용이 들지 않는다.</p>
+     *
+     * @param token 검증할 JWT 문자열
+     * @return 검증 결과 (유효하면 subject, jti, 만료 시간 포함)
+     * @since 2026-10-18
+     */
+    public JwtVerification verify(String token) {
+        if (!hasJwsShape(token)) {
+            return JwtVerification.INVALID;
+        }
         try {
             // 서명 검증, 만료 시간 검증 등이
             // JJWT 라이브러리 내부 로직으로 수행됨
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-
-            // 유효한 Token인 경우 true 반환
-            return true;
-        } catch (Exception e) {
-            // 하나라도 예외 발생 시 false
-            return false;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return JwtVerification.valid(claims);
+        } catch (ExpiredJwtException e) {
+            return JwtVerification.EXPIRED;
+        } catch (JwtException | IllegalArgumentException e) {
+            // 서명 불일치, 형식 오류 등
+            return JwtVerification.INVALID;
         }
     }
 
     // refreshToken을 생성하는 메서드
     public String createRefreshToken(String subject){
+        return createRefreshToken(subject, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 지정한 고유 ID(jti)로 refreshToken을 생성하는 메서드
+     * 저장소에 jti로 상태를 기록하므로 생성 후 토큰을 다시 파싱하지 않도록 jti를 호출하는 쪽에서 정한다.
+     *
+     * @param subject 사용자 식별자 (email)
+     * @param tokenId 토큰 고유 ID (jti)
+     * @return refreshToken 문자열
+     * @since 2026-10-18
+     */
+    public String createRefreshToken(String subject, String tokenId){
         String refreshToken = Jwts.builder() // 토큰을 만들기 위한 빌더 객체 생성
                 .setSubject(subject) // 사용자 식별용 (또는 UUID 사용 가능)
-                .setId(UUID.randomUUID().toString()) // 토큰 고유 ID (jti) - DB에 값을 저장하여 탈취를 방지할 수 있음
+                .setId(tokenId) // 토큰 고유 ID (jti) - DB에 값을 저장하여 탈취를 방지할 수 있음
                 .setIssuedAt(new Date()) // 토큰 발행 시간을 현재 시간으로 설정
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24 * 7)) // 토큰 만료시간을 7일로 설정
+                .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_TTL.toMillis())) // 토큰 만료시간을 7일로 설정
                 .signWith(secretKey) // secretKey로 토큰에 서명 (토큰의 위변조 방지)
                 .compact(); // 최종: JWT 문자열로 압축하여 생성
         return refreshToken;
@@ -76,11 +126,56 @@ public class JwtUtil {
 
     // refreshToken으로부터 email을 추출하는 메서드
     public String getEmailFromToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
-            return claims.getSubject();
-        } catch (Exception e) {
-            return null;
+        JwtVerification verification = verify(token);
+        return verification.isValid() ? verification.getSubject() : null;
+    }
+
+    // 문자열이 "헤더.본문.서명" 형식인지 파싱 없이 확인
+    private boolean hasJwsShape(String token) {
+        if (token == null || token.isEmpty()) {
+            return false;
+        }
+        int separators = 0;
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) == '.' && ++separators > JWS_SEPARATOR_COUNT) {
+                return false;
+            }
+        }
+        return separators == JWS_SEPARATOR_COUNT;
+    }
+
+    /**
+     * 토큰 검증 결과
+     * 실패한 경우에는 공유 상수를 반환하므로 실패 시 객체를 새로 만들지 않는다.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class JwtVerification {
+        // 형식 오류나 서명 불일치 등으로 유효하지 않은 토큰
+        public static final JwtVerification INVALID = new JwtVerification(Status.INVALID, null, null, null);
+        // 서명은 올바르지만 만료된 토큰
+        public static final JwtVerification EXPIRED = new JwtVerification(Status.EXPIRED, null, null, null);
+
+        // 검증 결과 상태
+        private final Status status;
+        // 토큰의 주체 (사용자 이메일)
+        private final String subject;
+        // 토큰 고유 ID (refreshToken에만 존재)
+        private final String tokenId;
+        // 만료 시간
+        private final Date expiration;
+
+        private static JwtVerification valid(Claims claims) {
+            return new JwtVerification(Status.VALID, claims.getSubject(), claims.getId(), claims.getExpiration());
+        }
+
+        // 서명과 만료 시간 검증을 모두 통과했는지 여부
+        public boolean isValid() {
+            return status == Status.VALID;
+        }
+
+        public enum Status {
+            VALID, EXPIRED, INVALID
         }
     }
 
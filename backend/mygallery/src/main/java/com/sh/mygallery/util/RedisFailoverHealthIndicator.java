@@ -0,0 +1,100 @@
+package com.sh.mygallery.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.data.redis.connection.RedisServer;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis Sentinel이 알고 있는 master와 복제본 상태를 /actuator/health에 보고하는 HealthIndicator
+ *
+ * <p>Sentinel에 현재 master 주소, master/복제본의 장애 표시(s_down, o_down), failover 진행 여부를 묻는다.
+ * 이전 확인 때와 master 주소가 다르면 failover가 일어난 것으로 보고 횟수와 시각을 기록한다.
+ * master에 장애 표시가 있으면 DOWN, 정상 복제본이 없으면(복제본 읽기가 모두 master로 감) 상세 정보로 알린다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Slf4j
+public class RedisFailoverHealthIndicator extends AbstractHealthIndicator {
+    private final RedisConnectionFactory connectionFactory;
+    // Sentinel에 등록된 master 이름
+    private final String masterName;
+
+    // 마지막으로 확인한 master 주소 (host:port)
+    private volatile String lastMasterAddress;
+    // 실행 중 감지한 failover 횟수와 마지막 감지 시각
+    private final AtomicLong failoverCount = new AtomicLong();
+    private volatile Instant lastFailoverAt;
+
+    public RedisFailoverHealthIndicator(RedisConnectionFactory connectionFactory, String masterName) {
+        super("Redis Sentinel 상태를 확인하지 못했습니다.");
+        this.connectionFactory = connectionFactory;
+        this.masterName = masterName;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) throws Exception {
+        try (RedisSentinelConnection sentinel = connectionFactory.getSentinelConnection()) {
+            RedisServer master = null;
+            for (RedisServer server : sentinel.masters()) {
+                if (masterName.equals(server.getName())) {
+                    master = server;
+                    break;
+                }
+            }
+            if (master == null) {
+                builder.down().withDetail("master", masterName).withDetail("error", "Sentinel에 등록되지 않은 master입니다.");
+                return;
+            }
+
+            String address = master.getHost() + ":" + master.getPort();
+            String previous = lastMasterAddress;
+            if (previous != null && !previous.equals(address)) {
+                failoverCount.incrementAndGet();
+                lastFailoverAt = Instant.now();
+                log.warn("Redis master가 변경되었습니다. {} -> {}", previous, address);
+            }
+            lastMasterAddress = address;
+
+            String masterFlags = flags(master);
+            Collection<RedisServer> replicas = sentinel.replicas(master);
+            long healthyReplicas = replicas.stream()
+                    .filter(replica -> !isDown(flags(replica)))
+                    .count();
+
+            builder.withDetail("master", masterName)
+                    .withDetail("address", address)
+                    .withDetail("flags", masterFlags)
+                    .withDetail("failoverInProgress", masterFlags.contains("failover_in_progress"))
+                    .withDetail("replicas", replicas.size())
+                    .withDetail("healthyReplicas", healthyReplicas)
+                    .withDetail("failovers", failoverCount.get());
+            if (lastFailoverAt != null) {
+                builder.withDetail("lastFailoverAt", lastFailoverAt.toString());
+            }
+
+            if (isDown(masterFlags)) {
+                builder.down();
+            } else {
+                builder.up();
+            }
+        }
+    }
+
+    private String flags(RedisServer server) {
+        String flags = server.get("flags");
+        return flags != null ? flags : "";
+    }
+
+    // Sentinel이 장애로 판단한 노드 (주관적/객관적 장애, 연결 끊김)
+    private boolean isDown(String flags) {
+        return flags.contains("s_down") || flags.contains("o_down") || flags.contains("disconnected");
+    }
+}
@@ -0,0 +1,111 @@
+package com.sh.mygallery.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 복제본(replica)의 복제 지연을 주기적으로 확인하는 모니터
+ *
+ * <p>SHOW REPLICA STATUS(MySQL 8.0.22 미만은 SHOW SLAVE STATUS)의 지연 시간(초)이
+ * 허용값 이하일 때만 복제본을 사용 가능으로 표시한다. 복제가 멈췄거나(지연 NULL) 접속할 수 없으면
+ * 사용 불가로 표시하며, ReplicaRoutingDataSource는 그동안 읽기 트랜잭션도 primary로 보낸다.
+ * 복제 상태가 없는 서버(복제본 URL이 primary를 가리키는 개발 환경 등)는 지연 0으로 본다.
+ * 첫 확인 전까지는 사용 불가 상태로 시작한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String REPLICA_STATUS_SQL = "SHOW REPLICA STATUS";
+    private static final String REPLICA_LAG_COLUMN = "Seconds_Behind_Source";
+    private static final String LEGACY_STATUS_SQL = "SHOW SLAVE STATUS";
+    private static final String LEGACY_LAG_COLUMN = "Seconds_Behind_Master";
+    // 확인하지 못한 경우의 지연 값
+    private static final long UNKNOWN_LAG = -1;
+
+    private final JdbcTemplate jdbcTemplate;
+    // 복제본을 사용할 수 있는 최대 지연 시간(초)
+    private final long maxLagSeconds;
+
+    // SHOW REPLICA STATUS를 지원하지 않는 서버인지 여부
+    private volatile boolean legacyStatus;
+    private volatile boolean available;
+    private volatile long lagSeconds = UNKNOWN_LAG;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    /**
+     * 복제 지연을 확인하여 복제본 사용 가능 여부를 갱신하는 메서드
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        long lag;
+        boolean failed = false;
+        try {
+            lag = queryLag();
+        } catch (DataAccessException e) {
+            lag = UNKNOWN_LAG;
+            failed = true;
+            if (available) {
+                log.warn("복제본 상태를 확인하지 못했습니다. 읽기 요청을 primary로 보냅니다.", e);
+            }
+        }
+
+        boolean nowAvailable = lag != UNKNOWN_LAG && lag <= maxLagSeconds;
+        if (available && !nowAvailable && !failed) {
+            if (lag == UNKNOWN_LAG) {
+                log.warn("복제본의 복제가 멈춰 있어 읽기 요청을 primary로 보냅니다.");
+            } else {
+                log.warn("복제 지연이 {}초로 허용값({}초)을 넘어 읽기 요청을 primary로 보냅니다.", lag, maxLagSeconds);
+            }
+        } else if (!available && nowAvailable) {
+            log.info("복제본을 읽기 요청에 사용합니다. lag={}s", lag);
+        }
+        lagSeconds = lag;
+        available = nowAvailable;
+    }
+
+    // 복제 지연(초) 조회 (복제가 멈춘 경우 UNKNOWN_LAG)
+    private long queryLag() {
+        if (!legacyStatus) {
+            try {
+                return queryLag(REPLICA_STATUS_SQL, REPLICA_LAG_COLUMN);
+            } catch (BadSqlGrammarException e) {
+                // MySQL 8.0.22 미만은 REPLICA 구문을 지원하지 않음 (구문 오류일 때만 전환하고,
+                // 접속 실패·시간 초과 같은 일시적 오류는 그대로 던져 이번 확인만 사용 불가로 처리)
+                legacyStatus = true;
+            }
+        }
+        return queryLag(LEGACY_STATUS_SQL, LEGACY_LAG_COLUMN);
+    }
+
+    private long queryLag(String sql, String column) {
+        Long lag = jdbcTemplate.query(sql, rs -> {
+            if (!rs.next()) {
+                return 0L;
+            }
+            long value = rs.getLong(column);
+            return rs.wasNull() ? UNKNOWN_LAG : value;
+        });
+        return lag != null ? lag : UNKNOWN_LAG;
+    }
+
+    // 복제본을 읽기 요청에 사용할 수 있는지 여부
+    public boolean isAvailable() {
+        return available;
+    }
+
+    // 마지막으로 확인한 복제 지연(초), 확인하지 못했으면 -1
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+}
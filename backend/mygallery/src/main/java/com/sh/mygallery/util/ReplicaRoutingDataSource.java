@@ -0,0 +1,148 @@
+package com.sh.mygallery.util;
+
+import com.sh.mygallery.domain.user.domain.User;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica)으로, 나머지를 primary로 보내는 DataSource
+ *
+ * <p>커넥션을 얻는 시점의 트랜잭션이 readOnly인지로 대상을 고른다.
+ * 트랜잭션 시작 시 바로 커넥션을 얻으면 readOnly 여부가 정해지기 전이므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 커넥션을 얻도록 해야 한다.</p>
+ *
+ * <p>읽기 트랜잭션이라도 다음 경우에는 primary로 보낸다.</p>
+ * <ul>
+ *   <li>복제 지연이 허용값을 넘었거나 복제본에 접속할 수 없는 경우 (ReplicaLagMonitor)</li>
+ *   <li>로그인한 사용자가 stickyWindow 안에 쓰기 트랜잭션을 커밋한 경우 -
+ *       글 작성 직후 목록을 다시 읽을 때 아직 복제되지 않은 자신의 글이 보이지 않는 상황(read your own writes)을 방지</li>
+ * </ul>
+ * 쓰기 기록은 서버 내부에만 보관하므로 같은 사용자의 다음 요청이 다른 서버로 가면 적용되지 않는다.
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    // 쓰기 기록이 이 수를 넘으면 만료된 기록을 정리
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    // 쓰기 후 primary에서 읽는 시간(ms)
+    private final long stickyWindowMillis;
+
+    // 사용자 ID → primary에서 읽어야 하는 마지막 시각(epoch ms)
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    // 대상별 커넥션 요청 수
+    private final LongAdder primaryCount = new LongAdder();
+    private final LongAdder replicaCount = new LongAdder();
+    // 읽기 요청이지만 복제 지연으로 primary로 보낸 수
+    private final LongAdder lagFallbackCount = new LongAdder();
+    // 읽기 요청이지만 최근 쓰기로 primary로 보낸 수
+    private final LongAdder stickyCount = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor lagMonitor, Duration stickyWindow) {
+        this.lagMonitor = lagMonitor;
+        this.stickyWindowMillis = stickyWindow.toMillis();
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriteAfterCommit();
+            primaryCount.increment();
+            return Target.PRIMARY;
+        }
+
+        Long userId = currentUserId();
+        if (userId != null && isSticky(userId)) {
+            stickyCount.increment();
+            primaryCount.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isAvailable()) {
+            lagFallbackCount.increment();
+            primaryCount.increment();
+            return Target.PRIMARY;
+        }
+        replicaCount.increment();
+        return Target.REPLICA;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 현재 사용자를 stickyWindow 동안 primary에서 읽도록 기록
+    private void rememberWriteAfterCommit() {
+        if (stickyWindowMillis <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Long userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long now = System.currentTimeMillis();
+                stickyUntil.put(userId, now + stickyWindowMillis);
+                if (stickyUntil.size() > SWEEP_THRESHOLD) {
+                    stickyUntil.values().removeIf(until -> until < now);
+                }
+            }
+        });
+    }
+
+    private boolean isSticky(Long userId) {
+        Long until = stickyUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            stickyUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    // 현재 요청의 로그인 사용자 ID (로그인하지 않았거나 요청 밖의 작업이면 null)
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getUserId();
+        }
+        return null;
+    }
+
+    // primary로 보낸 커넥션 요청 수
+    public long getPrimaryCount() {
+        return primaryCount.sum();
+    }
+
+    // 복제본으로 보낸 커넥션 요청 수
+    public long getReplicaCount() {
+        return replicaCount.sum();
+    }
+
+    // 복제 지연으로 primary로 보낸 읽기 요청 수
+    public long getLagFallbackCount() {
+        return lagFallbackCount.sum();
+    }
+
+    // 최근 쓰기로 primary로 보낸 읽기 요청 수
+    public long getStickyCount() {
+        return stickyCount.sum();
+    }
+}
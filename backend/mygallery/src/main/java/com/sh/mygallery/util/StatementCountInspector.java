@@ -0,0 +1,43 @@
+package com.sh.mygallery.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 수를 요청(스레드) 단위로 세는 StatementInspector
+ *
+ * <p>Hibernate는 SQL을 준비할 때마다 inspect를 호출하므로 SQL은 그대로 돌려주고 횟수만 센다.
+ * RequestMetricsFilter가 요청 시작 시 start, 끝날 때 stop을 호출하여 요청 한 건의 SQL 수를 얻는다.
+ * 요청 밖(스케줄러, 비동기 작업)에서 실행된 SQL은 세지 않는다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+public class StatementCountInspector implements StatementInspector {
+    // 현재 스레드에서 실행된 SQL 수 (start를 호출하지 않은 스레드는 null)
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    // 현재 스레드의 SQL 수 집계 시작
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 현재 스레드의 SQL 수 집계를 끝내고 결과를 돌려주는 메서드
+     *
+     * @return start 이후 실행된 SQL 수 (start를 호출하지 않았으면 0)
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : 0;
+    }
+}
@@ -0,0 +1,115 @@
+package com.sh.mygallery.util;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)되는 상황을 감지하는 모니터
+ *
+ * <p>synchronized 블록 안에서 I/O를 기다리면 가상 스레드가 캐리어(플랫폼) 스레드를 놓지 못해
+ * 캐리어 수(CPU 코어 수)만큼만 동시에 처리되는 상태가 된다. JDBC 드라이버 내부의 synchronized가 대표적이다.
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 애플리케이션 안에서 스트리밍으로 구독하여,
+ * 고정이 발생한 위치(스택의 가장 안쪽 애플리케이션/라이브러리 프레임)별로 횟수를 세고 처음 발생 시 경고 로그를 남긴다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    // 로그에 남길 스택 프레임 수
+    private static final int LOGGED_FRAMES = 8;
+
+    // 이 시간 이상 고정된 경우만 기록
+    private final Duration threshold;
+
+    // 고정 발생 위치별 횟수
+    private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+    private final LongAdder pinnedCount = new LongAdder();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("가상 스레드 고정(pinning) 감지를 시작합니다. threshold={}ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    // 고정 이벤트 처리: 위치별 횟수를 세고 새로운 위치는 경고 로그로 남김
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = pinnedSite(frames);
+
+        LongAdder count = pinnedBySite.computeIfAbsent(site, key -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            StringBuilder trace = new StringBuilder();
+            for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+                RecordedFrame frame = frames.get(i);
+                trace.append("\n\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+            log.warn("가상 스레드가 캐리어 스레드에 고정되었습니다. duration={}ms, site={}{}",
+                    event.getDuration().toMillis(), site, trace);
+        }
+    }
+
+    // JDK 내부 프레임을 건너뛰고 처음 나오는 프레임을 고정 위치로 사용
+    private String pinnedSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return frames.isEmpty() ? "unknown" : frames.get(0).getMethod().getType().getName();
+    }
+
+    // 지금까지 감지된 고정 횟수
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    // 고정 위치별 횟수
+    public Map<String, Long> getPinnedCountBySite() {
+        Map<String, Long> result = new TreeMap<>();
+        pinnedBySite.forEach((site, count) -> result.put(site, count.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package com.sh.mygallery.domain.search.service;
+
+import com.sh.mygallery.domain.search.dto.SearchDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SearchTokenizer가 색인과 검색어를 나누는 방식을 검증하는 테스트
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("검색어의 한글 구간은 bigram으로, 영문/숫자는 단어 단위로 나뉜다")
+    void tokenizeQueryIntoBigramsAndWords() {
+        assertEquals(List.of("제주", "주도", "여행", "행사", "사진", "2024"),
+                SearchTokenizer.tokenize("제주도 여행사진 2024"));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 그 글자 하나가 토큰이 된다")
+    void tokenizeSingleSyllableQuery() {
+        assertEquals(List.of("꽃"), SearchTokenizer.tokenize("꽃"));
+    }
+
+    @Test
+    @DisplayName("색인할 때는 두 글자 이상인 한글 구간의 각 글자도 토큰으로 만든다")
+    void tokenizeForIndexAddsUnigrams() {
+        List<String> tokens = SearchTokenizer.tokenizeForIndex("꽃다발 Photo");
+
+        assertEquals(List.of("꽃", "꽃다", "다", "다발", "발", "photo"), tokens);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어로 그 글자가 포함된 여러 글자 단어의 게시글을 찾는다")
+    void singleSyllableQueryMatchesLongerWord() {
+        BoardSearchIndex index = new BoardSearchIndex();
+        index.upsert(new SearchDTO.IndexDocument(1L, "꽃다발", "생일 선물", LocalDateTime.now()));
+        index.upsert(new SearchDTO.IndexDocument(2L, "바다 풍경", "여름 휴가", LocalDateTime.now()));
+
+        SearchDTO.SearchHits hits = index.search("꽃", 0, 10);
+
+        assertEquals(1, hits.getTotalHits());
+        assertEquals(List.of(1L), hits.getBoardIds());
+    }
+
+    @Test
+    @DisplayName("두 글자 이상의 검색어는 글자 하나만 겹치는 게시글과 일치하지 않는다")
+    void multiSyllableQueryDoesNotMatchSingleCharacter() {
+        BoardSearchIndex index = new BoardSearchIndex();
+        index.upsert(new SearchDTO.IndexDocument(1L, "꽃다발", "", LocalDateTime.now()));
+        index.upsert(new SearchDTO.IndexDocument(2L, "꽃병", "", LocalDateTime.now()));
+
+        SearchDTO.SearchHits hits = index.search("꽃다발", 0, 10);
+
+        assertTrue(hits.getBoardIds().contains(1L));
+        assertEquals(1, hits.getTotalHits());
+    }
+}
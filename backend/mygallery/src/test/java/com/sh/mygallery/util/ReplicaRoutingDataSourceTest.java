@@ -0,0 +1,143 @@
+package com.sh.mygallery.util;
+
+import com.sh.mygallery.config.ReplicaDataSourceConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReplicaRoutingDataSource가 OSIV 요청 안에서 트랜잭션마다 알맞은 커넥션 풀을 고르는지 검증하는 테스트
+ *
+ * <p>실제 DB 대신 primary와 복제본 커넥션을 mock으로 두고, 애플리케이션과 같은 구성
+ * (LazyConnectionDataSourceProxy → ReplicaRoutingDataSource, Hibernate, JpaTransactionManager,
+ * ReplicaDataSourceConfig의 Hibernate 설정)으로 어느 커넥션에서 SQL이 실행되었는지 확인한다.</p>
+ *
+ * @author 이세형
+ * @since 2026-10-18
+ */
+class ReplicaRoutingDataSourceTest {
+    private static final String READ_SQL = "SELECT board_id FROM boards WHERE board_id = 1";
+    private static final String WRITE_SQL = "UPDATE boards SET view_count = view_count + 1 WHERE board_id = 1";
+
+    private final Statement primaryStatement = mock(Statement.class);
+    private final Statement replicaStatement = mock(Statement.class);
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+    private OpenEntityManagerInViewInterceptor openEntityManagerInView;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                mockDataSource(primaryStatement), mockDataSource(replicaStatement), lagMonitor, Duration.ZERO));
+
+        // 애플리케이션과 같이 ReplicaDataSourceConfig의 Hibernate 설정 적용 (DB 메타데이터는 조회하지 않음)
+        Map<String, Object> properties = new HashMap<>();
+        new ReplicaDataSourceConfig().connectionHandlingCustomizer().customize(properties);
+        properties.put(AvailableSettings.DIALECT, "org.hibernate.dialect.MySQLDialect");
+        properties.put(AvailableSettings.ALLOW_METADATA_ON_BOOT, false);
+
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setPackagesToScan(ReplicaRoutingDataSourceTest.class.getPackageName());
+        entityManagerFactory.setJpaPropertyMap(properties);
+        entityManagerFactory.afterPropertiesSet();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory.getObject());
+        transactionManager.afterPropertiesSet();
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        openEntityManagerInView = new OpenEntityManagerInViewInterceptor();
+        openEntityManagerInView.setEntityManagerFactory(entityManagerFactory.getObject());
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("한 요청에서 읽기 전용 트랜잭션 뒤의 쓰기 트랜잭션은 primary에서 실행된다")
+    void writeAfterReadInSameRequestUsesPrimary() throws SQLException {
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+        openEntityManagerInView.preHandle(request);
+        try {
+            readTransaction.executeWithoutResult(status -> jdbcTemplate.execute(READ_SQL));
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.execute(WRITE_SQL));
+        } finally {
+            openEntityManagerInView.afterCompletion(request, null);
+        }
+
+        verify(replicaStatement).execute(READ_SQL);
+        verify(primaryStatement).execute(WRITE_SQL);
+        verify(replicaStatement, never()).execute(WRITE_SQL);
+    }
+
+    @Test
+    @DisplayName("한 요청에서 쓰기 트랜잭션 뒤의 읽기 전용 트랜잭션은 복제본에서 실행된다")
+    void readAfterWriteInSameRequestUsesReplica() throws SQLException {
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+        openEntityManagerInView.preHandle(request);
+        try {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.execute(WRITE_SQL));
+            readTransaction.executeWithoutResult(status -> jdbcTemplate.execute(READ_SQL));
+        } finally {
+            openEntityManagerInView.afterCompletion(request, null);
+        }
+
+        verify(primaryStatement).execute(WRITE_SQL);
+        verify(replicaStatement).execute(READ_SQL);
+        verify(primaryStatement, never()).execute(READ_SQL);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 없는 조회는 primary에서 실행된다")
+    void readWithoutTransactionUsesPrimary() throws SQLException {
+        jdbcTemplate.execute(READ_SQL);
+
+        verify(primaryStatement).execute(READ_SQL);
+        verify(replicaStatement, never()).execute(anyString());
+    }
+
+    // 항상 같은 Statement를 만드는 커넥션을 돌려주는 DataSource
+    private static DataSource mockDataSource(Statement statement) throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -25,9 +25,12 @@ CREATE TABLE boards (
   content TEXT NOT NULL,
   writer_id BIGINT NOT NULL,
   view_count INT DEFAULT 0,
+  comment_count INT NOT NULL DEFAULT 0, -- 댓글 수 (댓글 작성/삭제 시 함께 갱신하는 비정규화 값)
   created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
   updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-  FOREIGN KEY (writer_id) REFERENCES users(user_id)
+  FOREIGN KEY (writer_id) REFERENCES users(user_id),
+  INDEX idx_boards_created_at_board_id (created_at, board_id), -- 목록 keyset 페이지네이션용
+  INDEX idx_boards_updated_at (updated_at) -- 검색 색인 스냅샷 이후 변경분 조회용
 );
 
 CREATE TABLE board_images (
@@ -37,8 +40,39 @@ CREATE TABLE board_images (
   saved_name VARCHAR(255),
   image_url VARCHAR(500),
   file_size BIGINT,
+  content_hash CHAR(64),     -- 업로드 시 계산한 SHA-256
+  crc32 BIGINT NULL,         -- 업로드 시 계산한 CRC-32 (압축 다운로드용, NULL이면 다운로드 시 계산)
+  content_type VARCHAR(100),
+  derivatives_ready BOOLEAN NOT NULL DEFAULT FALSE, -- 썸네일 등 파생 이미지 생성 완료 여부
   created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-  FOREIGN KEY (board_id) REFERENCES boards(board_id) ON DELETE CASCADE
+  FOREIGN KEY (board_id) REFERENCES boards(board_id) ON DELETE CASCADE,
+  INDEX idx_board_images_derivatives_ready (derivatives_ready, image_id)
+);
+
+-- 내용 해시 기준으로 저장된 실제 이미지 파일 (같은 내용은 한 번만 저장, ref_count로 참조 수 관리)
+CREATE TABLE image_blobs (
+  content_hash CHAR(64) PRIMARY KEY, -- SHA-256, 파일 경로는 uploads/앞2자리/다음2자리/해시
+  file_path VARCHAR(500) NOT NULL,
+  file_size BIGINT NOT NULL,
+  content_type VARCHAR(100),
+  ref_count INT NOT NULL,            -- 0이 되면 정리 작업에서 파일과 함께 삭제
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  INDEX idx_image_blobs_ref_count (ref_count)
+);
+
+-- 원본 이미지로부터 생성된 리사이즈본(썸네일/중간/대형)
+CREATE TABLE board_image_variants (
+  variant_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  image_id BIGINT NOT NULL,
+  variant VARCHAR(20) NOT NULL,     -- THUMBNAIL, MEDIUM, LARGE
+  width INT NOT NULL,
+  height INT NOT NULL,
+  file_path VARCHAR(500) NOT NULL,
+  file_size BIGINT NOT NULL,
+  content_hash CHAR(64) NOT NULL,
+  content_type VARCHAR(100) NOT NULL,
+  UNIQUE KEY uk_board_image_variants_image_variant (image_id, variant),
+  FOREIGN KEY (image_id) REFERENCES board_images(image_id) ON DELETE CASCADE
 );
 
 CREATE TABLE comments (
@@ -48,5 +82,13 @@ CREATE TABLE comments (
   content TEXT NOT NULL,
   created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
   FOREIGN KEY (board_id) REFERENCES boards(board_id) ON DELETE CASCADE,
-  FOREIGN KEY (writer_id) REFERENCES users(user_id)
+  FOREIGN KEY (writer_id) REFERENCES users(user_id),
+  INDEX idx_comments_board_id_created_at (board_id, created_at, comment_id) -- 댓글 keyset 페이지네이션, 최신 댓글 조회용
+);
+
+-- 조회수 write-behind 반영 시 이미 처리된 배치를 기록하여 재처리 시 중복 반영을 방지
+CREATE TABLE board_view_flushes (
+  batch_id VARCHAR(36) PRIMARY KEY,
+  flushed_at TIMESTAMP NOT NULL,
+  INDEX idx_board_view_flushes_flushed_at (flushed_at)
 );
@@ -12,7 +12,8 @@ const BoardPage = () => {
     axios.get('/api/boards')
       .then(response => {
         // 성공 시 응답 데이터를 상태에 저장
-        setBoards(response.data);
+        // 응답은 { items, nextCursor, hasNext } 형태의 커서 페이지
+        setBoards(response.data.items);
       })
       .catch(error => {
         // 실패 시 에러 로그 출력
@@ -38,10 +39,10 @@ return (
           {/* 추후에 컨트롤러 매핑 후 주석 해제 */}
           {/* boards 배열을 순회하며 각 게시글을 테이블 행으로 렌더링 */}
           {/* {boards.map(board => (
-            <tr key={board.id}>
-              <td>{board.id}</td>
+            <tr key={board.boardId}>
+              <td>{board.boardId}</td>
               <td>{board.title}</td>
-              <td>{board.writer}</td>
+              <td>{board.authorName}</td>
               <td>{board.viewCount}</td>
             </tr>
           ))} */}